@@ -0,0 +1,47 @@
+package com.project.artists.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache local (Caffeine)
+ * 
+ * Nomes, tamanho, TTL e estatísticas vêm de spring.cache.* (cache-names e
+ * caffeine.spec). O gerenciador é envolvido em TransactionAwareCacheManagerProxy:
+ * put/evict feitos dentro de uma transação só são aplicados após o commit.
+ * 
+ * Isso não impede que uma leitura que carregou o registro antes de uma
+ * escrita grave o DTO antigo depois do evict da escrita. Por isso os
+ * caches de detalhe guardam VersionedDetail (DTO + ETag da versão lida
+ * antes dele) e só atendem uma requisição com o mesmo ETag; a entrada
+ * antiga é substituída na próxima carga.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    
+    public static final String ALBUM_DETAILS = "album-details";
+    public static final String ARTIST_DETAILS = "artist-details";
+    
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (spec != null) {
+            caffeineCacheManager.setCacheSpecification(spec);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
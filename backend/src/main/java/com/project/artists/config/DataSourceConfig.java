@@ -0,0 +1,135 @@
+package com.project.artists.config;
+
+import com.project.artists.datasource.ReadYourWritesInterceptor;
+import com.project.artists.datasource.ReadYourWritesTracker;
+import com.project.artists.datasource.ReplicaRoutingDataSource;
+import com.project.artists.datasource.StatementCountingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pools de conexão: primário + réplicas de leitura opcionais
+ * 
+ * O DataSource da aplicação é um LazyConnectionDataSourceProxy: a conexão
+ * física só é obtida no primeiro comando, quando a transação já está
+ * marcada. Transações @Transactional(readOnly = true) vão para as réplicas
+ * (app.datasource.replica-urls); as demais, para o primário. Sem réplicas
+ * configuradas tudo vai para o primário, como antes.
+ * 
+ * Cada pool é envolvido por um StatementCountingDataSource, que alimenta
+ * o orçamento de comandos SQL por requisição (SqlStatementBudgetFilter).
+ * 
+ * Os pools das réplicas não são beans: são fechados aqui no desligamento,
+ * depois dos beans que usam o DataSource (criados a partir desta config).
+ */
+@Configuration
+public class DataSourceConfig implements WebMvcConfigurer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+    
+    @Value("${app.datasource.replica-urls:}")
+    private List<String> replicaUrls;
+    
+    @Value("${app.datasource.read-your-writes-window:5s}")
+    private Duration readYourWritesWindow;
+    
+    @Value("${app.datasource.replica-retry-after:30s}")
+    private Duration replicaRetryAfter;
+    
+    private final List<HikariDataSource> replicaPools = new ArrayList<>();
+    
+    /**
+     * Pool do primário, configurado por spring.datasource.* e spring.datasource.hikari.*
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        DataSource primary = new StatementCountingDataSource(primaryDataSource);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        
+        List<String> urls = replicaUrls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        if (urls.isEmpty()) {
+            return dataSource;
+        }
+        
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, new StatementCountingDataSource(
+                    replicaPool(primaryDataSource, name, urls.get(i), meterRegistry)));
+        }
+        logger.info("Leituras read-only roteadas para {} réplica(s): {}", replicas.size(), replicas.keySet());
+        
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+                primary, replicas, readYourWritesTracker, replicaRetryAfter, meterRegistry));
+        return dataSource;
+    }
+    
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(readYourWritesWindow);
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesTracker()));
+    }
+    
+    @PreDestroy
+    public void closeReplicaPools() {
+        replicaPools.forEach(HikariDataSource::close);
+        replicaPools.clear();
+    }
+    
+    /**
+     * Réplica com as mesmas credenciais e ajustes do primário; o pool só
+     * abre conexões quando a primeira leitura chega (falha não impede o boot)
+     */
+    private HikariDataSource replicaPool(HikariDataSource primary, String name, String url,
+                                         MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setJdbcUrl(url);
+        config.setPoolName(name);
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+        config.setMetricRegistry(null);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        HikariDataSource pool = new HikariDataSource(config);
+        replicaPools.add(pool);
+        return pool;
+    }
+}
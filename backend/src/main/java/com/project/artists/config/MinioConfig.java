@@ -2,8 +2,10 @@ package com.project.artists.config;
 
 import io.minio.MinioClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class MinioConfig {
@@ -20,7 +22,12 @@ public class MinioConfig {
     @Value("${app.minio.secret-key}")
     private String secretKey;
     
+    @Value("${app.minio.region:us-east-1}")
+    private String region;
+    
     @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.storage", name = "backend", havingValue = "minio", matchIfMissing = true)
     public MinioClient minioClient() {
         return MinioClient.builder()
                 .endpoint(endpoint)
@@ -28,6 +35,20 @@ public class MinioConfig {
                 .build();
     }
     
+    /**
+     * Assina URLs de upload direto com o endpoint que o navegador acessa.
+     * Com a região fixa, assinar não faz nenhuma chamada ao servidor.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+    public MinioClient minioPresignClient() {
+        return MinioClient.builder()
+                .endpoint(externalEndpoint)
+                .region(region)
+                .credentials(accessKey, secretKey)
+                .build();
+    }
+    
     @Bean
     public String minioExternalEndpoint() {
         return externalEndpoint;
@@ -1,10 +1,20 @@
 package com.project.artists.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.artists.dto.request.AlbumRequestDTO;
+import com.project.artists.dto.request.CoverConfirmRequestDTO;
+import com.project.artists.dto.request.CoverUploadUrlRequestDTO;
+import com.project.artists.dto.request.CursorPageRequest;
 import com.project.artists.dto.response.AlbumResponseDTO;
 import com.project.artists.dto.response.AlbumSummaryDTO;
+import com.project.artists.dto.response.CoverUploadUrlResponseDTO;
 import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.dto.response.SuggestionDTO;
 import com.project.artists.service.AlbumService;
+import com.project.artists.service.CatalogVersionService;
+import com.project.artists.service.SuggestionService;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,10 +23,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -29,9 +41,23 @@ import java.util.List;
 @Tag(name = "3. Álbuns", description = "Gerenciamento de álbuns musicais")
 public class AlbumController {
     
+    /**
+     * Respostas de GET podem ser guardadas pelo cliente, mas sempre revalidadas (ETag)
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
     @Autowired
     private AlbumService albumService;
     
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private SuggestionService suggestionService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     /**
      * Criar novo álbum
      */
@@ -47,11 +73,26 @@ public class AlbumController {
      */
     @GetMapping("/{id}")
     @Operation(summary = "Buscar álbum por ID", description = "Retorna detalhes completos de um álbum")
-    public ResponseEntity<AlbumResponseDTO> findById(
-            @Parameter(description = "ID do álbum") @PathVariable Long id
+    public ResponseEntity<Object> findById(
+            @Parameter(description = "ID do álbum") @PathVariable Long id,
+            
+            @Parameter(description = "Campos da resposta separados por vírgula (ex.: id,title); ausente = todos") 
+            @RequestParam(required = false) String fields,
+            
+            ServletWebRequest webRequest
     ) {
-        AlbumResponseDTO response = albumService.findById(id);
-        return ResponseEntity.ok(response);
+        FieldSet fieldSet = FieldSet.parse(fields, AlbumResponseDTO.FIELDS);
+        
+        // 304 antes de carregar o grafo: o ETag vem só dos updated_at
+        ResourceVersion version = albumService.findVersion(id);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        
+        AlbumResponseDTO response = fieldSet.isAll()
+                ? albumService.findById(id, version)
+                : albumService.findById(id, fieldSet, version);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(fieldSet.project(response, objectMapper));
     }
     
     /**
@@ -59,7 +100,7 @@ public class AlbumController {
      */
     @GetMapping
     @Operation(summary = "Listar álbuns", description = "Lista todos os álbuns com paginação e ordenação")
-    public ResponseEntity<PageResponseDTO<AlbumSummaryDTO>> findAll(
+    public ResponseEntity<Object> findAll(
             @Parameter(description = "Número da página (começa em 0)") 
             @RequestParam(defaultValue = "0") int page,
             
@@ -70,16 +111,35 @@ public class AlbumController {
             @RequestParam(defaultValue = "title") String sortBy,
             
             @Parameter(description = "Direção da ordenação (asc/desc)") 
-            @RequestParam(defaultValue = "asc") String direction
+            @RequestParam(defaultValue = "asc") String direction,
+            
+            @Parameter(description = "Cursor da paginação keyset; quando informado (vazio = primeira página), 'page' é ignorado") 
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Campos de cada item separados por vírgula (ex.: id,title); ausente = todos") 
+            @RequestParam(required = false) String fields,
+            
+            ServletWebRequest webRequest
     ) {
+        FieldSet fieldSet = FieldSet.parse(fields, AlbumSummaryDTO.FIELDS);
+        if (pageNotModified(webRequest)) {
+            return null;
+        }
+        
         Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") 
                 ? Sort.Direction.DESC 
                 : Sort.Direction.ASC;
         
+        if (cursor != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(cursor, size, sortBy, sortDirection);
+            return ResponseEntity.ok().cacheControl(REVALIDATE)
+                    .body(fieldSet.project(albumService.findAllByCursor(cursorRequest, fieldSet), objectMapper));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
         
-        PageResponseDTO<AlbumSummaryDTO> response = albumService.findAll(pageable);
-        return ResponseEntity.ok(response);
+        PageResponseDTO<AlbumSummaryDTO> response = albumService.findAll(pageable, fieldSet);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(fieldSet.project(response, objectMapper));
     }
     
     /**
@@ -87,20 +147,51 @@ public class AlbumController {
      */
     @GetMapping("/artist/{artistId}")
     @Operation(summary = "Álbuns por artista", description = "Lista todos os álbuns de um artista específico")
-    public ResponseEntity<PageResponseDTO<AlbumSummaryDTO>> findByArtistId(
+    public ResponseEntity<Object> findByArtistId(
             @Parameter(description = "ID do artista") @PathVariable Long artistId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "releaseYear") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields,
+            
+            ServletWebRequest webRequest
     ) {
+        FieldSet fieldSet = FieldSet.parse(fields, AlbumSummaryDTO.FIELDS);
+        if (pageNotModified(webRequest)) {
+            return null;
+        }
+        
         Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") 
                 ? Sort.Direction.DESC 
                 : Sort.Direction.ASC;
         
+        if (cursor != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(cursor, size, sortBy, sortDirection);
+            return ResponseEntity.ok().cacheControl(REVALIDATE)
+                    .body(fieldSet.project(albumService.findByArtistIdByCursor(artistId, cursorRequest, fieldSet), objectMapper));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
         
-        PageResponseDTO<AlbumSummaryDTO> response = albumService.findByArtistId(artistId, pageable);
+        PageResponseDTO<AlbumSummaryDTO> response = albumService.findByArtistId(artistId, pageable, fieldSet);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(fieldSet.project(response, objectMapper));
+    }
+
+    /**
+     * Autocomplete de álbuns
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugestões de álbuns", description = "Retorna os álbuns cujas palavras começam com o texto digitado (índice em memória, sem consulta ao banco)")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @Parameter(description = "Texto digitado") 
+            @RequestParam String q,
+            
+            @Parameter(description = "Quantidade máxima de sugestões (até 20)") 
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SuggestionDTO> response = suggestionService.suggestAlbums(q, limit);
         return ResponseEntity.ok(response);
     }
     
@@ -142,6 +233,34 @@ public class AlbumController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Upload direto de capa, passo 1: URL assinada para PUT no armazenamento
+     */
+    @PostMapping("/{id}/covers/upload-url")
+    @Operation(summary = "URL de upload direto", description = "Gera uma URL assinada e de curta duração para enviar uma capa direto ao armazenamento (PUT), sem passar pela API")
+    public ResponseEntity<CoverUploadUrlResponseDTO> createCoverUploadUrl(
+            @Parameter(description = "ID do álbum") @PathVariable Long id,
+            @Valid @RequestBody CoverUploadUrlRequestDTO request
+    ) {
+        CoverUploadUrlResponseDTO response = albumService.createCoverUploadUrl(id, request);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(response);
+    }
+    
+    /**
+     * Upload direto de capa, passo 2: confirma o objeto enviado
+     */
+    @PostMapping("/{id}/covers/confirm")
+    @Operation(summary = "Confirmar upload direto", description = "Confere tamanho e tipo do objeto enviado pela URL de upload e o adiciona às capas do álbum com o nome derivado do conteúdo; a chave de upload deixa de existir")
+    public ResponseEntity<AlbumResponseDTO> confirmCoverUpload(
+            @Parameter(description = "ID do álbum") @PathVariable Long id,
+            @Valid @RequestBody CoverConfirmRequestDTO request
+    ) {
+        AlbumResponseDTO response = albumService.confirmCoverUpload(id, request);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Remover uma capa específica
      */
@@ -159,49 +278,57 @@ public class AlbumController {
      * Buscar álbuns por título
      */
     @GetMapping("/search")
-    @Operation(summary = "Buscar por título", description = "Busca álbuns por título (case insensitive)")
+    @Operation(summary = "Buscar por título", description = "Busca álbuns por título, ignorando maiúsculas e acentos, ordenados por relevância")
     public ResponseEntity<PageResponseDTO<AlbumSummaryDTO>> searchByTitle(
             @Parameter(description = "Título ou parte do título")
             @RequestParam String title,
 
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "title") String sortBy,
-            @RequestParam(defaultValue = "asc") String direction
+            
+            ServletWebRequest webRequest
     ) {
-        Sort.Direction sortDirection = direction.equalsIgnoreCase("desc")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        if (pageNotModified(webRequest)) {
+            return null;
+        }
+        
+        // Resultado ordenado por relevância (similaridade com o termo)
+        Pageable pageable = PageRequest.of(page, size);
 
         PageResponseDTO<AlbumSummaryDTO> response = albumService.searchByTitle(title, pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
     }
 
     /*
      * Buscar álbuns pelo nome do artista
      */
     @GetMapping("/search/artist")
-    @Operation(summary = "Buscar álbuns por artista", description = "Busca álbuns pelo nome do artista (case insensitive)")
+    @Operation(summary = "Buscar álbuns por artista", description = "Busca álbuns pelo nome do artista, ignorando maiúsculas e acentos, ordenados por relevância")
     public ResponseEntity<PageResponseDTO<AlbumSummaryDTO>> searchByArtistName(
             @Parameter(description = "Nome do artista ou parte do nome")
             @RequestParam String name,
 
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "releaseYear") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction
+            
+            ServletWebRequest webRequest
     ) {
-        Sort.Direction sortDirection = direction.equalsIgnoreCase("desc")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        if (pageNotModified(webRequest)) {
+            return null;
+        }
+        
+        // Resultado ordenado por relevância (similaridade com o termo)
+        Pageable pageable = PageRequest.of(page, size);
 
         PageResponseDTO<AlbumSummaryDTO> response = albumService.searchByArtistName(name, pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
     }
-
-
-}
\ No newline at end of file
+    
+    /**
+     * ETag das páginas: versão global do catálogo + parâmetros da requisição
+     */
+    private boolean pageNotModified(ServletWebRequest webRequest) {
+        ResourceVersion version = catalogVersionService.pageVersion(ResourceVersion.requestKey(webRequest.getRequest()));
+        return version != null && webRequest.checkNotModified(version.getETag(), version.getLastModified());
+    }
+}
@@ -1,10 +1,17 @@
 package com.project.artists.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.artists.dto.request.ArtistRequestDTO;
+import com.project.artists.dto.request.CursorPageRequest;
 import com.project.artists.dto.response.ArtistResponseDTO;
 import com.project.artists.dto.response.ArtistSummaryDTO;
 import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.dto.response.SuggestionDTO;
 import com.project.artists.service.ArtistService;
+import com.project.artists.service.CatalogVersionService;
+import com.project.artists.service.SuggestionService;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,9 +20,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
 
 /**
  * Controller para endpoints de artistas
@@ -25,9 +36,23 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "2. Artistas", description = "Gerenciamento de artistas e bandas musicais")
 public class ArtistController {
     
+    /**
+     * Respostas de GET podem ser guardadas pelo cliente, mas sempre revalidadas (ETag)
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
     @Autowired
     private ArtistService artistService;
     
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private SuggestionService suggestionService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     /**
      * Criar novo artista
      */
@@ -43,11 +68,26 @@ public class ArtistController {
      */
     @GetMapping("/{id}")
     @Operation(summary = "Buscar artista por ID", description = "Retorna detalhes completos de um artista")
-    public ResponseEntity<ArtistResponseDTO> findById(
-            @Parameter(description = "ID do artista") @PathVariable Long id
+    public ResponseEntity<Object> findById(
+            @Parameter(description = "ID do artista") @PathVariable Long id,
+            
+            @Parameter(description = "Campos da resposta separados por vírgula (ex.: id,name); ausente = todos") 
+            @RequestParam(required = false) String fields,
+            
+            ServletWebRequest webRequest
     ) {
-        ArtistResponseDTO response = artistService.findById(id);
-        return ResponseEntity.ok(response);
+        FieldSet fieldSet = FieldSet.parse(fields, ArtistResponseDTO.FIELDS);
+        
+        // 304 antes de carregar o grafo: o ETag vem só dos updated_at
+        ResourceVersion version = artistService.findVersion(id);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        
+        ArtistResponseDTO response = fieldSet.isAll()
+                ? artistService.findById(id, version)
+                : artistService.findById(id, fieldSet, version);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(fieldSet.project(response, objectMapper));
     }
     
     /**
@@ -55,7 +95,7 @@ public class ArtistController {
      */
     @GetMapping
     @Operation(summary = "Listar artistas", description = "Lista todos os artistas com paginação e ordenação")
-    public ResponseEntity<PageResponseDTO<ArtistSummaryDTO>> findAll(
+    public ResponseEntity<Object> findAll(
             @Parameter(description = "Número da página (começa em 0)") 
             @RequestParam(defaultValue = "0") int page,
             
@@ -66,39 +106,75 @@ public class ArtistController {
             @RequestParam(defaultValue = "name") String sortBy,
             
             @Parameter(description = "Direção da ordenação (asc/desc)") 
-            @RequestParam(defaultValue = "asc") String direction
+            @RequestParam(defaultValue = "asc") String direction,
+            
+            @Parameter(description = "Cursor da paginação keyset; quando informado (vazio = primeira página), 'page' é ignorado") 
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Campos de cada item separados por vírgula (ex.: id,name); ausente = todos") 
+            @RequestParam(required = false) String fields,
+            
+            ServletWebRequest webRequest
     ) {
+        FieldSet fieldSet = FieldSet.parse(fields, ArtistSummaryDTO.FIELDS);
+        if (pageNotModified(webRequest)) {
+            return null;
+        }
+        
         Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") 
                 ? Sort.Direction.DESC 
                 : Sort.Direction.ASC;
         
+        if (cursor != null) {
+            CursorPageRequest cursorRequest = new CursorPageRequest(cursor, size, sortBy, sortDirection);
+            return ResponseEntity.ok().cacheControl(REVALIDATE)
+                    .body(fieldSet.project(artistService.findAllByCursor(cursorRequest), objectMapper));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
         
         PageResponseDTO<ArtistSummaryDTO> response = artistService.findAll(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(fieldSet.project(response, objectMapper));
     }
     
     /**
      * Buscar artistas por nome
      */
     @GetMapping("/search")
-    @Operation(summary = "Buscar por nome", description = "Busca artistas por nome (case insensitive)")
+    @Operation(summary = "Buscar por nome", description = "Busca artistas por nome, ignorando maiúsculas e acentos, ordenados por relevância")
     public ResponseEntity<PageResponseDTO<ArtistSummaryDTO>> searchByName(
             @Parameter(description = "Nome ou parte do nome") 
             @RequestParam String name,
             
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String direction
+            
+            ServletWebRequest webRequest
     ) {
-        Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") 
-                ? Sort.Direction.DESC 
-                : Sort.Direction.ASC;
+        if (pageNotModified(webRequest)) {
+            return null;
+        }
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        // Resultado ordenado por relevância (similaridade com o termo)
+        Pageable pageable = PageRequest.of(page, size);
         
         PageResponseDTO<ArtistSummaryDTO> response = artistService.searchByName(name, pageable);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+    }
+
+    /**
+     * Autocomplete de artistas
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugestões de artistas", description = "Retorna os artistas cujas palavras começam com o texto digitado (índice em memória, sem consulta ao banco)")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @Parameter(description = "Texto digitado") 
+            @RequestParam String q,
+            
+            @Parameter(description = "Quantidade máxima de sugestões (até 20)") 
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SuggestionDTO> response = suggestionService.suggestArtists(q, limit);
         return ResponseEntity.ok(response);
     }
     
@@ -126,4 +202,12 @@ public class ArtistController {
         artistService.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+    
+    /**
+     * ETag das páginas: versão global do catálogo + parâmetros da requisição
+     */
+    private boolean pageNotModified(ServletWebRequest webRequest) {
+        ResourceVersion version = catalogVersionService.pageVersion(ResourceVersion.requestKey(webRequest.getRequest()));
+        return version != null && webRequest.checkNotModified(version.getETag(), version.getLastModified());
+    }
+}
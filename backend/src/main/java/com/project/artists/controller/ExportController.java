@@ -0,0 +1,67 @@
+package com.project.artists.controller;
+
+import com.project.artists.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Controller de exportação completa do catálogo
+ * 
+ * A resposta é escrita em streaming (StreamingResponseBody) enquanto as
+ * linhas são lidas do banco, sem montar o arquivo em memória.
+ */
+@RestController
+@RequestMapping("/api/v1/export")
+@Tag(name = "6. Importação", description = "Importação e exportação em massa de artistas e álbuns")
+public class ExportController {
+    
+    @Autowired
+    private ExportService exportService;
+    
+    /**
+     * Exportar todos os álbuns
+     */
+    @GetMapping("/albums")
+    @Operation(summary = "Exportar álbuns", description = "Todos os álbuns com os nomes dos artistas, em NDJSON ou CSV")
+    public ResponseEntity<StreamingResponseBody> exportAlbums(
+            @Parameter(description = "Formato (NDJSON ou CSV)") 
+            @RequestParam(defaultValue = "NDJSON") ExportService.Format format
+    ) {
+        return stream("albums", format, out -> exportService.exportAlbums(format, out));
+    }
+    
+    /**
+     * Exportar todos os artistas
+     */
+    @GetMapping("/artists")
+    @Operation(summary = "Exportar artistas", description = "Todos os artistas com contagem de álbuns, em NDJSON ou CSV")
+    public ResponseEntity<StreamingResponseBody> exportArtists(
+            @Parameter(description = "Formato (NDJSON ou CSV)") 
+            @RequestParam(defaultValue = "NDJSON") ExportService.Format format
+    ) {
+        return stream("artists", format, out -> exportService.exportArtists(format, out));
+    }
+    
+    private ResponseEntity<StreamingResponseBody> stream(String resource, ExportService.Format format,
+                                                         StreamingResponseBody body) {
+        String filename = String.format("%s-%s.%s", resource, LocalDate.now(), format.getExtension());
+        
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
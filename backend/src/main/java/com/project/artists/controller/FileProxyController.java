@@ -1,60 +1,218 @@
 package com.project.artists.controller;
 
-import io.minio.GetObjectArgs;
-import io.minio.MinioClient;
+import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.service.FileCacheService.CachedFile;
+import com.project.artists.service.FileCacheService;
+import com.project.artists.service.StorageService;
+import com.project.artists.service.ThumbnailService;
+import com.project.artists.storage.StoredObject;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Proxy de arquivos do armazenamento (capas)
+ *
+ * O objeto é copiado do StorageBackend para a resposta em fluxo (buffer
+ * fixo no MinIO, FileChannel.transferTo no backend local), sem carregar a
+ * imagem inteira no heap. Os validadores vêm do stat, então:
+ * - If-None-Match / If-Modified-Since respondem 304 sem baixar o conteúdo
+ * - Range (um único intervalo) responde 206 baixando só o trecho pedido;
+ *   If-Range que não confere com o ETag/Last-Modified devolve o arquivo todo
+ * - Range fora do tamanho responde 416
+ *
+ * Objetos que cabem no FileCacheService (heap/disco) são servidos
+ * localmente, inclusive os validadores, sem ir ao backend. No primeiro
+ * acesso a resposta vem do armazenamento (só o trecho pedido, no caso de
+ * Range) e o cache é preenchido em segundo plano.
+ *
+ * Miniatura ainda não gerada (ThumbnailService) responde com o original e
+ * Cache-Control no-cache, para o cliente trocar pela derivada quando ela
+ * existir.
+ */
 @RestController
 @RequestMapping("/api/v1/files")
 public class FileProxyController {
-    
+
+    private static final String PREFIX = "/api/v1/files/";
+
+    /**
+     * Capas são nomeadas pelo hash do conteúdo (e as miniaturas a partir
+     * delas): um nome nunca passa a apontar para outra imagem
+     */
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private FileCacheService fileCacheService;
+
     @Autowired
-    private MinioClient minioClient;
-    
-    @Value("${app.minio.bucket-name}")
-    private String bucketName;
-    
+    private ThumbnailService thumbnailService;
+
     @GetMapping("/**")
-    public ResponseEntity<byte[]> getFile(HttpServletRequest request) {
-        try {
-            
-            String objectName = request.getRequestURI().replace("/api/v1/files/", "");
-            
-            InputStream stream = minioClient.getObject(
-                GetObjectArgs.builder()
-                    .bucket(bucketName)
-                    .object(objectName)
-                    .build()
-            );
-            
-            byte[] bytes = stream.readAllBytes();
-            stream.close();
-            
-            HttpHeaders headers = new HttpHeaders();
-
-            if (objectName.endsWith(".jpg") || objectName.endsWith(".jpeg")) {
-                headers.setContentType(MediaType.IMAGE_JPEG);
-            } else if (objectName.endsWith(".png")) {
-                headers.setContentType(MediaType.IMAGE_PNG);
-            } else {
-                headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+    public ResponseEntity<StreamingResponseBody> getFile(HttpServletRequest request, ServletWebRequest webRequest) {
+        String objectName = request.getRequestURI().replace(PREFIX, "");
+
+        CachedFile cached = fileCacheService.get(objectName).orElse(null);
+
+        StoredObject object;
+        CacheControl cacheControl = IMMUTABLE;
+        if (cached != null) {
+            object = cached.metadata();
+        } else {
+            try {
+                object = storageService.stat(objectName);
+            } catch (ResourceNotFoundException e) {
+                String original = thumbnailService.originalOf(objectName).orElse(null);
+                if (original == null) {
+                    return ResponseEntity.notFound().build();
+                }
+                cached = fileCacheService.get(original).orElse(null);
+                try {
+                    object = cached != null ? cached.metadata() : storageService.stat(original);
+                } catch (ResourceNotFoundException originalMissing) {
+                    return ResponseEntity.notFound().build();
+                }
+                cacheControl = CacheControl.noCache();
             }
-            
-            headers.setCacheControl("public, max-age=31536000");
-            
-            return new ResponseEntity<>(bytes, headers, HttpStatus.OK);
-            
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
         }
+
+        String eTag = object.eTag() != null ? "\"" + object.eTag() + "\"" : null;
+        long lastModified = object.lastModified() != null ? object.lastModified().toEpochMilli() : -1;
+
+        // 304 só com os metadados
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType(object));
+        headers.setCacheControl(cacheControl);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+        if (lastModified >= 0) {
+            headers.setLastModified(lastModified);
+        }
+
+        long size = object.size();
+        long start = 0;
+        long end = size - 1;
+        HttpStatus status = HttpStatus.OK;
+
+        HttpRange range = singleRange(request, eTag, lastModified);
+        if (range != null) {
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+            if (start >= size || start > end) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long length = end - start + 1;
+        headers.setContentLength(length);
+
+        StreamingResponseBody body;
+        if (cached != null) {
+            body = fromCache(cached, start, length);
+        } else {
+            StoredObject origin = object;
+            fileCacheService.fillAsync(origin, () -> storageService.openStream(origin.name(), 0, null));
+            body = fromOrigin(object.name(), start, status == HttpStatus.OK ? null : length);
+        }
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+
+    private StreamingResponseBody fromCache(CachedFile cached, long offset, long length) {
+        FileCacheService.Transfer transfer = cached.open(offset, length);
+        return outputStream -> {
+            try {
+                transfer.writeTo(outputStream);
+            } catch (NoSuchFileException e) {
+                // Arquivo despejado antes de a resposta ser escrita: vai ao armazenamento
+                fileCacheService.invalidate(cached.metadata().name());
+                fromOrigin(cached.metadata().name(), offset, length).writeTo(outputStream);
+            }
+        };
+    }
+
+    private StreamingResponseBody fromOrigin(String objectName, long offset, Long length) {
+        return outputStream -> fileCacheService.recordOriginBytes(
+                storageService.transferTo(objectName, offset, length, outputStream));
+    }
+
+    /**
+     * Intervalo pedido, ou null para servir o arquivo todo: sem Range, Range
+     * inválido ou com vários intervalos (permitido ignorar) e If-Range que
+     * não confere com a versão atual
+     */
+    private HttpRange singleRange(HttpServletRequest request, String eTag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1 || !ifRangeMatches(request, eTag, lastModified)) {
+            return null;
+        }
+        return ranges.get(0);
+    }
+
+    private boolean ifRangeMatches(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+
+        // ETag: comparação forte (W/ nunca confere)
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return eTag != null && eTag.equals(ifRange);
+        }
+
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified >= 0 && lastModified / 1000 == date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private MediaType contentType(StoredObject object) {
+        if (object.contentType() != null && object.contentType().startsWith("image/")) {
+            return MediaType.parseMediaType(object.contentType());
+        }
+
+        String name = object.name();
+        if (name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+            return MediaType.IMAGE_JPEG;
+        } else if (name.endsWith(".png")) {
+            return MediaType.IMAGE_PNG;
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.project.artists.controller;
+
+import com.project.artists.dto.response.ImportReportDTO;
+import com.project.artists.service.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * Controller de importação em massa do catálogo
+ * 
+ * O corpo é lido direto do stream da requisição (sem carregar o arquivo
+ * inteiro em memória), então arquivos grandes podem ser enviados em uma
+ * única chamada.
+ */
+@RestController
+@RequestMapping("/api/v1/import")
+@Tag(name = "6. Importação", description = "Importação e exportação em massa de artistas e álbuns")
+public class ImportController {
+    
+    @Autowired
+    private ImportService importService;
+    
+    /**
+     * Importar artistas e álbuns de um arquivo NDJSON
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Importar catálogo", 
+        description = "Uma linha JSON por artista ({\"type\":\"artist\",\"ref\":\"a1\",\"name\":...}) " +
+                      "ou álbum ({\"type\":\"album\",\"title\":...,\"artistIds\":[...],\"artistRefs\":[\"a1\"]}). " +
+                      "Gravação em lotes; linhas inválidas são listadas no relatório."
+    )
+    public ResponseEntity<ImportReportDTO> importCatalog(InputStream body) {
+        return ResponseEntity.ok(importService.importNdjson(body));
+    }
+}
@@ -3,6 +3,7 @@ package com.project.artists.controller;
 import com.project.artists.dto.response.SyncResponseDTO;
 import com.project.artists.entity.Regional;
 import com.project.artists.service.RegionalSyncService;
+import com.project.artists.util.RegionalSnapshot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -11,10 +12,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * Controller para operacoes com regionais
@@ -23,6 +25,9 @@ import java.util.List;
  * - POST /sync - Trigger manual de sincronizacao
  * - GET / - Listar regionais ativos
  * - GET /all - Listar todos (ativos e inativos)
+ * 
+ * As listagens saem da foto imutável mantida pela sincronização (JSON já
+ * serializado + ETag): sem banco, sem serialização, 304 para If-None-Match.
  */
 @RestController
 @RequestMapping("/api/v1/regionais")
@@ -33,6 +38,8 @@ import java.util.List;
 )
 public class RegionalController {
     
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
     @Autowired
     private RegionalSyncService regionalSyncService;
     
@@ -198,9 +205,8 @@ public class RegionalController {
             content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<List<Regional>> listarAtivos() {
-        List<Regional> regionais = regionalSyncService.listarAtivos();
-        return ResponseEntity.ok(regionais);
+    public ResponseEntity<byte[]> listarAtivos(ServletWebRequest webRequest) {
+        return serve(regionalSyncService.snapshot().getAtivos(), webRequest);
     }
     
     /**
@@ -261,8 +267,17 @@ public class RegionalController {
             content = @Content(mediaType = "application/json")
         )
     })
-    public ResponseEntity<List<Regional>> listarTodos() {
-        List<Regional> regionais = regionalSyncService.listarTodos();
-        return ResponseEntity.ok(regionais);
+    public ResponseEntity<byte[]> listarTodos(ServletWebRequest webRequest) {
+        return serve(regionalSyncService.snapshot().getTodos(), webRequest);
+    }
+    
+    private ResponseEntity<byte[]> serve(RegionalSnapshot.Payload payload, ServletWebRequest webRequest) {
+        if (webRequest.checkNotModified(payload.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(REVALIDATE)
+                .body(payload.getJson());
     }
 }
\ No newline at end of file
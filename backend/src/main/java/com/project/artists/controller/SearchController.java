@@ -0,0 +1,73 @@
+package com.project.artists.controller;
+
+import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.dto.response.SearchResultDTO;
+import com.project.artists.service.CatalogVersionService;
+import com.project.artists.service.SearchService;
+import com.project.artists.util.ResourceVersion;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Controller da busca unificada de álbuns e artistas
+ * 
+ * Cada item traz o necessário para os cards das listagens (ano, artistas
+ * e capa dos álbuns; total de álbuns dos artistas), paginado por cursor.
+ * É a busca usada pelas telas de álbuns e artistas, inclusive "álbuns pelo
+ * nome do artista" (byArtist).
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@Tag(name = "5. Busca", description = "Busca textual em títulos de álbuns, nomes e bios de artistas")
+public class SearchController {
+    
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
+    @Autowired
+    private SearchService searchService;
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    /**
+     * Buscar álbuns e artistas em uma única chamada
+     */
+    @GetMapping
+    @Operation(summary = "Busca unificada", description = "Busca em títulos, nomes e bios (prefixos, sem acentos), ordenada por relevância e paginada por cursor")
+    public ResponseEntity<PageResponseDTO<SearchResultDTO>> search(
+            @Parameter(description = "Termos de busca") 
+            @RequestParam String q,
+            
+            @Parameter(description = "Filtrar por tipo (ALBUM ou ARTIST)") 
+            @RequestParam(required = false) SearchResultDTO.Type type,
+            
+            @Parameter(description = "Buscar álbuns pelo nome dos artistas (ignora type)") 
+            @RequestParam(defaultValue = "false") boolean byArtist,
+            
+            @Parameter(description = "Cursor retornado em nextCursor (ausente = primeira página)") 
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Tamanho da página") 
+            @RequestParam(defaultValue = "10") int size,
+            
+            ServletWebRequest webRequest
+    ) {
+        // Mesmo ETag por versão do catálogo usado nas listagens
+        ResourceVersion version = catalogVersionService.pageVersion(ResourceVersion.requestKey(webRequest.getRequest()));
+        if (version != null && webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        
+        PageResponseDTO<SearchResultDTO> response = searchService.search(q, type, byArtist, cursor, size);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+    }
+}
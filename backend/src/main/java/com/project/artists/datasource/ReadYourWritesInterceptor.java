@@ -0,0 +1,40 @@
+package com.project.artists.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Abre/renova a janela read-your-writes em requisições de escrita
+ * 
+ * Marca no início (cobre leituras feitas enquanto a escrita ainda está em
+ * andamento) e no fim (a janela conta a partir do commit).
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+    
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    
+    private final ReadYourWritesTracker tracker;
+    
+    public ReadYourWritesInterceptor(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            tracker.recordWrite();
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            tracker.recordWrite();
+        }
+    }
+}
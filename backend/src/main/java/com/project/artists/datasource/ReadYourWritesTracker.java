@@ -0,0 +1,59 @@
+package com.project.artists.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Janela read-your-writes por usuário
+ * 
+ * Depois de uma escrita, as leituras do mesmo usuário vão para o primário
+ * durante a janela configurada, para não lerem uma réplica ainda atrasada.
+ */
+public class ReadYourWritesTracker {
+    
+    private final Cache<String, Boolean> recentWriters;
+    
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+    
+    /**
+     * Registra uma escrita do usuário autenticado na thread atual
+     */
+    public void recordWrite() {
+        String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+    
+    /**
+     * true se o usuário atual escreveu dentro da janela
+     */
+    public boolean isRecentWriter() {
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+    
+    /**
+     * Anônimos ficam de fora: AnonymousAuthenticationToken também é
+     * "autenticado" e todos compartilham o nome anonymousUser, então um
+     * POST /auth/login mandaria as leituras de todos os anônimos ao primário
+     */
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
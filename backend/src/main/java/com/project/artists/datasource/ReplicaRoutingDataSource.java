@@ -0,0 +1,137 @@
+package com.project.artists.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource das transações read-only: distribui as conexões entre as
+ * réplicas (round-robin) e cai para o primário quando
+ * - o usuário está na janela read-your-writes, ou
+ * - nenhuma réplica está disponível (réplica que falha fica fora por retryAfter)
+ * 
+ * Usado como readOnlyDataSource do LazyConnectionDataSourceProxy, que só
+ * pede a conexão depois que a transação já foi marcada como read-only.
+ * 
+ * Métricas: datasource.routing.connections{pool,reason} e
+ * datasource.routing.failures{pool}; as métricas de cada pool vêm do
+ * próprio Hikari (hikaricp.connections.*{pool}).
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    
+    private static final String PRIMARY = "primary";
+    
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWritesTracker tracker;
+    private final long retryAfterMillis;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+    
+    /**
+     * @param replicas nome do pool -> DataSource da réplica
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReadYourWritesTracker tracker, Duration retryAfter,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.tracker = tracker;
+        this.retryAfterMillis = retryAfter.toMillis();
+        this.meterRegistry = meterRegistry;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+    
+    /**
+     * Mesmo roteamento, repassando as credenciais ao pool escolhido
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+    
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (tracker.isRecentWriter()) {
+            return fromPrimary(opener, "read-your-writes");
+        }
+        
+        long now = System.currentTimeMillis();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.downUntil > now) {
+                continue;
+            }
+            
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                count(replica.name, "replica");
+                return connection;
+            } catch (SQLException e) {
+                replica.downUntil = now + retryAfterMillis;
+                failure(replica.name);
+                logger.warn("Réplica {} indisponível, fora da rotação por {}ms: {}",
+                        replica.name, retryAfterMillis, e.getMessage());
+            }
+        }
+        
+        return fromPrimary(opener, replicas.isEmpty() ? "no-replica" : "failover");
+    }
+    
+    private Connection fromPrimary(ConnectionOpener opener, String reason) throws SQLException {
+        Connection connection = opener.open(primary);
+        count(PRIMARY, reason);
+        return connection;
+    }
+    
+    private void count(String pool, String reason) {
+        Counter.builder("datasource.routing.connections")
+                .description("Conexões read-only entregues por pool")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    private void failure(String pool) {
+        Counter.builder("datasource.routing.failures")
+                .description("Falhas ao obter conexão de uma réplica")
+                .tag("pool", pool)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+    
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long downUntil;
+        
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
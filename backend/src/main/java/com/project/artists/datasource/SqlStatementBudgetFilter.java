@@ -0,0 +1,151 @@
+package com.project.artists.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Orçamento de comandos SQL por requisição (detector de N+1)
+ * 
+ * Mede quantos comandos a requisição executou e quanto tempo passou no
+ * banco (via StatementCountingDataSource) e:
+ * - devolve o header Server-Timing: db;dur=12.3;desc="7 statements"
+ * - publica http.server.requests.sql.statements e http.server.requests.sql.time
+ *   por método e padrão de URI
+ * - loga WARN quando passa de app.sql-budget.max-statements
+ *   (http.server.requests.sql.budget.exceeded)
+ * 
+ * Fica antes do Spring Security para contar também o carregamento do usuário.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.sql-budget.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.sql-budget.max-statements:25}")
+    private int maxStatements;
+    
+    @Value("${app.sql-budget.server-timing:true}")
+    private boolean serverTiming;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementStats.Scope scope = SqlStatementStats.open()) {
+            ServerTimingResponse wrapped = new ServerTimingResponse(response, scope);
+            try {
+                filterChain.doFilter(request, wrapped);
+            } finally {
+                wrapped.addServerTiming();
+                record(request, scope);
+            }
+        }
+    }
+    
+    private void record(HttpServletRequest request, SqlStatementStats.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("Comandos SQL executados por requisição")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getStatements());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Tempo gasto no banco por requisição")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getNanos(), TimeUnit.NANOSECONDS);
+        
+        if (scope.getStatements() > maxStatements) {
+            Counter.builder("http.server.requests.sql.budget.exceeded")
+                    .description("Requisições acima do orçamento de comandos SQL")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("{} {} executou {} comandos SQL em {}ms (orçamento: {}) - possível N+1",
+                    method, request.getRequestURI(), scope.getStatements(),
+                    String.format(Locale.ROOT, "%.1f", scope.getMillis()), maxStatements);
+        }
+    }
+    
+    /**
+     * Headers precisam sair antes do corpo: o Server-Timing é adicionado
+     * quando o corpo começa a ser escrito (o handler já terminou de consultar)
+     * ou, para respostas sem corpo, ao fim da cadeia
+     */
+    private class ServerTimingResponse extends HttpServletResponseWrapper {
+        
+        private final SqlStatementStats.Scope scope;
+        private boolean added;
+        
+        ServerTimingResponse(HttpServletResponse response, SqlStatementStats.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+        
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+        
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+        
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+        
+        void addServerTiming() {
+            if (!serverTiming || added || isCommitted()) {
+                return;
+            }
+            added = true;
+            addHeader("Server-Timing", String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\"",
+                    scope.getMillis(), scope.getStatements()));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.artists.datasource;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Contagem de comandos SQL e tempo de banco por thread
+ * 
+ * Quem quer medir abre um Scope (filtro por requisição, testes); o
+ * StatementCountingDataSource registra cada execução em todos os escopos
+ * abertos na thread. Escopos podem ser aninhados: o teste mede a requisição
+ * inteira enquanto o filtro mede a mesma requisição por dentro.
+ * 
+ * Comandos executados fora da thread que abriu o escopo (ex.: corpo de
+ * StreamingResponseBody) não entram na conta.
+ */
+public final class SqlStatementStats {
+    
+    private static final ThreadLocal<Deque<Scope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+    
+    private SqlStatementStats() {
+    }
+    
+    public static Scope open() {
+        Scope scope = new Scope();
+        SCOPES.get().push(scope);
+        return scope;
+    }
+    
+    static void record(long nanos) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            return;
+        }
+        for (Scope scope : scopes) {
+            scope.statements++;
+            scope.nanos += nanos;
+        }
+    }
+    
+    public static final class Scope implements AutoCloseable {
+        
+        private long statements;
+        private long nanos;
+        
+        private Scope() {
+        }
+        
+        public long getStatements() {
+            return statements;
+        }
+        
+        public long getNanos() {
+            return nanos;
+        }
+        
+        public double getMillis() {
+            return nanos / 1_000_000.0;
+        }
+        
+        @Override
+        public void close() {
+            Deque<Scope> scopes = SCOPES.get();
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
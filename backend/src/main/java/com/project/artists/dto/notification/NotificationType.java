@@ -19,6 +19,7 @@ public enum NotificationType {
 
     ARTIST_DELETED("Artista Removido"),
     
+    CATALOG_IMPORTED("Catálogo Importado"),
     SYSTEM_NOTIFICATION("Notificação do Sistema");
     
     private final String displayName;
@@ -0,0 +1,28 @@
+package com.project.artists.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO para confirmar uma capa enviada direto ao armazenamento
+ */
+public class CoverConfirmRequestDTO {
+    
+    @NotBlank(message = "Chave do objeto é obrigatória")
+    private String objectKey;
+    
+    // Construtores
+    public CoverConfirmRequestDTO() {}
+    
+    public CoverConfirmRequestDTO(String objectKey) {
+        this.objectKey = objectKey;
+    }
+    
+    // Getters e Setters
+    public String getObjectKey() {
+        return objectKey;
+    }
+    
+    public void setObjectKey(String objectKey) {
+        this.objectKey = objectKey;
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.artists.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * DTO para pedir uma URL de upload direto de capa
+ */
+public class CoverUploadUrlRequestDTO {
+    
+    @NotBlank(message = "Content type é obrigatório")
+    @Pattern(regexp = "image/[\\w.+-]+", message = "Apenas imagens são permitidas")
+    private String contentType;
+    
+    private String fileName;
+    
+    // Construtores
+    public CoverUploadUrlRequestDTO() {}
+    
+    public CoverUploadUrlRequestDTO(String contentType, String fileName) {
+        this.contentType = contentType;
+        this.fileName = fileName;
+    }
+    
+    // Getters e Setters
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+}
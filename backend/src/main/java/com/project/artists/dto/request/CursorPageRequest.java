@@ -0,0 +1,61 @@
+package com.project.artists.dto.request;
+
+import com.project.artists.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Parâmetros da paginação por cursor (keyset)
+ */
+public class CursorPageRequest {
+    
+    /**
+     * Maior página servida; pedidos acima disso recebem MAX_SIZE itens
+     */
+    public static final int MAX_SIZE = 100;
+    
+    private String cursor;
+    private int size;
+    private String sortBy;
+    private Sort.Direction direction;
+    
+    // Construtores
+    public CursorPageRequest() {}
+    
+    public CursorPageRequest(String cursor, int size, String sortBy, Sort.Direction direction) {
+        this.cursor = cursor;
+        this.size = size;
+        this.sortBy = sortBy;
+        this.direction = direction;
+    }
+    
+    /**
+     * Cursor vazio significa primeira página
+     */
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+    
+    /**
+     * Tamanho a usar na consulta: recusa menor que 1 (a busca de size + 1
+     * linhas não teria última linha para o cursor) e limita a MAX_SIZE
+     */
+    public int resolvedSize() {
+        if (size < 1) {
+            throw new BadRequestException("Tamanho da página deve ser maior que zero");
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+    
+    // Getters e Setters
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+    
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    
+    public String getSortBy() { return sortBy; }
+    public void setSortBy(String sortBy) { this.sortBy = sortBy; }
+    
+    public Sort.Direction getDirection() { return direction; }
+    public void setDirection(Sort.Direction direction) { this.direction = direction; }
+}
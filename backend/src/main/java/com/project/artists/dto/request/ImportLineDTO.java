@@ -0,0 +1,114 @@
+package com.project.artists.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Linha do arquivo NDJSON de importação do catálogo
+ * 
+ * Exemplos:
+ * {"type":"artist","ref":"a1","name":"Legião Urbana","bio":"..."}
+ * {"type":"album","title":"Dois","releaseYear":1986,"artistRefs":["a1"]}
+ * {"type":"album","title":"Acústico","artistIds":[12]}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ImportLineDTO {
+    
+    public enum Type {
+        ARTIST, ALBUM;
+        
+        // Aceita "artist", "ALBUM"...; valor desconhecido vira null (erro de validação)
+        @JsonCreator
+        public static Type of(String value) {
+            for (Type type : values()) {
+                if (type.name().equalsIgnoreCase(value)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+    
+    private Type type;
+    
+    // Identificador local de um artista, usado por álbuns das linhas seguintes
+    private String ref;
+    
+    // Artista
+    private String name;
+    private String bio;
+    
+    // Álbum
+    private String title;
+    private Integer releaseYear;
+    private List<Long> artistIds = new ArrayList<>();
+    private List<String> artistRefs = new ArrayList<>();
+    
+    // Getters e Setters
+    public Type getType() {
+        return type;
+    }
+    
+    public void setType(Type type) {
+        this.type = type;
+    }
+    
+    public String getRef() {
+        return ref;
+    }
+    
+    public void setRef(String ref) {
+        this.ref = ref;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getBio() {
+        return bio;
+    }
+    
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public Integer getReleaseYear() {
+        return releaseYear;
+    }
+    
+    public void setReleaseYear(Integer releaseYear) {
+        this.releaseYear = releaseYear;
+    }
+    
+    public List<Long> getArtistIds() {
+        return artistIds;
+    }
+    
+    public void setArtistIds(List<Long> artistIds) {
+        this.artistIds = artistIds != null ? artistIds : new ArrayList<>();
+    }
+    
+    public List<String> getArtistRefs() {
+        return artistRefs;
+    }
+    
+    public void setArtistRefs(List<String> artistRefs) {
+        this.artistRefs = artistRefs != null ? artistRefs : new ArrayList<>();
+    }
+}
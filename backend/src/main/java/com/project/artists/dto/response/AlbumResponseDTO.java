@@ -3,17 +3,22 @@ package com.project.artists.dto.response;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * DTO de resposta detalhada de um álbum
  */
 public class AlbumResponseDTO {
     
+    /** Campos aceitos em fields= */
+    public static final Set<String> FIELDS = Set.of("id", "title", "releaseYear", "artists", "coverUrls", "coverPreviewUrls", "createdAt", "updatedAt");
+    
     private Long id;
     private String title;
     private Integer releaseYear;
     private List<ArtistSummaryDTO> artists = new ArrayList<>();
     private List<String> coverUrls = new ArrayList<>();
+    private List<String> coverPreviewUrls = new ArrayList<>(); // Capas na largura do detalhe
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -42,6 +47,9 @@ public class AlbumResponseDTO {
     public List<String> getCoverUrls() { return coverUrls; }
     public void setCoverUrls(List<String> coverUrls) { this.coverUrls = coverUrls; }
     
+    public List<String> getCoverPreviewUrls() { return coverPreviewUrls; }
+    public void setCoverPreviewUrls(List<String> coverPreviewUrls) { this.coverPreviewUrls = coverPreviewUrls; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
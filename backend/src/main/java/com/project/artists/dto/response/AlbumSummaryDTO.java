@@ -2,17 +2,22 @@ package com.project.artists.dto.response;
 import com.project.artists.entity.Album;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * DTO resumido de álbum (para listagens)
  */
 public class AlbumSummaryDTO {
     
+    /** Campos aceitos em fields= */
+    public static final Set<String> FIELDS = Set.of("id", "title", "releaseYear", "artistNames", "coverUrl", "coverThumbnailUrl");
+    
     private Long id;
     private String title;
     private Integer releaseYear;
     private List<String> artistNames = new ArrayList<>();
-    private String coverUrl; // Primeira capa apenas
+    private String coverUrl; // Primeira capa apenas, na largura da listagem
+    private String coverThumbnailUrl; // Primeira capa em miniatura (ícones)
     
     // Construtores
     public AlbumSummaryDTO() {}
@@ -38,4 +43,7 @@ public class AlbumSummaryDTO {
     
     public String getCoverUrl() { return coverUrl; }
     public void setCoverUrl(String coverUrl) { this.coverUrl = coverUrl; }
+    
+    public String getCoverThumbnailUrl() { return coverThumbnailUrl; }
+    public void setCoverThumbnailUrl(String coverThumbnailUrl) { this.coverThumbnailUrl = coverThumbnailUrl; }
 }
\ No newline at end of file
@@ -3,17 +3,27 @@ package com.project.artists.dto.response;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * DTO de resposta detalhada de um artista
  */
 public class ArtistResponseDTO {
     
+    /** Campos aceitos em fields= */
+    public static final Set<String> FIELDS = Set.of("id", "name", "bio", "albumCount", "albums", "albumsNext", "createdAt", "updatedAt");
+    
     private Long id;
     private String name;
     private String bio;
     private Integer albumCount;
+    
+    // Primeiros álbuns (mais recentes primeiro); o total está em albumCount
     private List<AlbumSummaryDTO> albums = new ArrayList<>();
+    
+    // Link da página seguinte em /albums/artist/{id}; null se albums já tem todos
+    private String albumsNext;
+    
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -43,6 +53,9 @@ public class ArtistResponseDTO {
     public List<AlbumSummaryDTO> getAlbums() { return albums; }
     public void setAlbums(List<AlbumSummaryDTO> albums) { this.albums = albums; }
     
+    public String getAlbumsNext() { return albumsNext; }
+    public void setAlbumsNext(String albumsNext) { this.albumsNext = albumsNext; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
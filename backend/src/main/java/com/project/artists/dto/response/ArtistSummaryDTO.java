@@ -1,10 +1,15 @@
 package com.project.artists.dto.response;
 
+import java.util.Set;
+
 /**
  * DTO resumido de artista (para listagens)
  */
 public class ArtistSummaryDTO {
     
+    /** Campos aceitos em fields= */
+    public static final Set<String> FIELDS = Set.of("id", "name", "albumCount");
+    
     private Long id;
     private String name;
     private Integer albumCount;
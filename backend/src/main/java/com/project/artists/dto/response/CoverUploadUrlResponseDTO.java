@@ -0,0 +1,51 @@
+package com.project.artists.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta com a URL de upload direto de capa
+ * 
+ * O cliente envia o arquivo com PUT em uploadUrl, com o header
+ * Content-Type igual a contentType, e depois confirma objectKey em
+ * POST /albums/{id}/covers/confirm.
+ */
+public class CoverUploadUrlResponseDTO {
+    
+    private String objectKey;
+    private String uploadUrl;
+    private String method = "PUT";
+    private String contentType;
+    private long maxSize;
+    private LocalDateTime expiresAt;
+    
+    // Construtores
+    public CoverUploadUrlResponseDTO() {}
+    
+    public CoverUploadUrlResponseDTO(String objectKey, String uploadUrl, String contentType,
+                                     long maxSize, LocalDateTime expiresAt) {
+        this.objectKey = objectKey;
+        this.uploadUrl = uploadUrl;
+        this.contentType = contentType;
+        this.maxSize = maxSize;
+        this.expiresAt = expiresAt;
+    }
+    
+    // Getters e Setters
+    public String getObjectKey() { return objectKey; }
+    public void setObjectKey(String objectKey) { this.objectKey = objectKey; }
+    
+    public String getUploadUrl() { return uploadUrl; }
+    public void setUploadUrl(String uploadUrl) { this.uploadUrl = uploadUrl; }
+    
+    public String getMethod() { return method; }
+    public void setMethod(String method) { this.method = method; }
+    
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    
+    public long getMaxSize() { return maxSize; }
+    public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+    
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
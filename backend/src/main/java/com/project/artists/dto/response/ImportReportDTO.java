@@ -0,0 +1,88 @@
+package com.project.artists.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Relatório de uma importação NDJSON do catálogo
+ * 
+ * A lista de erros é limitada (maxErrors); além do limite só o contador
+ * failed continua crescendo e errorsTruncated fica true.
+ */
+public class ImportReportDTO {
+    
+    private long linesRead;
+    private long artistsCreated;
+    private long albumsCreated;
+    private long failed;
+    private List<LineError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private long tempoExecucaoMs;
+    
+    private final int maxErrors;
+    
+    public ImportReportDTO(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+    
+    /**
+     * Erro associado a uma linha do arquivo (1 = primeira linha)
+     */
+    public static class LineError {
+        private long line;
+        private String message;
+        
+        public LineError() {}
+        
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+        
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+        
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+    
+    public void lineRead() {
+        linesRead++;
+    }
+    
+    public void addError(long line, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new LineError(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+    
+    public void addCreated(int artists, int albums) {
+        artistsCreated += artists;
+        albumsCreated += albums;
+    }
+    
+    // Getters e Setters
+    public long getLinesRead() { return linesRead; }
+    public void setLinesRead(long linesRead) { this.linesRead = linesRead; }
+    
+    public long getArtistsCreated() { return artistsCreated; }
+    public void setArtistsCreated(long artistsCreated) { this.artistsCreated = artistsCreated; }
+    
+    public long getAlbumsCreated() { return albumsCreated; }
+    public void setAlbumsCreated(long albumsCreated) { this.albumsCreated = albumsCreated; }
+    
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+    
+    public List<LineError> getErrors() { return errors; }
+    public void setErrors(List<LineError> errors) { this.errors = errors; }
+    
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+    
+    public long getTempoExecucaoMs() { return tempoExecucaoMs; }
+    public void setTempoExecucaoMs(long tempoExecucaoMs) { this.tempoExecucaoMs = tempoExecucaoMs; }
+}
@@ -1,5 +1,7 @@
 package com.project.artists.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
@@ -16,6 +18,10 @@ public class PageResponseDTO<T> {
     private boolean last;
     private boolean empty;
     
+    // Próxima página no modo cursor (null quando não há mais páginas ou no modo offset)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    
     // Construtores
     public PageResponseDTO() {}
     
@@ -31,6 +37,22 @@ public class PageResponseDTO<T> {
         this.empty = content.isEmpty();
     }
     
+    /**
+     * Página do modo cursor (keyset): não calcula o total, por isso
+     * totalElements e totalPages são -1
+     */
+    public PageResponseDTO(List<T> content, int pageSize, boolean first, String nextCursor) {
+        this.content = content;
+        this.pageNumber = 0;
+        this.pageSize = pageSize;
+        this.totalElements = -1;
+        this.totalPages = -1;
+        this.first = first;
+        this.last = (nextCursor == null);
+        this.empty = content.isEmpty();
+        this.nextCursor = nextCursor;
+    }
+    
     // Getters e Setters
     public List<T> getContent() { return content; }
     public void setContent(List<T> content) { this.content = content; }
@@ -55,4 +77,7 @@ public class PageResponseDTO<T> {
     
     public boolean isEmpty() { return empty; }
     public void setEmpty(boolean empty) { this.empty = empty; }
+    
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
 }
\ No newline at end of file
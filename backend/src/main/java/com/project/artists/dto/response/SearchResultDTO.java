@@ -0,0 +1,68 @@
+package com.project.artists.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * DTO de resultado da busca unificada
+ * 
+ * Além de tipo, id e rótulo (título ou nome), traz o que os cards das
+ * listagens mostram: ano, artistas e capa nos álbuns, total de álbuns
+ * nos artistas. Campos que não se aplicam ao tipo ficam fora do JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchResultDTO {
+    
+    private Type type;
+    private Long id;
+    private String label;
+    private Float rank;
+    private Integer releaseYear;
+    private List<String> artistNames;
+    private String coverUrl; // Primeira capa, na largura da listagem
+    private Integer albumCount;
+    
+    // Construtores
+    public SearchResultDTO() {}
+    
+    public SearchResultDTO(Type type, Long id, String label, Float rank) {
+        this.type = type;
+        this.id = id;
+        this.label = label;
+        this.rank = rank;
+    }
+    
+    // Getters e Setters
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+    
+    public Float getRank() { return rank; }
+    public void setRank(Float rank) { this.rank = rank; }
+    
+    public Integer getReleaseYear() { return releaseYear; }
+    public void setReleaseYear(Integer releaseYear) { this.releaseYear = releaseYear; }
+    
+    public List<String> getArtistNames() { return artistNames; }
+    public void setArtistNames(List<String> artistNames) { this.artistNames = artistNames; }
+    
+    public String getCoverUrl() { return coverUrl; }
+    public void setCoverUrl(String coverUrl) { this.coverUrl = coverUrl; }
+    
+    public Integer getAlbumCount() { return albumCount; }
+    public void setAlbumCount(Integer albumCount) { this.albumCount = albumCount; }
+    
+    /**
+     * Tipo do item encontrado
+     */
+    public enum Type {
+        ALBUM,
+        ARTIST
+    }
+}
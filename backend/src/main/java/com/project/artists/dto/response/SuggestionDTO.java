@@ -0,0 +1,25 @@
+package com.project.artists.dto.response;
+
+/**
+ * DTO de sugestão do autocomplete
+ */
+public class SuggestionDTO {
+    
+    private Long id;
+    private String label;
+    
+    // Construtores
+    public SuggestionDTO() {}
+    
+    public SuggestionDTO(Long id, String label) {
+        this.id = id;
+        this.label = label;
+    }
+    
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+}
@@ -21,7 +21,8 @@ import java.util.Set;
 public class Album {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "albums_seq")
+    @SequenceGenerator(name = "albums_seq", sequenceName = "albums_id_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Título do álbum é obrigatório")
@@ -46,6 +47,15 @@ public class Album {
     @Column(name = "cover_urls", columnDefinition = "jsonb")
     private List<String> coverUrls = new ArrayList<>();
     
+    /**
+     * Campos derivados de cover_urls, mantidos em setCoverUrls
+     */
+    @Column(name = "cover_count", nullable = false)
+    private Integer coverCount = 0;
+    
+    @Column(name = "first_cover", length = 500)
+    private String firstCover;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -112,6 +122,15 @@ public class Album {
     
     public void setCoverUrls(List<String> coverUrls) { 
         this.coverUrls = coverUrls; 
+        refreshCoverMetadata();
+    }
+    
+    public Integer getCoverCount() { 
+        return coverCount; 
+    }
+    
+    public String getFirstCover() { 
+        return firstCover; 
     }
     
     public LocalDateTime getCreatedAt() { 
@@ -122,6 +141,17 @@ public class Album {
         return updatedAt; 
     }
     
+    // Recalcula contagem e primeira capa a partir de cover_urls
+    private void refreshCoverMetadata() {
+        if (coverUrls == null || coverUrls.isEmpty()) {
+            this.coverCount = 0;
+            this.firstCover = null;
+        } else {
+            this.coverCount = coverUrls.size();
+            this.firstCover = coverUrls.get(0);
+        }
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -19,7 +19,8 @@ import java.util.Set;
 public class Artist {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "artists_seq")
+    @SequenceGenerator(name = "artists_seq", sequenceName = "artists_id_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Nome do artista é obrigatório")
@@ -36,6 +37,12 @@ public class Artist {
     @JsonIgnore
     private Set<Album> albums = new HashSet<>();
     
+    /**
+     * Quantidade de álbuns (denormalizada, mantida pelo AlbumService)
+     */
+    @Column(name = "album_count", nullable = false)
+    private Integer albumCount = 0;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -96,6 +103,14 @@ public class Artist {
         this.albums = albums; 
     }
     
+    public Integer getAlbumCount() { 
+        return albumCount; 
+    }
+    
+    public void setAlbumCount(Integer albumCount) { 
+        this.albumCount = albumCount; 
+    }
+    
     public LocalDateTime getCreatedAt() { 
         return createdAt; 
     }
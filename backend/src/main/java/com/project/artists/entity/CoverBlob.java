@@ -0,0 +1,50 @@
+package com.project.artists.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Objeto de capa no armazenamento, nomeado pelo SHA-256 do conteúdo
+ * 
+ * ref_count conta as ocorrências do objeto em albums.cover_urls (a mesma
+ * imagem em dois álbuns, ou duas vezes no mesmo, conta 2). Mantido pelo
+ * CoverBlobService com UPDATEs relativos, nunca pela entidade carregada.
+ */
+@Entity
+@Table(name = "cover_blobs")
+public class CoverBlob {
+    
+    @Id
+    @Column(name = "object_name", length = 500)
+    private String objectName;
+    
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 0;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    // Construtores
+    public CoverBlob() {}
+    
+    public CoverBlob(String objectName, Integer refCount) {
+        this.objectName = objectName;
+        this.refCount = refCount;
+    }
+    
+    // Getters
+    public String getObjectName() { 
+        return objectName; 
+    }
+    
+    public Integer getRefCount() { 
+        return refCount; 
+    }
+    
+    public LocalDateTime getCreatedAt() { 
+        return createdAt; 
+    }
+}
@@ -1,15 +1,36 @@
 package com.project.artists.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
+/**
+ * Entidade Regional
+ * 
+ * O id vem da API externa. Implementa Persistable para que o save() de um
+ * regional marcado como novo vá direto para INSERT (em batch), sem o SELECT
+ * que o merge faria para descobrir se o id já existe.
+ * 
+ * Dado de referência (muda no máximo uma vez por dia, na sincronização):
+ * fica no cache de segundo nível do Hibernate, entidades na região
+ * CACHE_REGION e listagens na QUERY_CACHE_REGION. A sincronização esvazia
+ * as duas ao final (RegionalSyncServiceImpl).
+ */
 @Entity
 @Table(name = "regional")
-public class Regional {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Regional.CACHE_REGION)
+public class Regional implements Persistable<Integer> {
+    
+    public static final String CACHE_REGION = "regional";
+    public static final String QUERY_CACHE_REGION = "regional-queries";
     
     @Id
     private Integer id;
@@ -29,6 +50,9 @@ public class Regional {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    @Transient
+    private boolean novo = false;
+    
     // Construtores
     public Regional() {}
     
@@ -38,7 +62,26 @@ public class Regional {
         this.ativo = ativo;
     }
     
+    /**
+     * Marca o regional como inexistente no banco (INSERT direto no save)
+     */
+    public Regional marcarNovo() {
+        this.novo = true;
+        return this;
+    }
+    
+    @Override
+    @JsonIgnore
+    public boolean isNew() { return novo; }
+    
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+    
     // Getters e Setters
+    @Override
     public Integer getId() { return id; }
     public void setId(Integer id) { this.id = id; }
     
@@ -0,0 +1,11 @@
+package com.project.artists.exception;
+
+/**
+ * Exception para recursos que o ambiente atual não oferece (501)
+ */
+public class NotImplementedException extends RuntimeException {
+    
+    public NotImplementedException(String message) {
+        super(message);
+    }
+}
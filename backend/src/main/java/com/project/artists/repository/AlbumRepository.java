@@ -1,15 +1,107 @@
 package com.project.artists.repository;
 
 import com.project.artists.entity.Album;
+import com.project.artists.repository.projection.AlbumArtistNameView;
+import com.project.artists.repository.projection.AlbumCoversView;
+import com.project.artists.repository.projection.AlbumSummaryView;
+import com.project.artists.repository.projection.SuggestionEntryView;
+import com.project.artists.repository.projection.VersionStampView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface AlbumRepository extends JpaRepository<Album, Long> {
-    Page<Album> findByArtists_Id(Long artistId, Pageable pageable);
-    Page<Album> findByTitleContainingIgnoreCase(String title, Pageable pageable);
-    Page<Album> findDistinctByArtists_NameContainingIgnoreCase(String name, Pageable pageable);
-    
+public interface AlbumRepository extends JpaRepository<Album, Long>, AlbumRepositoryCustom {
+
+    /*
+     * Consultas de listagem: retornam projeções da tabela albums.
+     * Os nomes dos artistas da página são buscados depois, em uma única
+     * consulta (findArtistNamesByAlbumIds), evitando o N+1 do lazy loading.
+     */
+
+    @Query(value = "select a.id as id, a.title as title, a.releaseYear as releaseYear, a.firstCover as firstCover " +
+                   "from Album a",
+           countQuery = "select count(a) from Album a")
+    Page<AlbumSummaryView> findAllSummaries(Pageable pageable);
+
+    @Query(value = "select a.id as id, a.title as title, a.releaseYear as releaseYear, a.firstCover as firstCover " +
+                   "from Album a join a.artists ar where ar.id = :artistId",
+           countQuery = "select count(a) from Album a join a.artists ar where ar.id = :artistId")
+    Page<AlbumSummaryView> findSummariesByArtistId(@Param("artistId") Long artistId, Pageable pageable);
+
+    /*
+     * Buscas textuais (native): o filtro "immutable_unaccent(lower(col)) LIKE"
+     * usa os índices GIN trigram da V10 e ignora acentos; a ordenação é pela
+     * similaridade com o termo. :pattern já vem escapado de SearchText.
+     */
+
+    @Query(value = "SELECT a.id AS id, a.title AS title, a.release_year AS \"releaseYear\", " +
+                   "a.first_cover AS \"firstCover\" FROM albums a " +
+                   "WHERE immutable_unaccent(lower(a.title)) LIKE immutable_unaccent(lower(:pattern)) " +
+                   "ORDER BY similarity(immutable_unaccent(lower(a.title)), immutable_unaccent(lower(:term))) DESC, " +
+                   "a.title, a.id",
+           countQuery = "SELECT count(*) FROM albums a " +
+                        "WHERE immutable_unaccent(lower(a.title)) LIKE immutable_unaccent(lower(:pattern))",
+           nativeQuery = true)
+    Page<AlbumSummaryView> searchSummariesByTitle(@Param("term") String term,
+                                                  @Param("pattern") String pattern,
+                                                  Pageable pageable);
+
+    @Query(value = "SELECT a.id AS id, a.title AS title, a.release_year AS \"releaseYear\", " +
+                   "a.first_cover AS \"firstCover\" FROM albums a " +
+                   "JOIN (SELECT aa.album_id, " +
+                   "      max(similarity(immutable_unaccent(lower(ar.name)), immutable_unaccent(lower(:term)))) AS score " +
+                   "      FROM artist_album aa JOIN artists ar ON ar.id = aa.artist_id " +
+                   "      WHERE immutable_unaccent(lower(ar.name)) LIKE immutable_unaccent(lower(:pattern)) " +
+                   "      GROUP BY aa.album_id) m ON m.album_id = a.id " +
+                   "ORDER BY m.score DESC, a.release_year DESC NULLS LAST, a.id",
+           countQuery = "SELECT count(DISTINCT aa.album_id) FROM artist_album aa " +
+                        "JOIN artists ar ON ar.id = aa.artist_id " +
+                        "WHERE immutable_unaccent(lower(ar.name)) LIKE immutable_unaccent(lower(:pattern))",
+           nativeQuery = true)
+    Page<AlbumSummaryView> searchSummariesByArtistName(@Param("term") String term,
+                                                       @Param("pattern") String pattern,
+                                                       Pageable pageable);
+
+    /**
+     * Versão do detalhe do álbum: updated_at do álbum e dos artistas embutidos
+     */
+    @Query("select a.updatedAt as updatedAt, ar.id as relatedId, ar.updatedAt as relatedUpdatedAt " +
+           "from Album a left join a.artists ar where a.id = :id")
+    List<VersionStampView> findVersionStamps(@Param("id") Long id);
+
+    @Query("select a.id from Album a join a.artists ar where ar.id = :artistId")
+    List<Long> findIdsByArtistId(@Param("artistId") Long artistId);
+
+    @Query("select a.id as id, a.title as label from Album a")
+    List<SuggestionEntryView> findAllSuggestionEntries();
+
+    @Query("select a.id as albumId, ar.name as artistName " +
+           "from Album a join a.artists ar where a.id in :albumIds order by ar.name")
+    List<AlbumArtistNameView> findArtistNamesByAlbumIds(@Param("albumIds") Collection<Long> albumIds);
+
+    /**
+     * Capas dos álbuns com id maior que afterId, em ordem de id (lotes keyset)
+     */
+    @Query("select a.id as id, a.coverUrls as coverUrls from Album a " +
+           "where a.id > :afterId and a.coverCount > 0 order by a.id")
+    List<AlbumCoversView> findCoversAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Recalcula cover_count e first_cover das linhas divergentes de cover_urls
+     */
+    @Modifying
+    @Query(value = "UPDATE albums SET cover_count = COALESCE(jsonb_array_length(cover_urls), 0), " +
+                   "first_cover = cover_urls ->> 0 " +
+                   "WHERE cover_count <> COALESCE(jsonb_array_length(cover_urls), 0) " +
+                   "OR first_cover IS DISTINCT FROM (cover_urls ->> 0)",
+           nativeQuery = true)
+    int repairCoverCounters();
 }
@@ -0,0 +1,29 @@
+package com.project.artists.repository;
+
+import com.project.artists.repository.projection.AlbumSummaryView;
+import com.project.artists.util.KeysetCursor;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consultas de álbuns montadas dinamicamente (implementadas em AlbumRepositoryImpl)
+ */
+public interface AlbumRepositoryCustom {
+    
+    /**
+     * Campos aceitos na paginação keyset, todos cobertos por índice (campo, id)
+     */
+    Set<String> CURSOR_SORT_FIELDS = Set.of("title", "releaseYear", "id");
+    
+    /**
+     * Busca a próxima fatia de resumos após o cursor, sem COUNT e sem OFFSET
+     * 
+     * @param artistId filtra pelos álbuns do artista (opcional)
+     * @param after última tupla entregue (null para a primeira página)
+     * @param limit quantidade máxima de linhas
+     */
+    List<AlbumSummaryView> findSummariesAfter(Long artistId, KeysetCursor after,
+                                              String sortBy, Sort.Direction direction, int limit);
+}
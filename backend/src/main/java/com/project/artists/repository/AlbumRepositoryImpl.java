@@ -0,0 +1,102 @@
+package com.project.artists.repository;
+
+import com.project.artists.repository.projection.AlbumSummaryRow;
+import com.project.artists.repository.projection.AlbumSummaryView;
+import com.project.artists.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação do fragmento AlbumRepositoryCustom
+ */
+public class AlbumRepositoryImpl implements AlbumRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<AlbumSummaryView> findSummariesAfter(Long artistId, KeysetCursor after,
+                                                     String sortBy, Sort.Direction direction, int limit) {
+        String sortKey = sortKeyExpression(sortBy);
+        String operator = direction.isAscending() ? ">" : "<";
+        String order = direction.isAscending() ? "asc" : "desc";
+        
+        StringBuilder jpql = new StringBuilder(
+            "select a.id as id, a.title as title, a.releaseYear as releaseYear, a.firstCover as firstCover from Album a");
+        List<String> conditions = new ArrayList<>();
+        
+        if (artistId != null) {
+            jpql.append(" join a.artists ar");
+            conditions.add("ar.id = :artistId");
+        }
+        
+        if (after != null) {
+            // Comparação de tupla: vira row value comparison no PostgreSQL e usa o índice (chave, id)
+            conditions.add(sortKey == null
+                ? "a.id " + operator + " :lastId"
+                : "(" + sortKey + ", a.id) " + operator + " (:sortValue, :lastId)");
+        }
+        
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        
+        jpql.append(" order by ");
+        if (sortKey != null) {
+            jpql.append(sortKey).append(' ').append(order).append(", ");
+        }
+        jpql.append("a.id ").append(order);
+        
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        
+        if (artistId != null) {
+            query.setParameter("artistId", artistId);
+        }
+        if (after != null) {
+            query.setParameter("lastId", after.getId());
+            if (sortKey != null) {
+                query.setParameter("sortValue", sortValue(sortBy, after.getSortValue()));
+            }
+        }
+        
+        return query.setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> new AlbumSummaryRow(
+                        tuple.get("id", Long.class),
+                        tuple.get("title", String.class),
+                        tuple.get("releaseYear", Integer.class),
+                        tuple.get("firstCover", String.class)))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Expressão da chave de ordenação (null quando a ordenação é só pelo id)
+     * 
+     * release_year é nulável; coalesce mantém a tupla comparável e casa com
+     * o índice de expressão criado na V9
+     */
+    private String sortKeyExpression(String sortBy) {
+        switch (sortBy) {
+            case "title":
+                return "a.title";
+            case "releaseYear":
+                return "coalesce(a.releaseYear, 0)";
+            case "id":
+                return null;
+            default:
+                throw new IllegalArgumentException("Ordenação não suportada: " + sortBy);
+        }
+    }
+    
+    private Object sortValue(String sortBy, String raw) {
+        return "releaseYear".equals(sortBy) ? Integer.valueOf(raw) : raw;
+    }
+}
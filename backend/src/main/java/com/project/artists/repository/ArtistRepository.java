@@ -1,12 +1,68 @@
 package com.project.artists.repository;
 
 import com.project.artists.entity.Artist;
+import com.project.artists.repository.projection.ArtistVersionStampView;
+import com.project.artists.repository.projection.SuggestionEntryView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface ArtistRepository extends JpaRepository<Artist, Long> {
-    Page<Artist> findByNameContainingIgnoreCase(String name, Pageable pageable);
+public interface ArtistRepository extends JpaRepository<Artist, Long>, ArtistRepositoryCustom {
+    /**
+     * Busca por nome ignorando acentos, via índice GIN trigram (V10),
+     * ordenada pela similaridade com o termo
+     */
+    @Query(value = "SELECT ar.* FROM artists ar " +
+                   "WHERE immutable_unaccent(lower(ar.name)) LIKE immutable_unaccent(lower(:pattern)) " +
+                   "ORDER BY similarity(immutable_unaccent(lower(ar.name)), immutable_unaccent(lower(:term))) DESC, " +
+                   "ar.name, ar.id",
+           countQuery = "SELECT count(*) FROM artists ar " +
+                        "WHERE immutable_unaccent(lower(ar.name)) LIKE immutable_unaccent(lower(:pattern))",
+           nativeQuery = true)
+    Page<Artist> searchByName(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Versão do detalhe do artista: updated_at e album_count do artista e
+     * updated_at dos álbuns embutidos, só os limit primeiros na ordem do
+     * detalhe (mesmo índice keyset), para o custo não crescer com a discografia
+     */
+    @Query(value = "SELECT ar.updated_at AS \"updatedAt\", ar.album_count AS \"albumCount\", " +
+                   "al.id AS \"relatedId\", al.updated_at AS \"relatedUpdatedAt\" " +
+                   "FROM artists ar LEFT JOIN (" +
+                   "    SELECT a.id, a.updated_at FROM albums a JOIN artist_album aa ON aa.album_id = a.id " +
+                   "    WHERE aa.artist_id = :id ORDER BY COALESCE(a.release_year, 0) DESC, a.id DESC LIMIT :limit" +
+                   ") al ON TRUE WHERE ar.id = :id",
+           nativeQuery = true)
+    List<ArtistVersionStampView> findVersionStamps(@Param("id") Long id, @Param("limit") int limit);
+
+    @Query("select ar.id as id, ar.name as label from Artist ar")
+    List<SuggestionEntryView> findAllSuggestionEntries();
+
+    /**
+     * Recalcula album_count dos artistas informados a partir de artist_album
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Artist ar set ar.albumCount = " +
+           "(select count(a) from Album a join a.artists x where x.id = ar.id) " +
+           "where ar.id in :artistIds")
+    int refreshAlbumCounts(@Param("artistIds") Collection<Long> artistIds);
+
+    /**
+     * Corrige album_count de todos os artistas cujo contador divergiu
+     */
+    @Modifying
+    @Query(value = "UPDATE artists ar SET album_count = c.total " +
+                   "FROM (SELECT ar2.id, COUNT(aa.album_id) AS total FROM artists ar2 " +
+                   "      LEFT JOIN artist_album aa ON aa.artist_id = ar2.id GROUP BY ar2.id) c " +
+                   "WHERE c.id = ar.id AND ar.album_count <> c.total",
+           nativeQuery = true)
+    int repairAlbumCounts();
 }
@@ -0,0 +1,24 @@
+package com.project.artists.repository;
+
+import com.project.artists.entity.Artist;
+import com.project.artists.util.KeysetCursor;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consultas de artistas montadas dinamicamente (implementadas em ArtistRepositoryImpl)
+ */
+public interface ArtistRepositoryCustom {
+    
+    /**
+     * Campos aceitos na paginação keyset, todos cobertos por índice (campo, id)
+     */
+    Set<String> CURSOR_SORT_FIELDS = Set.of("name", "id");
+    
+    /**
+     * Busca a próxima fatia de artistas após o cursor, sem COUNT e sem OFFSET
+     */
+    List<Artist> findAfter(KeysetCursor after, String sortBy, Sort.Direction direction, int limit);
+}
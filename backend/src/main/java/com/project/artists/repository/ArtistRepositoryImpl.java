@@ -0,0 +1,51 @@
+package com.project.artists.repository;
+
+import com.project.artists.entity.Artist;
+import com.project.artists.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Implementação do fragmento ArtistRepositoryCustom
+ */
+public class ArtistRepositoryImpl implements ArtistRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Artist> findAfter(KeysetCursor after, String sortBy, Sort.Direction direction, int limit) {
+        boolean byName = "name".equals(sortBy);
+        String operator = direction.isAscending() ? ">" : "<";
+        String order = direction.isAscending() ? "asc" : "desc";
+        
+        StringBuilder jpql = new StringBuilder("select ar from Artist ar");
+        
+        if (after != null) {
+            jpql.append(byName
+                ? " where (ar.name, ar.id) " + operator + " (:sortValue, :lastId)"
+                : " where ar.id " + operator + " :lastId");
+        }
+        
+        jpql.append(" order by ");
+        if (byName) {
+            jpql.append("ar.name ").append(order).append(", ");
+        }
+        jpql.append("ar.id ").append(order);
+        
+        TypedQuery<Artist> query = entityManager.createQuery(jpql.toString(), Artist.class);
+        
+        if (after != null) {
+            query.setParameter("lastId", after.getId());
+            if (byName) {
+                query.setParameter("sortValue", after.getSortValue());
+            }
+        }
+        
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.artists.repository;
+
+import com.project.artists.repository.projection.SearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Busca unificada sobre albums.search_vector e artists.search_vector (V11)
+ * 
+ * Cada ramo do UNION ALL usa o índice GIN da sua tabela; o resultado é
+ * ordenado por (rank, type, id) decrescente e paginado por keyset a
+ * partir da última linha entregue.
+ */
+@Repository
+public class CatalogSearchRepository {
+    
+    public static final String TYPE_ALBUM = "ALBUM";
+    public static final String TYPE_ARTIST = "ARTIST";
+    
+    private static final String ALBUM_BRANCH =
+        "SELECT 'ALBUM' AS type, a.id AS id, a.title AS label, ts_rank(a.search_vector, q.query) AS rank, " +
+        "a.release_year AS release_year, CAST(NULL AS INTEGER) AS album_count, a.first_cover AS first_cover " +
+        "FROM albums a, to_tsquery('simple', :query) q(query) " +
+        "WHERE a.search_vector @@ q.query";
+    
+    /** Álbuns pelo nome dos artistas: rank do artista mais relevante do álbum */
+    private static final String ALBUM_BY_ARTIST_BRANCH =
+        "SELECT 'ALBUM' AS type, a.id AS id, a.title AS label, MAX(ts_rank(ar.search_vector, q.query)) AS rank, " +
+        "a.release_year AS release_year, CAST(NULL AS INTEGER) AS album_count, a.first_cover AS first_cover " +
+        "FROM artists ar JOIN artist_album aa ON aa.artist_id = ar.id JOIN albums a ON a.id = aa.album_id, " +
+        "to_tsquery('simple', :query) q(query) " +
+        "WHERE ar.search_vector @@ q.query " +
+        "GROUP BY a.id, a.title, a.release_year, a.first_cover";
+    
+    private static final String ARTIST_BRANCH =
+        "SELECT 'ARTIST' AS type, ar.id AS id, ar.name AS label, ts_rank(ar.search_vector, q.query) AS rank, " +
+        "CAST(NULL AS INTEGER) AS release_year, ar.album_count AS album_count, CAST(NULL AS VARCHAR) AS first_cover " +
+        "FROM artists ar, to_tsquery('simple', :query) q(query) " +
+        "WHERE ar.search_vector @@ q.query";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * @param tsQuery tsquery já normalizado (SearchText.prefixTsQuery)
+     * @param type     ALBUM, ARTIST ou null para ambos
+     * @param byArtist busca álbuns pelo nome dos seus artistas em vez do
+     *                 título (só álbuns, ignora type)
+     * @param after    última linha da página anterior ou null
+     */
+    public List<SearchHit> search(String tsQuery, String type, boolean byArtist, SearchHit after, int limit) {
+        List<String> branches = new ArrayList<>();
+        if (byArtist) {
+            branches.add(ALBUM_BY_ARTIST_BRANCH);
+        } else if (type == null || TYPE_ALBUM.equals(type)) {
+            branches.add(ALBUM_BRANCH);
+        }
+        if (!byArtist && (type == null || TYPE_ARTIST.equals(type))) {
+            branches.add(ARTIST_BRANCH);
+        }
+        
+        StringBuilder sql = new StringBuilder("SELECT r.type, r.id, r.label, r.rank, r.release_year, r.album_count, r.first_cover FROM (")
+                .append(String.join(" UNION ALL ", branches))
+                .append(") r");
+        
+        if (after != null) {
+            sql.append(" WHERE (r.rank, r.type, r.id) < (CAST(:lastRank AS real), :lastType, :lastId)");
+        }
+        
+        sql.append(" ORDER BY r.rank DESC, r.type DESC, r.id DESC");
+        
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("query", tsQuery)
+                .setMaxResults(limit);
+        
+        if (after != null) {
+            query.setParameter("lastRank", after.getRank())
+                 .setParameter("lastType", after.getType())
+                 .setParameter("lastId", after.getId());
+        }
+        
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        
+        return rows.stream()
+                .map(row -> new SearchHit(
+                        (String) row[0],
+                        ((Number) row[1]).longValue(),
+                        (String) row[2],
+                        ((Number) row[3]).floatValue(),
+                        row[4] == null ? null : ((Number) row[4]).intValue(),
+                        row[5] == null ? null : ((Number) row[5]).intValue(),
+                        (String) row[6]))
+                .collect(Collectors.toList());
+    }
+}
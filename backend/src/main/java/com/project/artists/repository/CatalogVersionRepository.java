@@ -0,0 +1,25 @@
+package com.project.artists.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Versão global do catálogo (catalog_version_shards, V16)
+ * 
+ * Soma das 16 linhas do contador: leitura comum, sem lock, com o mesmo
+ * snapshot dos dados confirmados.
+ */
+@Repository
+public class CatalogVersionRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public long currentVersion() {
+        Number version = (Number) entityManager
+                .createNativeQuery("SELECT COALESCE(SUM(version), 0) FROM catalog_version_shards")
+                .getSingleResult();
+        return version.longValue();
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.artists.repository;
+
+import com.project.artists.entity.CoverBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CoverBlobRepository extends JpaRepository<CoverBlob, String> {
+
+    /*
+     * Contagem de referências com UPDATEs relativos: o lock de linha do
+     * UPDATE serializa álbuns que referenciam a mesma imagem ao mesmo tempo.
+     */
+
+    /**
+     * Cria a linha com ref_count 0 se ainda não existe (a concorrente que
+     * perder a corrida espera o commit da outra e não insere nada)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cover_blobs (object_name, ref_count, created_at) " +
+                   "VALUES (:objectName, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("objectName") String objectName);
+
+    @Modifying
+    @Query("update CoverBlob b set b.refCount = b.refCount + :delta where b.objectName = :objectName")
+    int addReferences(@Param("objectName") String objectName, @Param("delta") int delta);
+
+    /**
+     * Apaga as linhas sem referência entre as informadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CoverBlob b where b.objectName in :objectNames and b.refCount <= 0")
+    int deleteUnreferenced(@Param("objectNames") Collection<String> objectNames);
+
+    /**
+     * Nomes com referência maiores que afterName, em ordem (lotes keyset)
+     */
+    @Query("select b.objectName from CoverBlob b where b.objectName > :afterName and b.refCount > 0 " +
+           "order by b.objectName")
+    List<String> findReferencedNamesAfter(@Param("afterName") String afterName, Pageable pageable);
+
+    @Query("select b.objectName from CoverBlob b where b.objectName in :objectNames")
+    List<String> findExistingNames(@Param("objectNames") Collection<String> objectNames);
+}
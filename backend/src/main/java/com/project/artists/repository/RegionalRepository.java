@@ -1,12 +1,31 @@
 package com.project.artists.repository;
 
 import com.project.artists.entity.Regional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
+/**
+ * Listagens de regionais usam o cache de consultas do Hibernate (região
+ * Regional.QUERY_CACHE_REGION); as entidades vêm do cache de segundo nível
+ */
 @Repository
 public interface RegionalRepository extends JpaRepository<Regional, Integer> {
+    
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Regional.QUERY_CACHE_REGION)
+    })
+    List<Regional> findAll();
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Regional.QUERY_CACHE_REGION)
+    })
     List<Regional> findByAtivoTrue();
 }
@@ -0,0 +1,12 @@
+package com.project.artists.repository.projection;
+
+/**
+ * Projeção (álbum, nome do artista) usada para montar as listagens
+ * com uma única consulta em artist_album para a página inteira
+ */
+public interface AlbumArtistNameView {
+
+    Long getAlbumId();
+
+    String getArtistName();
+}
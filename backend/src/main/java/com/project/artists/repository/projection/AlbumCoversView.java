@@ -0,0 +1,13 @@
+package com.project.artists.repository.projection;
+
+import java.util.List;
+
+/**
+ * Projeção (álbum, capas) usada pelos jobs que percorrem as capas em lotes
+ */
+public interface AlbumCoversView {
+
+    Long getId();
+
+    List<String> getCoverUrls();
+}
@@ -0,0 +1,32 @@
+package com.project.artists.repository.projection;
+
+/**
+ * Implementação simples de AlbumSummaryView para consultas montadas
+ * manualmente nos fragmentos customizados dos repositórios
+ */
+public class AlbumSummaryRow implements AlbumSummaryView {
+    
+    private final Long id;
+    private final String title;
+    private final Integer releaseYear;
+    private final String firstCover;
+    
+    public AlbumSummaryRow(Long id, String title, Integer releaseYear, String firstCover) {
+        this.id = id;
+        this.title = title;
+        this.releaseYear = releaseYear;
+        this.firstCover = firstCover;
+    }
+    
+    @Override
+    public Long getId() { return id; }
+    
+    @Override
+    public String getTitle() { return title; }
+    
+    @Override
+    public Integer getReleaseYear() { return releaseYear; }
+    
+    @Override
+    public String getFirstCover() { return firstCover; }
+}
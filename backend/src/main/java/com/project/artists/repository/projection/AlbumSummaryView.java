@@ -0,0 +1,18 @@
+package com.project.artists.repository.projection;
+
+/**
+ * Projeção de uma linha da listagem de álbuns
+ *
+ * Lê apenas colunas da tabela albums, sem inicializar o relacionamento
+ * com artistas (os nomes são carregados em lote por AlbumArtistNameView)
+ */
+public interface AlbumSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    Integer getReleaseYear();
+
+    String getFirstCover();
+}
@@ -0,0 +1,10 @@
+package com.project.artists.repository.projection;
+
+/**
+ * Carimbo de versão do detalhe do artista: além dos álbuns embutidos, o
+ * album_count, que muda quando entra ou sai um álbum fora da janela
+ */
+public interface ArtistVersionStampView extends VersionStampView {
+
+    Integer getAlbumCount();
+}
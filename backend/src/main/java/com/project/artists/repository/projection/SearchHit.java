@@ -0,0 +1,46 @@
+package com.project.artists.repository.projection;
+
+/**
+ * Linha do resultado da busca unificada (álbum ou artista)
+ * 
+ * releaseYear e firstCover só vêm em álbuns; albumCount só em artistas
+ */
+public class SearchHit {
+    
+    private final String type;
+    private final Long id;
+    private final String label;
+    private final float rank;
+    private final Integer releaseYear;
+    private final Integer albumCount;
+    private final String firstCover;
+    
+    public SearchHit(String type, Long id, String label, float rank) {
+        this(type, id, label, rank, null, null, null);
+    }
+    
+    public SearchHit(String type, Long id, String label, float rank,
+                     Integer releaseYear, Integer albumCount, String firstCover) {
+        this.type = type;
+        this.id = id;
+        this.label = label;
+        this.rank = rank;
+        this.releaseYear = releaseYear;
+        this.albumCount = albumCount;
+        this.firstCover = firstCover;
+    }
+    
+    public String getType() { return type; }
+    
+    public Long getId() { return id; }
+    
+    public String getLabel() { return label; }
+    
+    public float getRank() { return rank; }
+    
+    public Integer getReleaseYear() { return releaseYear; }
+    
+    public Integer getAlbumCount() { return albumCount; }
+    
+    public String getFirstCover() { return firstCover; }
+}
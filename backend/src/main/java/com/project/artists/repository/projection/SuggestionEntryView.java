@@ -0,0 +1,11 @@
+package com.project.artists.repository.projection;
+
+/**
+ * Projeção (id, rótulo) usada na carga do índice de autocomplete
+ */
+public interface SuggestionEntryView {
+
+    Long getId();
+
+    String getLabel();
+}
@@ -0,0 +1,16 @@
+package com.project.artists.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Carimbo de versão de um registro e de cada registro relacionado que
+ * aparece embutido no seu DTO de detalhe (uma linha por relacionado)
+ */
+public interface VersionStampView {
+
+    LocalDateTime getUpdatedAt();
+
+    Long getRelatedId();
+
+    LocalDateTime getRelatedUpdatedAt();
+}
@@ -0,0 +1,38 @@
+package com.project.artists.scheduler;
+
+import com.project.artists.service.CatalogCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled Job para reparo dos contadores denormalizados do catálogo
+ * 
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.counter-repair",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false
+)
+public class CatalogCounterRepairScheduler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCounterRepairScheduler.class);
+    
+    @Autowired
+    private CatalogCounterService catalogCounterService;
+    
+    @Scheduled(cron = "${app.counter-repair.cron:0 30 3 * * ?}")
+    public void repararContadores() {
+        try {
+            int corrigidos = catalogCounterService.repairCounters();
+            logger.info("Reparo de contadores concluído: {} linha(s) corrigida(s)", corrigidos);
+        } catch (Exception e) {
+            logger.error("Erro durante reparo de contadores", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.artists.scheduler;
+
+import com.project.artists.service.StorageReconcilerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled Job que remove do armazenamento as capas que nenhum álbum
+ * referencia
+ * 
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.storage.reconciler",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false
+)
+public class StorageReconcilerScheduler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StorageReconcilerScheduler.class);
+    
+    @Autowired
+    private StorageReconcilerService storageReconcilerService;
+    
+    @Scheduled(cron = "${app.storage.reconciler.cron:0 30 4 * * ?}")
+    public void removerCapasOrfas() {
+        try {
+            StorageReconcilerService.Result result = storageReconcilerService.reconcile();
+            logger.info("Reconciliação do armazenamento concluída: {} objeto(s) listado(s), {} órfão(s), " +
+                    "{} removido(s), {} bytes liberados",
+                    result.scanned(), result.orphans(), result.deleted(), result.reclaimedBytes());
+        } catch (Exception e) {
+            logger.error("Erro durante reconciliação do armazenamento", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.artists.scheduler;
+
+import com.project.artists.service.ThumbnailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled Job que gera as miniaturas que faltam (capas anteriores ao
+ * pipeline ou descartadas com a fila cheia)
+ * 
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.thumbnails.backfill",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false
+)
+public class ThumbnailBackfillScheduler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailBackfillScheduler.class);
+    
+    @Autowired
+    private ThumbnailService thumbnailService;
+    
+    @Scheduled(cron = "${app.thumbnails.backfill.cron:0 0 4 * * ?}")
+    public void gerarMiniaturasPendentes() {
+        try {
+            int capas = thumbnailService.backfill();
+            logger.info("Backfill de miniaturas concluído: {} capa(s) processada(s)", capas);
+        } catch (Exception e) {
+            logger.error("Erro durante backfill de miniaturas", e);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.project.artists.service;
 
 import com.project.artists.dto.request.AlbumRequestDTO;
+import com.project.artists.dto.request.CoverConfirmRequestDTO;
+import com.project.artists.dto.request.CoverUploadUrlRequestDTO;
+import com.project.artists.dto.request.CursorPageRequest;
 import com.project.artists.dto.response.AlbumResponseDTO;
 import com.project.artists.dto.response.AlbumSummaryDTO;
+import com.project.artists.dto.response.CoverUploadUrlResponseDTO;
 import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.ResourceVersion;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -18,11 +24,35 @@ public interface AlbumService {
     AlbumResponseDTO create(AlbumRequestDTO request);
     
 
+    /**
+     * Detalhe completo, sem cache
+     */
     AlbumResponseDTO findById(Long id);
     
-    PageResponseDTO<AlbumSummaryDTO> findAll(Pageable pageable);
+    /**
+     * Detalhe completo na versão informada (a de findVersion); o cache só
+     * atende se o detalhe guardado foi montado sob o mesmo ETag
+     */
+    AlbumResponseDTO findById(Long id, ResourceVersion version);
+    
+    /**
+     * Detalhe apenas com os campos pedidos (sem carregar os demais), ou o detalhe
+     * completo em cache na mesma versão
+     */
+    AlbumResponseDTO findById(Long id, FieldSet fields, ResourceVersion version);
+    
+    /**
+     * ETag/Last-Modified do detalhe, sem carregar o álbum
+     */
+    ResourceVersion findVersion(Long id);
+    
+    PageResponseDTO<AlbumSummaryDTO> findAll(Pageable pageable, FieldSet fields);
 
-    PageResponseDTO<AlbumSummaryDTO> findByArtistId(Long artistId, Pageable pageable);
+    PageResponseDTO<AlbumSummaryDTO> findByArtistId(Long artistId, Pageable pageable, FieldSet fields);
+    
+    PageResponseDTO<AlbumSummaryDTO> findAllByCursor(CursorPageRequest request, FieldSet fields);
+    
+    PageResponseDTO<AlbumSummaryDTO> findByArtistIdByCursor(Long artistId, CursorPageRequest request, FieldSet fields);
     
     AlbumResponseDTO update(Long id, AlbumRequestDTO request);
 
@@ -30,6 +60,20 @@ public interface AlbumService {
     
     AlbumResponseDTO uploadCovers(Long id, List<MultipartFile> files);
     
+    /**
+     * Upload direto, passo 1: URL assinada para o cliente enviar a capa ao
+     * armazenamento sem passar pela aplicação; NotImplementedException (501)
+     * se o armazenamento não assina uploads
+     */
+    CoverUploadUrlResponseDTO createCoverUploadUrl(Long id, CoverUploadUrlRequestDTO request);
+    
+    /**
+     * Upload direto, passo 2: tira o objeto da chave de upload (que ainda
+     * aceita PUT até a URL expirar), confere e o adiciona às capas do álbum
+     * com o nome derivado do conteúdo, como no upload multipart
+     */
+    AlbumResponseDTO confirmCoverUpload(Long id, CoverConfirmRequestDTO request);
+    
     AlbumResponseDTO removeCover(Long id, String coverUrl);
 
     PageResponseDTO<AlbumSummaryDTO> searchByTitle(String title, Pageable pageable);
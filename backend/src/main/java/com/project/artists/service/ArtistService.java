@@ -1,9 +1,12 @@
 package com.project.artists.service;
 
 import com.project.artists.dto.request.ArtistRequestDTO;
+import com.project.artists.dto.request.CursorPageRequest;
 import com.project.artists.dto.response.ArtistResponseDTO;
 import com.project.artists.dto.response.ArtistSummaryDTO;
 import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.ResourceVersion;
 import org.springframework.data.domain.Pageable;
 
 /**
@@ -13,10 +16,32 @@ public interface ArtistService {
     
     ArtistResponseDTO create(ArtistRequestDTO request);
     
+    /**
+     * Detalhe completo, sem cache
+     */
     ArtistResponseDTO findById(Long id);
     
+    /**
+     * Detalhe completo na versão informada (a de findVersion); o cache só
+     * atende se o detalhe guardado foi montado sob o mesmo ETag
+     */
+    ArtistResponseDTO findById(Long id, ResourceVersion version);
+    
+    /**
+     * Detalhe apenas com os campos pedidos (sem álbuns, se não pedidos), ou o detalhe
+     * completo em cache na mesma versão
+     */
+    ArtistResponseDTO findById(Long id, FieldSet fields, ResourceVersion version);
+    
+    /**
+     * ETag/Last-Modified do detalhe, sem carregar o artista
+     */
+    ResourceVersion findVersion(Long id);
+    
     PageResponseDTO<ArtistSummaryDTO> findAll(Pageable pageable);
     
+    PageResponseDTO<ArtistSummaryDTO> findAllByCursor(CursorPageRequest request);
+    
     PageResponseDTO<ArtistSummaryDTO> searchByName(String name, Pageable pageable);
     
     ArtistResponseDTO update(Long id, ArtistRequestDTO request);
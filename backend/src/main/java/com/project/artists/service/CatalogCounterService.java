@@ -0,0 +1,15 @@
+package com.project.artists.service;
+
+/**
+ * Interface do serviço de manutenção dos contadores denormalizados
+ * (artists.album_count, albums.cover_count e albums.first_cover)
+ */
+public interface CatalogCounterService {
+    
+    /**
+     * Recalcula os contadores divergentes
+     * 
+     * @return quantidade de linhas corrigidas
+     */
+    int repairCounters();
+}
@@ -0,0 +1,15 @@
+package com.project.artists.service;
+
+import com.project.artists.util.ResourceVersion;
+
+/**
+ * Interface do serviço de versão do catálogo (ETag das páginas)
+ */
+public interface CatalogVersionService {
+    
+    /**
+     * Validadores de uma página de listagem/busca a partir da versão global
+     * do catálogo; null quando a versão não está disponível
+     */
+    ResourceVersion pageVersion(String requestKey);
+}
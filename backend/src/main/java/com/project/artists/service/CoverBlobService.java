@@ -0,0 +1,42 @@
+package com.project.artists.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Contagem de referências dos objetos de capa (tabela cover_blobs)
+ * 
+ * Com nomes derivados do conteúdo, o mesmo objeto pode estar em vários
+ * álbuns; ele só sai do armazenamento quando a última referência sai.
+ */
+public interface CoverBlobService {
+    
+    /**
+     * Soma uma referência por ocorrência em objectNames, na transação atual.
+     * A linha de cada nome fica travada até o commit: chame antes de conferir
+     * se o objeto existe no armazenamento.
+     */
+    void acquire(List<String> objectNames);
+    
+    /**
+     * Tira uma referência por ocorrência; os objetos que ficarem sem
+     * referência são apagados (com as miniaturas) depois do commit
+     */
+    void release(List<String> objectNames);
+    
+    /**
+     * Apaga do armazenamento os objetos que não têm referência registrada,
+     * em transação própria (ex.: limpeza após rollback de um upload)
+     */
+    void deleteUnreferenced(Collection<String> objectNames);
+    
+    /**
+     * Em transação própria, trava (criando a linha) os nomes de objectNames
+     * que não têm linha em cover_blobs e executa action com eles; as linhas
+     * são removidas ao final. Um upload da mesma imagem espera essa
+     * transação no acquire e depois regrava o objeto se ele tiver sido apagado.
+     */
+    void withUnreferenced(Collection<String> objectNames, Consumer<Set<String>> action);
+}
@@ -0,0 +1,38 @@
+package com.project.artists.service;
+
+import org.springframework.http.MediaType;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Interface do serviço de exportação completa do catálogo
+ */
+public interface ExportService {
+    
+    enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+        
+        private final MediaType mediaType;
+        private final String extension;
+        
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+        
+        public MediaType getMediaType() { return mediaType; }
+        public String getExtension() { return extension; }
+    }
+    
+    /**
+     * Escreve todos os álbuns (com nomes dos artistas) no stream informado
+     */
+    void exportAlbums(Format format, OutputStream out);
+    
+    /**
+     * Escreve todos os artistas no stream informado
+     */
+    void exportArtists(Format format, OutputStream out);
+}
@@ -0,0 +1,76 @@
+package com.project.artists.service;
+
+import com.project.artists.storage.StoredObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Cache local dos arquivos servidos pelo proxy (capas), em duas camadas:
+ * heap para objetos pequenos e disco local para os maiores
+ */
+public interface FileCacheService {
+    
+    /**
+     * Arquivo em cache, sem consultar o armazenamento
+     */
+    Optional<CachedFile> get(String objectName);
+    
+    /**
+     * Se um objeto desse tamanho cabe em alguma camada
+     */
+    boolean isCacheable(long size);
+    
+    /**
+     * Guarda o conteúdo do objeto se o tamanho couber em alguma camada;
+     * quem chama fecha o stream
+     * 
+     * @return entrada criada, ou vazio se o objeto não é cacheável
+     */
+    Optional<CachedFile> put(StoredObject object, InputStream content);
+    
+    /**
+     * Baixa o objeto para o cache em segundo plano, se couber em alguma
+     * camada; quem chama já serve a resposta direto do armazenamento.
+     * Pedido do mesmo objeto enquanto ele ainda está baixando é ignorado.
+     */
+    void fillAsync(StoredObject object, ContentSource source);
+    
+    /**
+     * Remove o objeto das duas camadas (ex.: arquivo apagado no armazenamento)
+     */
+    void invalidate(String objectName);
+    
+    /**
+     * Contabiliza bytes servidos direto do armazenamento (objeto fora do cache)
+     */
+    void recordOriginBytes(long bytes);
+    
+    /**
+     * Arquivo em uma das camadas do cache
+     */
+    interface CachedFile {
+        
+        StoredObject metadata();
+        
+        /**
+         * Prepara a leitura do trecho [offset, offset + length). Um arquivo
+         * em disco só é aberto no writeTo, para não prender o descritor se
+         * a resposta nunca for escrita; despejado antes disso, o writeTo
+         * lança NoSuchFileException sem ter escrito nada.
+         */
+        Transfer open(long offset, long length);
+    }
+    
+    @FunctionalInterface
+    interface ContentSource {
+        InputStream open() throws IOException;
+    }
+    
+    @FunctionalInterface
+    interface Transfer {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
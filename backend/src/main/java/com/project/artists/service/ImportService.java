@@ -0,0 +1,17 @@
+package com.project.artists.service;
+
+import com.project.artists.dto.response.ImportReportDTO;
+
+import java.io.InputStream;
+
+/**
+ * Interface do serviço de importação em massa do catálogo
+ */
+public interface ImportService {
+    
+    /**
+     * Importa artistas e álbuns de um stream NDJSON (um objeto JSON por linha).
+     * Linhas inválidas entram no relatório sem interromper a importação.
+     */
+    ImportReportDTO importNdjson(InputStream input);
+}
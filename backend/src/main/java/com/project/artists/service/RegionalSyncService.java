@@ -2,6 +2,7 @@ package com.project.artists.service;
 
 import com.project.artists.dto.response.SyncResponseDTO;
 import com.project.artists.entity.Regional;
+import com.project.artists.util.RegionalSnapshot;
 
 import java.util.List;
 
@@ -30,4 +31,12 @@ public interface RegionalSyncService {
      * @return Lista de regionais ativos
      */
     List<Regional> listarAtivos();
+    
+    /**
+     * Foto imutável atual dos regionais (JSON pré-serializado + ETag),
+     * trocada pela sincronização quando há mudanças
+     * 
+     * @return Foto atual, sem consultar o banco
+     */
+    RegionalSnapshot snapshot();
 }
@@ -0,0 +1,17 @@
+package com.project.artists.service;
+
+import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.dto.response.SearchResultDTO;
+
+/**
+ * Interface do serviço de busca unificada (títulos, nomes e bios)
+ */
+public interface SearchService {
+    
+    /**
+     * @param type     ALBUM, ARTIST ou null para ambos
+     * @param byArtist álbuns pelo nome dos artistas em vez do título
+     * @param cursor   nextCursor da página anterior ou null para a primeira
+     */
+    PageResponseDTO<SearchResultDTO> search(String q, SearchResultDTO.Type type, boolean byArtist, String cursor, int size);
+}
@@ -0,0 +1,22 @@
+package com.project.artists.service;
+
+/**
+ * Reconciliação do armazenamento com o banco: remove capas órfãs (objetos
+ * que nenhum álbum referencia), deixadas por falhas de exclusão ou por
+ * uploads cuja gravação não confirmou
+ */
+public interface StorageReconcilerService {
+    
+    /**
+     * Percorre os objetos das capas e remove os órfãos
+     */
+    Result reconcile();
+    
+    /**
+     * @param scanned        objetos listados
+     * @param orphans        objetos órfãos encontrados
+     * @param deleted        objetos efetivamente removidos (0 em dry-run)
+     * @param reclaimedBytes bytes liberados pelos removidos
+     */
+    record Result(long scanned, long orphans, long deleted, long reclaimedBytes) {}
+}
@@ -0,0 +1,109 @@
+package com.project.artists.service;
+
+import com.project.artists.exception.BadRequestException;
+import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.storage.StagedUpload;
+import com.project.artists.storage.StoredObject;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Interface do serviço de armazenamento de arquivos (capas)
+ * 
+ * Independe do backend (MinIO ou diretório local, ver StorageBackend)
+ */
+public interface StorageService {
+    
+    /**
+     * Envia os arquivos em paralelo para nomes provisórios
+     * (folder/.incoming/uuid), calculando o SHA-256 no mesmo fluxo do envio.
+     * Se algum falhar, apaga os provisórios do lote e propaga a falha.
+     */
+    List<StagedUpload> stageFiles(List<MultipartFile> files, String folder);
+    
+    /**
+     * Move um objeto já gravado (ex.: upload direto) para um nome provisório,
+     * confere tamanho e tipo e o lê uma vez para calcular o SHA-256. A cópia
+     * é só do servidor: quem ainda tiver a URL de upload da chave original
+     * não altera o conteúdo que será publicado.
+     * 
+     * @throws ResourceNotFoundException se o objeto não existe
+     * @throws BadRequestException se o objeto não é uma imagem dentro de maxSize
+     */
+    StagedUpload stageObject(String objectName, String folder, DataSize maxSize);
+    
+    /**
+     * Leva o provisório para o nome definitivo, ou só apaga o provisório se
+     * o definitivo já existe. Quem chama já deve ter a referência em
+     * cover_blobs (CoverBlobService.acquire) na transação: uma remoção
+     * concorrente da mesma imagem espera essa transação, e o que ela já
+     * tiver removido é regravado aqui.
+     * 
+     * @return true se o objeto definitivo foi gravado por esta chamada
+     */
+    boolean publish(StagedUpload upload);
+    
+    /**
+     * Grava conteúdo gerado pela aplicação (ex.: miniaturas) com nome definido
+     */
+    void putObject(String objectName, byte[] content, String contentType);
+    
+    /**
+     * URL assinada para o cliente gravar o objeto direto no armazenamento
+     * (PUT), válida por expiry; vazio se o backend não suporta
+     */
+    Optional<String> presignUpload(String objectName, Duration expiry);
+    
+    String generatePresignedUrl(String objectName);
+    
+    List<String> generatePresignedUrls(List<String> objectNames);
+    
+    void deleteFile(String objectName);
+    
+    /**
+     * Apaga os objetos ignorando falhas individuais (limpeza após erro)
+     */
+    void deleteQuietly(List<String> objectNames);
+    
+    /**
+     * Apaga os objetos em lote (uma chamada ao armazenamento quando o
+     * backend suporta)
+     */
+    void deleteAll(List<String> objectNames);
+    
+    boolean isAvailable();
+    
+    /**
+     * Metadados do objeto, sem baixar o conteúdo
+     * 
+     * @throws com.project.artists.exception.ResourceNotFoundException se o objeto não existe
+     */
+    StoredObject stat(String objectName);
+    
+    /**
+     * Abre o conteúdo do objeto a partir de offset; length null = até o fim.
+     * Quem chama fecha o stream.
+     */
+    InputStream openStream(String objectName, long offset, Long length);
+    
+    /**
+     * Copia o trecho do objeto para a saída (cópia direta do arquivo no
+     * backend local)
+     * 
+     * @return bytes copiados
+     */
+    long transferTo(String objectName, long offset, Long length, OutputStream output) throws IOException;
+    
+    /**
+     * Objetos com o prefixo; quem chama fecha o stream
+     */
+    Stream<StoredObject> list(String prefix);
+}
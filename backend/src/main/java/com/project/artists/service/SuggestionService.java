@@ -0,0 +1,30 @@
+package com.project.artists.service;
+
+import com.project.artists.dto.response.SuggestionDTO;
+
+import java.util.List;
+
+/**
+ * Interface do serviço de autocomplete (índice em memória)
+ */
+public interface SuggestionService {
+    
+    List<SuggestionDTO> suggestArtists(String query, int limit);
+    
+    List<SuggestionDTO> suggestAlbums(String query, int limit);
+    
+    /**
+     * Recarrega os índices a partir do banco
+     */
+    void rebuild();
+    
+    // Atualizações incrementais, aplicadas após o commit da transação corrente
+    
+    void artistSaved(Long id, String name);
+    
+    void artistRemoved(Long id);
+    
+    void albumSaved(Long id, String title);
+    
+    void albumRemoved(Long id);
+}
@@ -0,0 +1,55 @@
+package com.project.artists.service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface do serviço de miniaturas das capas
+ *
+ * Cada capa ganha derivadas em larguras fixas gravadas ao lado do original
+ * no bucket (album-covers/x.jpg -> album-covers/x_w256.jpg). A geração é
+ * assíncrona, em um pool limitado; até a derivada existir, o proxy de
+ * arquivos responde com o original.
+ */
+public interface ThumbnailService {
+
+    /**
+     * Uso da imagem, cada um com sua largura configurada
+     */
+    enum Size {
+        /** Ícones pequenos (ex.: lista de álbuns do artista) */
+        THUMBNAIL,
+        /** Cards das listagens */
+        LIST,
+        /** Capa principal do detalhe */
+        DETAIL
+    }
+
+    /**
+     * Nome da derivada da capa para o uso pedido (o próprio original se as
+     * miniaturas estiverem desabilitadas)
+     */
+    String variantOf(String objectName, Size size);
+
+    /**
+     * Original de uma derivada conhecida, ou vazio se o nome não é de derivada
+     */
+    Optional<String> originalOf(String objectName);
+
+    /**
+     * Enfileira a geração das derivadas após o commit da transação atual
+     */
+    void generateAfterCommit(List<String> objectNames);
+
+    /**
+     * Remove as derivadas de uma capa apagada
+     */
+    void deleteVariants(String objectName);
+
+    /**
+     * Gera as derivadas que faltam para as capas já cadastradas
+     *
+     * @return quantidade de capas processadas
+     */
+    int backfill();
+}
@@ -1,30 +1,64 @@
 package com.project.artists.service.impl;
 
+import com.project.artists.config.CacheConfig;
 import com.project.artists.dto.request.AlbumRequestDTO;
+import com.project.artists.dto.request.CoverConfirmRequestDTO;
+import com.project.artists.dto.request.CoverUploadUrlRequestDTO;
+import com.project.artists.dto.request.CursorPageRequest;
 import com.project.artists.dto.response.AlbumResponseDTO;
 import com.project.artists.dto.response.AlbumSummaryDTO;
+import com.project.artists.dto.response.CoverUploadUrlResponseDTO;
 import com.project.artists.dto.response.PageResponseDTO;
 import com.project.artists.entity.Album;
 import com.project.artists.entity.Artist;
 import com.project.artists.exception.BadRequestException;
+import com.project.artists.exception.NotImplementedException;
 import com.project.artists.exception.ResourceNotFoundException;
 import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.AlbumRepositoryCustom;
 import com.project.artists.repository.ArtistRepository;
+import com.project.artists.repository.projection.AlbumArtistNameView;
+import com.project.artists.repository.projection.AlbumSummaryView;
+import com.project.artists.repository.projection.VersionStampView;
 import com.project.artists.service.AlbumService;
-import com.project.artists.service.MinioService;
+import com.project.artists.service.CoverBlobService;
 import com.project.artists.service.NotificationService;
+import com.project.artists.service.StorageService;
+import com.project.artists.service.SuggestionService;
+import com.project.artists.service.ThumbnailService;
+import com.project.artists.storage.ObjectNames;
+import com.project.artists.storage.StagedUpload;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.KeysetCursor;
+import com.project.artists.util.ResourceVersion;
+import com.project.artists.util.VersionedDetail;
+import com.project.artists.util.SearchText;
 import com.project.artists.dto.notification.NotificationType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +68,15 @@ import java.util.stream.Collectors;
 @Transactional
 public class AlbumServiceImpl implements AlbumService {
 
+    /**
+     * Uploads diretos ficam sob album-covers/, então a reconciliação também
+     * limpa os que nunca foram confirmados
+     */
+    private static final String DIRECT_UPLOAD_PREFIX = "album-covers/direct/";
+
+    private static final Pattern DIRECT_UPLOAD_KEY = Pattern.compile(
+            "album-covers/direct/(\\d+)/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(\\.[a-z0-9]+)?");
+
     @Autowired
     private AlbumRepository albumRepository;
 
@@ -41,11 +84,29 @@ public class AlbumServiceImpl implements AlbumService {
     private ArtistRepository artistRepository;
 
     @Autowired
-    private MinioService minioService;
+    private StorageService storageService;
 
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private CoverBlobService coverBlobService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${app.storage.direct-upload.expiration:10m}")
+    private Duration directUploadExpiration;
+
+    @Value("${app.storage.direct-upload.max-size:10MB}")
+    private DataSize directUploadMaxSize;
+
     @Override
     public AlbumResponseDTO create(AlbumRequestDTO request) {
         // Validar e buscar artistas
@@ -58,6 +119,8 @@ public class AlbumServiceImpl implements AlbumService {
         album.setArtists(artists);
 
         Album saved = albumRepository.save(album);
+        refreshAlbumCounts(artists);
+        suggestionService.albumSaved(saved.getId(), saved.getTitle());
 
         // Enviar notificação em tempo real
         AlbumResponseDTO response = toResponseDTO(saved);
@@ -85,48 +148,95 @@ public class AlbumServiceImpl implements AlbumService {
         return toResponseDTO(album);
     }
 
+    /**
+     * Lê do primário (transação não read-only): version pode vir de uma
+     * réplica, e o detalhe lido depois dele no primário é no mínimo tão novo
+     * quanto ela, então nunca fica em cache conteúdo anterior ao ETag
+     */
+    @Override
+    @Transactional
+    public AlbumResponseDTO findById(Long id, ResourceVersion version) {
+        Cache albumDetails = cacheManager.getCache(CacheConfig.ALBUM_DETAILS);
+        AlbumResponseDTO cached = VersionedDetail.get(albumDetails, id, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        Album album = albumRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Album", "id", id));
+
+        AlbumResponseDTO response = toResponseDTO(album);
+        VersionedDetail.put(albumDetails, id, version, response);
+        return response;
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<AlbumSummaryDTO> findAll(Pageable pageable) {
-        Page<Album> page = albumRepository.findAll(pageable);
+    public AlbumResponseDTO findById(Long id, FieldSet fields, ResourceVersion version) {
+        // O detalhe completo em cache atende qualquer subconjunto de campos
+        AlbumResponseDTO cached = VersionedDetail.get(cacheManager.getCache(CacheConfig.ALBUM_DETAILS), id, version);
+        if (cached != null) {
+            return cached;
+        }
 
-        List<AlbumSummaryDTO> content = page.getContent().stream()
-                .map(this::toSummaryDTO)
-                .collect(Collectors.toList());
+        Album album = albumRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Album", "id", id));
 
-        return new PageResponseDTO<>(
-                content,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages()
-        );
+        return toResponseDTO(album, fields);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<AlbumSummaryDTO> findByArtistId(Long artistId, Pageable pageable) {
+    public ResourceVersion findVersion(Long id) {
+        List<VersionStampView> stamps = albumRepository.findVersionStamps(id);
+        if (stamps.isEmpty()) {
+            throw new ResourceNotFoundException("Album", "id", id);
+        }
+
+        return ResourceVersion.ofStamps("album", id, stamps);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<AlbumSummaryDTO> findAll(Pageable pageable, FieldSet fields) {
+        Page<AlbumSummaryView> page = albumRepository.findAllSummaries(pageable);
+
+        return toSummaryPage(page, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<AlbumSummaryDTO> findByArtistId(Long artistId, Pageable pageable, FieldSet fields) {
         // Verificar se artista existe
         if (!artistRepository.existsById(artistId)) {
             throw new ResourceNotFoundException("Artist", "id", artistId);
         }
 
-        Page<Album> page = albumRepository.findByArtists_Id(artistId, pageable);
+        Page<AlbumSummaryView> page = albumRepository.findSummariesByArtistId(artistId, pageable);
 
-        List<AlbumSummaryDTO> content = page.getContent().stream()
-                .map(this::toSummaryDTO)
-                .collect(Collectors.toList());
+        return toSummaryPage(page, fields);
+    }
 
-        return new PageResponseDTO<>(
-                content,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages()
-        );
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<AlbumSummaryDTO> findAllByCursor(CursorPageRequest request, FieldSet fields) {
+        return findSummariesByCursor(null, request, fields);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<AlbumSummaryDTO> findByArtistIdByCursor(Long artistId, CursorPageRequest request,
+                                                                   FieldSet fields) {
+        // Verificar se artista existe
+        if (!artistRepository.existsById(artistId)) {
+            throw new ResourceNotFoundException("Artist", "id", artistId);
+        }
+
+        return findSummariesByCursor(artistId, request, fields);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.ALBUM_DETAILS, key = "#id")
     public AlbumResponseDTO update(Long id, AlbumRequestDTO request) {
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Album", "id", id));
@@ -135,11 +245,15 @@ public class AlbumServiceImpl implements AlbumService {
         album.setTitle(request.getTitle());
         album.setReleaseYear(request.getReleaseYear());
 
-        // Atualizar artistas
+        // Atualizar artistas (contadores de quem saiu e de quem entrou)
+        Set<Artist> affectedArtists = new HashSet<>(album.getArtists());
         Set<Artist> artists = findArtistsByIds(request.getArtistIds());
+        affectedArtists.addAll(artists);
         album.setArtists(artists);
 
         Album updated = albumRepository.save(album);
+        refreshAlbumCounts(affectedArtists);
+        suggestionService.albumSaved(updated.getId(), updated.getTitle());
 
         // Enviar notificação de atualização
         AlbumResponseDTO response = toResponseDTO(updated);
@@ -154,22 +268,21 @@ public class AlbumServiceImpl implements AlbumService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ALBUM_DETAILS, key = "#id")
     public void delete(Long id) {
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Album", "id", id));
 
         String albumTitle = album.getTitle();
 
-        // Deletar capas do MinIO
-        for (String objectName : album.getCoverUrls()) {
-            try {
-                minioService.deleteFile(objectName);
-            } catch (Exception e) {
-                //System.err.println("Erro ao deletar capa: " + objectName);
-            }
-        }
+        // Capas sem outra referência saem do armazenamento após o commit
+        coverBlobService.release(album.getCoverUrls());
+
+        Set<Artist> affectedArtists = new HashSet<>(album.getArtists());
 
         albumRepository.delete(album);
+        refreshAlbumCounts(affectedArtists);
+        suggestionService.albumRemoved(id);
 
         // Enviar notificação de deleção
         notificationService.sendNotification(
@@ -180,6 +293,7 @@ public class AlbumServiceImpl implements AlbumService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ALBUM_DETAILS, key = "#id")
     public AlbumResponseDTO uploadCovers(Long id, List<MultipartFile> files) {
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Album", "id", id));
@@ -188,33 +302,56 @@ public class AlbumServiceImpl implements AlbumService {
             throw new BadRequestException("Nenhum arquivo foi enviado");
         }
 
-        // Upload dos arquivos
-        List<String> objectNames = minioService.uploadFiles(files, "album-covers");
+        // Upload dos arquivos (em paralelo, tudo ou nada) para nomes provisórios
+        List<StagedUpload> staged = storageService.stageFiles(files, "album-covers");
 
-        // Adicionar aos cover_urls existentes
-        List<String> currentUrls = album.getCoverUrls();
-        if (currentUrls == null) {
-            currentUrls = new ArrayList<>();
+        return attachCovers(album, staged);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CoverUploadUrlResponseDTO createCoverUploadUrl(Long id, CoverUploadUrlRequestDTO request) {
+        if (!albumRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Album", "id", id);
         }
-        currentUrls.addAll(objectNames);
-        album.setCoverUrls(currentUrls);
 
-        Album updated = albumRepository.save(album);
+        // Nome aleatório: o conteúdo ainda não existe para derivar o hash
+        String objectKey = DIRECT_UPLOAD_PREFIX + id + "/" + UUID.randomUUID()
+                + ObjectNames.extensionOf(request.getContentType(), request.getFileName());
+        String uploadUrl = storageService.presignUpload(objectKey, directUploadExpiration)
+                .orElseThrow(() -> new NotImplementedException(
+                        "Upload direto não disponível neste armazenamento; use POST /albums/{id}/covers"));
 
-        // Enviar notificação de upload de capa
-        AlbumResponseDTO response = toResponseDTO(updated);
-        notificationService.sendNotification(
-                NotificationType.ALBUM_COVER_UPLOADED,
-                "Nova Capa de Álbum",
-                String.format("%d nova(s) capa(s) adicionada(s) ao álbum '%s'.",
-                        files.size(), updated.getTitle()),
-                response
-        );
+        return new CoverUploadUrlResponseDTO(objectKey, uploadUrl, request.getContentType(),
+                directUploadMaxSize.toBytes(), LocalDateTime.now().plus(directUploadExpiration));
+    }
 
-        return response;
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.ALBUM_DETAILS, key = "#id")
+    public AlbumResponseDTO confirmCoverUpload(Long id, CoverConfirmRequestDTO request) {
+        Album album = albumRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Album", "id", id));
+
+        // Só chaves emitidas para este álbum pelo passo 1
+        String objectKey = request.getObjectKey();
+        Matcher matcher = DIRECT_UPLOAD_KEY.matcher(objectKey);
+        if (!matcher.matches() || !matcher.group(1).equals(String.valueOf(id))) {
+            throw new BadRequestException("Chave de upload inválida para este álbum");
+        }
+
+        // A chave de upload sai do armazenamento: o que fica é o nome derivado do conteúdo
+        StagedUpload staged;
+        try {
+            staged = storageService.stageObject(objectKey, "album-covers", directUploadMaxSize);
+        } catch (ResourceNotFoundException e) {
+            throw new BadRequestException("Arquivo ainda não foi enviado para a URL de upload");
+        }
+
+        return attachCovers(album, List.of(staged));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ALBUM_DETAILS, key = "#id")
     public AlbumResponseDTO removeCover(Long id, String coverUrl) {
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Album", "id", id));
@@ -225,8 +362,8 @@ public class AlbumServiceImpl implements AlbumService {
             throw new BadRequestException("Capa não encontrada neste álbum");
         }
 
-        // Remover do MinIO
-        minioService.deleteFile(coverUrl);
+        // Remover do armazenamento se nenhum outro álbum usa a mesma imagem
+        coverBlobService.release(List.of(coverUrl));
 
         // Remover da lista
         coverUrls.remove(coverUrl);
@@ -241,37 +378,19 @@ public class AlbumServiceImpl implements AlbumService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<AlbumSummaryDTO> searchByTitle(String title, Pageable pageable) {
-        Page<Album> page = albumRepository.findByTitleContainingIgnoreCase(title, pageable);
-
-        List<AlbumSummaryDTO> content = page.getContent().stream()
-                .map(this::toSummaryDTO)
-                .collect(Collectors.toList());
+        Page<AlbumSummaryView> page = albumRepository.searchSummariesByTitle(
+                SearchText.term(title), SearchText.containsPattern(title), pageable);
 
-        return new PageResponseDTO<>(
-                content,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages()
-        );
+        return toSummaryPage(page, FieldSet.ALL);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<AlbumSummaryDTO> searchByArtistName(String name, Pageable pageable) {
-        Page<Album> page = albumRepository.findDistinctByArtists_NameContainingIgnoreCase(name, pageable);
-
-        List<AlbumSummaryDTO> content = page.getContent().stream()
-                .map(this::toSummaryDTO)
-                .collect(Collectors.toList());
+        Page<AlbumSummaryView> page = albumRepository.searchSummariesByArtistName(
+                SearchText.term(name), SearchText.containsPattern(name), pageable);
 
-        return new PageResponseDTO<>(
-                content,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages()
-        );
+        return toSummaryPage(page, FieldSet.ALL);
     }
 
 
@@ -280,18 +399,111 @@ public class AlbumServiceImpl implements AlbumService {
             throw new BadRequestException("Álbum deve ter pelo menos um artista");
         }
 
-        Set<Artist> artists = new HashSet<>();
+        // Uma única consulta IN em vez de um findById por artista
+        Set<Artist> artists = new HashSet<>(artistRepository.findAllById(new HashSet<>(artistIds)));
 
-        for (Long artistId : artistIds) {
-            Artist artist = artistRepository.findById(artistId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Artist", "id", artistId));
-            artists.add(artist);
+        if (artists.size() < new HashSet<>(artistIds).size()) {
+            Set<Long> found = artists.stream().map(Artist::getId).collect(Collectors.toSet());
+            Long missing = artistIds.stream().filter(id -> !found.contains(id)).findFirst().orElse(null);
+            throw new ResourceNotFoundException("Artist", "id", missing);
         }
 
         return artists;
     }
 
+    /**
+     * Adiciona capas já gravadas no armazenamento ao álbum (multipart ou
+     * upload direto): referências, miniaturas e notificação
+     */
+    private AlbumResponseDTO attachCovers(Album album, List<StagedUpload> staged) {
+        List<String> objectNames = staged.stream().map(StagedUpload::objectName).toList();
+
+        // Trava as linhas em cover_blobs antes de conferir se o objeto existe
+        coverBlobService.acquire(objectNames);
+        deleteOnRollback(objectNames);
+        try {
+            staged.forEach(storageService::publish);
+        } catch (RuntimeException e) {
+            storageService.deleteQuietly(staged.stream().map(StagedUpload::stagingName).toList());
+            throw e;
+        }
+
+        // Adicionar aos cover_urls existentes
+        List<String> currentUrls = album.getCoverUrls();
+        if (currentUrls == null) {
+            currentUrls = new ArrayList<>();
+        }
+        currentUrls.addAll(objectNames);
+        album.setCoverUrls(currentUrls);
+
+        Album updated = albumRepository.save(album);
+
+        // Miniaturas geradas em segundo plano, só se o álbum gravar
+        thumbnailService.generateAfterCommit(objectNames);
+
+        // Enviar notificação de upload de capa
+        AlbumResponseDTO response = toResponseDTO(updated);
+        notificationService.sendNotification(
+                NotificationType.ALBUM_COVER_UPLOADED,
+                "Nova Capa de Álbum",
+                String.format("%d nova(s) capa(s) adicionada(s) ao álbum '%s'.",
+                        objectNames.size(), updated.getTitle()),
+                response
+        );
+
+        return response;
+    }
+
+    /**
+     * Recalcula artists.album_count dos artistas afetados por uma escrita
+     */
+    private void refreshAlbumCounts(Set<Artist> artists) {
+        if (artists.isEmpty()) {
+            return;
+        }
+
+        Set<Long> artistIds = artists.stream()
+                .map(Artist::getId)
+                .collect(Collectors.toSet());
+
+        artistRepository.refreshAlbumCounts(artistIds);
+
+        // O detalhe do artista embute album_count e a lista de álbuns
+        Cache artistDetails = cacheManager.getCache(CacheConfig.ARTIST_DETAILS);
+        if (artistDetails != null) {
+            artistIds.forEach(artistDetails::evict);
+        }
+    }
+
+    /**
+     * Capas enviadas para um álbum cuja gravação não confirmou não ficam no
+     * armazenamento, exceto as que outros álbuns já referenciam
+     */
+    private void deleteOnRollback(List<String> objectNames) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    coverBlobService.deleteUnreferenced(new HashSet<>(objectNames));
+                }
+            }
+        });
+    }
+
     private AlbumResponseDTO toResponseDTO(Album album) {
+        return toResponseDTO(album, FieldSet.ALL);
+    }
+
+    /**
+     * Campos fora de fields não são carregados: sem artists não há join em
+     * artist_album, sem coverUrls não há geração de presigned URLs.
+     * coverUrls aponta para os originais e coverPreviewUrls para as
+     * derivadas na largura do detalhe, na mesma ordem.
+     */
+    private AlbumResponseDTO toResponseDTO(Album album, FieldSet fields) {
         AlbumResponseDTO dto = new AlbumResponseDTO();
         dto.setId(album.getId());
         dto.setTitle(album.getTitle());
@@ -300,41 +512,131 @@ public class AlbumServiceImpl implements AlbumService {
         dto.setUpdatedAt(album.getUpdatedAt());
 
         // Converter artistas
-        List<AlbumResponseDTO.ArtistSummaryDTO> artists = album.getArtists().stream()
-                .map(artist -> new AlbumResponseDTO.ArtistSummaryDTO(
-                        artist.getId(),
-                        artist.getName()
-                ))
-                .collect(Collectors.toList());
-        dto.setArtists(artists);
+        if (fields.includes("artists")) {
+            List<AlbumResponseDTO.ArtistSummaryDTO> artists = album.getArtists().stream()
+                    .map(artist -> new AlbumResponseDTO.ArtistSummaryDTO(
+                            artist.getId(),
+                            artist.getName()
+                    ))
+                    .collect(Collectors.toList());
+            dto.setArtists(artists);
+        }
 
         // Gerar presigned URLs para as capas
         List<String> coverUrls = album.getCoverUrls();
-        if (coverUrls != null && !coverUrls.isEmpty()) {
-            List<String> presignedUrls = minioService.generatePresignedUrls(coverUrls);
+        if (fields.includes("coverUrls") && coverUrls != null && !coverUrls.isEmpty()) {
+            List<String> presignedUrls = storageService.generatePresignedUrls(coverUrls);
             dto.setCoverUrls(presignedUrls);
         }
+        if (fields.includes("coverPreviewUrls") && coverUrls != null && !coverUrls.isEmpty()) {
+            List<String> previews = coverUrls.stream()
+                    .map(objectName -> thumbnailService.variantOf(objectName, ThumbnailService.Size.DETAIL))
+                    .collect(Collectors.toList());
+            dto.setCoverPreviewUrls(storageService.generatePresignedUrls(previews));
+        }
 
         return dto;
     }
 
-    private AlbumSummaryDTO toSummaryDTO(Album album) {
+    /**
+     * Paginação keyset: busca size + 1 linhas após o cursor para saber se
+     * existe próxima página, sem OFFSET e sem COUNT
+     */
+    private PageResponseDTO<AlbumSummaryDTO> findSummariesByCursor(Long artistId, CursorPageRequest request,
+                                                                   FieldSet fields) {
+        int size = request.resolvedSize();
+        String sortBy = request.getSortBy();
+        if (!AlbumRepositoryCustom.CURSOR_SORT_FIELDS.contains(sortBy)) {
+            throw new BadRequestException("Ordenação não suportada no modo cursor: " + sortBy);
+        }
+
+        KeysetCursor after = request.hasCursor()
+                ? KeysetCursor.decode(request.getCursor(), sortBy, request.getDirection())
+                : null;
+
+        if (after != null && "releaseYear".equals(sortBy) && !after.getSortValue().matches("-?\\d+")) {
+            throw new BadRequestException("Cursor inválido");
+        }
+
+        List<AlbumSummaryView> rows = albumRepository.findSummariesAfter(
+                artistId, after, sortBy, request.getDirection(), size + 1);
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            AlbumSummaryView last = rows.get(rows.size() - 1);
+            nextCursor = KeysetCursor.of(sortBy, request.getDirection(), last.getId(), sortValue(last, sortBy))
+                    .encode();
+        }
+
+        return new PageResponseDTO<>(toSummaryDTOs(rows, fields), size, after == null, nextCursor);
+    }
+
+    private String sortValue(AlbumSummaryView album, String sortBy) {
+        switch (sortBy) {
+            case "title":
+                return album.getTitle();
+            case "releaseYear":
+                // Mesmo coalesce usado na consulta e no índice
+                return String.valueOf(album.getReleaseYear() == null ? 0 : album.getReleaseYear());
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Monta a página de resumos a partir das projeções
+     */
+    private PageResponseDTO<AlbumSummaryDTO> toSummaryPage(Page<AlbumSummaryView> page, FieldSet fields) {
+        return new PageResponseDTO<>(
+                toSummaryDTOs(page.getContent(), fields),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+
+    /**
+     * Os nomes dos artistas de todos os álbuns são carregados em uma única
+     * consulta, então o custo não cresce com o tamanho da página; sem
+     * artistNames em fields essa consulta (join em artist_album) não é feita
+     */
+    private List<AlbumSummaryDTO> toSummaryDTOs(List<AlbumSummaryView> rows, FieldSet fields) {
+        Map<Long, List<String>> artistNamesByAlbum = new HashMap<>();
+        if (!rows.isEmpty() && fields.includes("artistNames")) {
+            List<Long> albumIds = rows.stream()
+                    .map(AlbumSummaryView::getId)
+                    .collect(Collectors.toList());
+
+            for (AlbumArtistNameView row : albumRepository.findArtistNamesByAlbumIds(albumIds)) {
+                artistNamesByAlbum
+                        .computeIfAbsent(row.getAlbumId(), k -> new ArrayList<>())
+                        .add(row.getArtistName());
+            }
+        }
+
+        return rows.stream()
+                .map(row -> toSummaryDTO(row, artistNamesByAlbum.getOrDefault(row.getId(), new ArrayList<>()), fields))
+                .collect(Collectors.toList());
+    }
+
+    private AlbumSummaryDTO toSummaryDTO(AlbumSummaryView album, List<String> artistNames, FieldSet fields) {
         AlbumSummaryDTO dto = new AlbumSummaryDTO();
         dto.setId(album.getId());
         dto.setTitle(album.getTitle());
         dto.setReleaseYear(album.getReleaseYear());
-
-        // Nomes dos artistas
-        List<String> artistNames = album.getArtists().stream()
-                .map(Artist::getName)
-                .collect(Collectors.toList());
         dto.setArtistNames(artistNames);
 
-        // Primeira capa (presigned URL)
-        List<String> coverUrls = album.getCoverUrls();
-        if (coverUrls != null && !coverUrls.isEmpty()) {
-            String firstCover = minioService.generatePresignedUrl(coverUrls.get(0));
-            dto.setCoverUrl(firstCover);
+        // Primeira capa, lida da coluna first_cover, nas larguras das miniaturas
+        String firstCover = album.getFirstCover();
+        if (fields.includes("coverUrl") && firstCover != null) {
+            dto.setCoverUrl(storageService.generatePresignedUrl(
+                    thumbnailService.variantOf(firstCover, ThumbnailService.Size.LIST)));
+        }
+        if (fields.includes("coverThumbnailUrl") && firstCover != null) {
+            dto.setCoverThumbnailUrl(storageService.generatePresignedUrl(
+                    thumbnailService.variantOf(firstCover, ThumbnailService.Size.THUMBNAIL)));
         }
 
         return dto;
@@ -1,20 +1,39 @@
 package com.project.artists.service.impl;
 
+import com.project.artists.config.CacheConfig;
 import com.project.artists.dto.request.ArtistRequestDTO;
+import com.project.artists.dto.request.CursorPageRequest;
 import com.project.artists.dto.response.ArtistResponseDTO;
 import com.project.artists.dto.response.ArtistSummaryDTO;
 import com.project.artists.dto.response.PageResponseDTO;
 import com.project.artists.entity.Artist;
+import com.project.artists.exception.BadRequestException;
 import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.repository.AlbumRepository;
 import com.project.artists.repository.ArtistRepository;
+import com.project.artists.repository.ArtistRepositoryCustom;
+import com.project.artists.repository.projection.AlbumSummaryView;
+import com.project.artists.repository.projection.ArtistVersionStampView;
 import com.project.artists.service.ArtistService;
 import com.project.artists.service.NotificationService;
+import com.project.artists.service.SuggestionService;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.KeysetCursor;
+import com.project.artists.util.ResourceVersion;
+import com.project.artists.util.VersionedDetail;
+import com.project.artists.util.SearchText;
 import com.project.artists.dto.notification.NotificationType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,12 +45,26 @@ import java.util.stream.Collectors;
 @Transactional
 public class ArtistServiceImpl implements ArtistService {
     
+    private static final String EMBEDDED_ALBUMS_SORT = "releaseYear";
+    
+    @Value("${app.artist-detail.album-limit:20}")
+    private int embeddedAlbumLimit;
+    
     @Autowired
     private ArtistRepository artistRepository;
     
     @Autowired
     private NotificationService notificationService;
     
+    @Autowired
+    private SuggestionService suggestionService;
+    
+    @Autowired
+    private AlbumRepository albumRepository;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
     @Override
     public ArtistResponseDTO create(ArtistRequestDTO request) {
         Artist artist = new Artist();
@@ -39,6 +72,7 @@ public class ArtistServiceImpl implements ArtistService {
         artist.setBio(request.getBio());
         
         Artist saved = artistRepository.save(artist);
+        suggestionService.artistSaved(saved.getId(), saved.getName());
         
         // Enviar notificação de criação
         ArtistResponseDTO response = toResponseDTO(saved);
@@ -61,6 +95,59 @@ public class ArtistServiceImpl implements ArtistService {
         return toDetailedResponseDTO(artist);
     }
     
+    /**
+     * Lê do primário (transação não read-only): version pode vir de uma
+     * réplica, e o detalhe lido depois dele no primário é no mínimo tão novo
+     * quanto ela, então nunca fica em cache conteúdo anterior ao ETag
+     */
+    @Override
+    @Transactional
+    public ArtistResponseDTO findById(Long id, ResourceVersion version) {
+        Cache artistDetails = cacheManager.getCache(CacheConfig.ARTIST_DETAILS);
+        ArtistResponseDTO cached = VersionedDetail.get(artistDetails, id, version);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Artist artist = artistRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Artist", "id", id));
+        
+        ArtistResponseDTO response = toDetailedResponseDTO(artist);
+        VersionedDetail.put(artistDetails, id, version, response);
+        return response;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ArtistResponseDTO findById(Long id, FieldSet fields, ResourceVersion version) {
+        // O detalhe completo em cache atende qualquer subconjunto de campos
+        ArtistResponseDTO cached = VersionedDetail.get(cacheManager.getCache(CacheConfig.ARTIST_DETAILS), id, version);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Artist artist = artistRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Artist", "id", id));
+        
+        // Sem albums em fields a consulta dos álbuns não é feita
+        return fields.includes("albums") || fields.includes("albumsNext")
+                ? toDetailedResponseDTO(artist)
+                : toResponseDTO(artist);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersion(Long id) {
+        // +1: a linha seguinte à janela decide o albumsNext
+        List<ArtistVersionStampView> stamps = artistRepository.findVersionStamps(id, Math.max(embeddedAlbumLimit, 0) + 1);
+        if (stamps.isEmpty()) {
+            throw new ResourceNotFoundException("Artist", "id", id);
+        }
+        
+        // album_count entra na impressão: álbuns fora da janela não têm carimbo
+        return ResourceVersion.ofStamps("artist#" + stamps.get(0).getAlbumCount(), id, stamps);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<ArtistSummaryDTO> findAll(Pageable pageable) {
@@ -79,10 +166,43 @@ public class ArtistServiceImpl implements ArtistService {
         );
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<ArtistSummaryDTO> findAllByCursor(CursorPageRequest request) {
+        int size = request.resolvedSize();
+        String sortBy = request.getSortBy();
+        if (!ArtistRepositoryCustom.CURSOR_SORT_FIELDS.contains(sortBy)) {
+            throw new BadRequestException("Ordenação não suportada no modo cursor: " + sortBy);
+        }
+        
+        KeysetCursor after = request.hasCursor()
+                ? KeysetCursor.decode(request.getCursor(), sortBy, request.getDirection())
+                : null;
+        
+        // Busca size + 1 para saber se existe próxima página
+        List<Artist> artists = artistRepository.findAfter(
+                after, sortBy, request.getDirection(), size + 1);
+        
+        String nextCursor = null;
+        if (artists.size() > size) {
+            artists = artists.subList(0, size);
+            Artist last = artists.get(artists.size() - 1);
+            String sortValue = "name".equals(sortBy) ? last.getName() : "";
+            nextCursor = KeysetCursor.of(sortBy, request.getDirection(), last.getId(), sortValue).encode();
+        }
+        
+        List<ArtistSummaryDTO> content = artists.stream()
+                .map(this::toSummaryDTO)
+                .collect(Collectors.toList());
+        
+        return new PageResponseDTO<>(content, size, after == null, nextCursor);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<ArtistSummaryDTO> searchByName(String name, Pageable pageable) {
-        Page<Artist> page = artistRepository.findByNameContainingIgnoreCase(name, pageable);
+        Page<Artist> page = artistRepository.searchByName(
+                SearchText.term(name), SearchText.containsPattern(name), pageable);
         
         List<ArtistSummaryDTO> content = page.getContent().stream()
                 .map(this::toSummaryDTO)
@@ -98,14 +218,21 @@ public class ArtistServiceImpl implements ArtistService {
     }
     
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ARTIST_DETAILS, key = "#id")
     public ArtistResponseDTO update(Long id, ArtistRequestDTO request) {
         Artist artist = artistRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Artist", "id", id));
         
+        // O detalhe dos álbuns embute o nome do artista; a bio não aparece lá
+        if (!artist.getName().equals(request.getName())) {
+            evictAlbumDetails(id);
+        }
+        
         artist.setName(request.getName());
         artist.setBio(request.getBio());
         
         Artist updated = artistRepository.save(artist);
+        suggestionService.artistSaved(updated.getId(), updated.getName());
         
         // Enviar notificação de atualização
         ArtistResponseDTO response = toResponseDTO(updated);
@@ -120,13 +247,16 @@ public class ArtistServiceImpl implements ArtistService {
     }
     
     @Override
+    @CacheEvict(cacheNames = CacheConfig.ARTIST_DETAILS, key = "#id")
     public void delete(Long id) {
         Artist artist = artistRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Artist", "id", id));
         
         String artistName = artist.getName();
+        evictAlbumDetails(id);
         
         artistRepository.delete(artist);
+        suggestionService.artistRemoved(id);
         
         // Enviar notificação de deleção
         notificationService.sendNotification(
@@ -136,6 +266,13 @@ public class ArtistServiceImpl implements ArtistService {
         );
     }
     
+    private void evictAlbumDetails(Long artistId) {
+        Cache albumDetails = cacheManager.getCache(CacheConfig.ALBUM_DETAILS);
+        if (albumDetails != null) {
+            albumRepository.findIdsByArtistId(artistId).forEach(albumDetails::evict);
+        }
+    }
+    
     // Métodos auxiliares de conversão
     
     private ArtistResponseDTO toResponseDTO(Artist artist) {
@@ -143,17 +280,40 @@ public class ArtistServiceImpl implements ArtistService {
         dto.setId(artist.getId());
         dto.setName(artist.getName());
         dto.setBio(artist.getBio());
-        dto.setAlbumCount(artist.getAlbums().size());
+        dto.setAlbumCount(artist.getAlbumCount());
         dto.setCreatedAt(artist.getCreatedAt());
         dto.setUpdatedAt(artist.getUpdatedAt());
         return dto;
     }
     
+    /**
+     * Detalhe com os primeiros álbuns do artista, em uma consulta com limite
+     * (mesma ordenação keyset de /albums/artist/{id}); o restante fica no
+     * link albumsNext e o total em albumCount, então o custo não cresce com
+     * a discografia
+     */
     private ArtistResponseDTO toDetailedResponseDTO(Artist artist) {
         ArtistResponseDTO dto = toResponseDTO(artist);
         
-        // Adicionar lista de álbuns
-        List<ArtistResponseDTO.AlbumSummaryDTO> albums = artist.getAlbums().stream()
+        if (embeddedAlbumLimit <= 0) {
+            if (artist.getAlbumCount() != null && artist.getAlbumCount() > 0) {
+                dto.setAlbumsNext(albumsLink(artist.getId(), null));
+            }
+            return dto;
+        }
+        
+        List<AlbumSummaryView> rows = albumRepository.findSummariesAfter(
+                artist.getId(), null, EMBEDDED_ALBUMS_SORT, Sort.Direction.DESC, embeddedAlbumLimit + 1);
+        
+        if (rows.size() > embeddedAlbumLimit) {
+            rows = rows.subList(0, embeddedAlbumLimit);
+            AlbumSummaryView last = rows.get(rows.size() - 1);
+            String sortValue = String.valueOf(last.getReleaseYear() == null ? 0 : last.getReleaseYear());
+            dto.setAlbumsNext(albumsLink(artist.getId(),
+                    KeysetCursor.of(EMBEDDED_ALBUMS_SORT, Sort.Direction.DESC, last.getId(), sortValue).encode()));
+        }
+        
+        List<ArtistResponseDTO.AlbumSummaryDTO> albums = rows.stream()
                 .map(album -> new ArtistResponseDTO.AlbumSummaryDTO(
                         album.getId(),
                         album.getTitle(),
@@ -166,11 +326,24 @@ public class ArtistServiceImpl implements ArtistService {
         return dto;
     }
     
+    private String albumsLink(Long artistId, String cursor) {
+        UriComponentsBuilder link = UriComponentsBuilder.fromPath("/api/v1/albums/artist/{artistId}")
+                .queryParam("sortBy", EMBEDDED_ALBUMS_SORT)
+                .queryParam("direction", "desc");
+        if (embeddedAlbumLimit > 0) {
+            link.queryParam("size", embeddedAlbumLimit);
+        }
+        if (cursor != null) {
+            link.queryParam("cursor", cursor);
+        }
+        return link.buildAndExpand(artistId).toUriString();
+    }
+    
     private ArtistSummaryDTO toSummaryDTO(Artist artist) {
         return new ArtistSummaryDTO(
                 artist.getId(),
                 artist.getName(),
-                artist.getAlbums().size()
+                artist.getAlbumCount()
         );
     }
 }
\ No newline at end of file
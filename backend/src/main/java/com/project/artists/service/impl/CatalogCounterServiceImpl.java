@@ -0,0 +1,56 @@
+package com.project.artists.service.impl;
+
+import com.project.artists.config.CacheConfig;
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.ArtistRepository;
+import com.project.artists.service.CatalogCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementação do reparo de contadores
+ * 
+ * Os contadores são mantidos pelo AlbumService em cada escrita; este serviço
+ * corrige eventuais divergências (escritas fora da aplicação, falhas parciais)
+ * com dois UPDATEs que só tocam as linhas divergentes
+ */
+@Service
+@Transactional
+public class CatalogCounterServiceImpl implements CatalogCounterService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCounterServiceImpl.class);
+    
+    @Autowired
+    private ArtistRepository artistRepository;
+    
+    @Autowired
+    private AlbumRepository albumRepository;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Override
+    public int repairCounters() {
+        int artists = artistRepository.repairAlbumCounts();
+        int albums = albumRepository.repairCoverCounters();
+        
+        // O UPDATE não informa quais artistas mudaram; descarta os detalhes cacheados
+        Cache artistDetails = cacheManager.getCache(CacheConfig.ARTIST_DETAILS);
+        if (artists > 0 && artistDetails != null) {
+            artistDetails.clear();
+        }
+        
+        if (artists > 0 || albums > 0) {
+            logger.warn("Contadores divergentes corrigidos: {} artista(s), {} álbum(ns)", artists, albums);
+        } else {
+            logger.debug("Contadores do catálogo consistentes");
+        }
+        
+        return artists + albums;
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.artists.service.impl;
+
+import com.project.artists.repository.CatalogVersionRepository;
+import com.project.artists.service.CatalogVersionService;
+import com.project.artists.util.ResourceVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementação da versão do catálogo
+ * 
+ * Qualquer transação que altera linhas de albums, artists ou artist_album
+ * incrementa catalog_version_shards no commit (trigger da V16), então a
+ * página muda de ETag sempre que o conteúdo pode ter mudado. O contador
+ * não guarda data, então as páginas saem só com ETag, sem Last-Modified.
+ * 
+ * A leitura é read-only e vai para a réplica como a da página: o contador
+ * é uma linha comum, replicada junto com os dados, e é lido antes deles,
+ * então a versão nunca está à frente do conteúdo servido. Aceito: com
+ * várias réplicas a versão e a página podem vir de réplicas diferentes, e
+ * uma página lida da mais atrasada logo após uma escrita sai com o ETag
+ * novo e conteúdo anterior, que o cliente revalida como 304 até a próxima
+ * escrita. Com uma réplica só (docker-compose.replica.yml) isso não ocorre.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CatalogVersionServiceImpl implements CatalogVersionService {
+    
+    @Autowired
+    private CatalogVersionRepository catalogVersionRepository;
+    
+    @Override
+    public ResourceVersion pageVersion(String requestKey) {
+        return ResourceVersion.of("catalog:" + catalogVersionRepository.currentVersion() + ":" + requestKey, null);
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.artists.service.impl;
+
+import com.project.artists.repository.CoverBlobRepository;
+import com.project.artists.service.CoverBlobService;
+import com.project.artists.service.StorageService;
+import com.project.artists.service.ThumbnailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Implementação da contagem de referências das capas
+ * 
+ * Objetos sem referência só são apagados depois do commit, e só se ainda
+ * não tiverem linha em cover_blobs. A remoção trava o nome criando a linha
+ * (insertIfAbsent) em transação nova, o mesmo que o acquire faz antes de o
+ * upload conferir se o objeto existe: um dos dois espera o outro, então o
+ * upload nunca confirma uma referência a um objeto que está sendo apagado.
+ * Os nomes são travados sempre em ordem alfabética, para não haver deadlock.
+ */
+@Service
+public class CoverBlobServiceImpl implements CoverBlobService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CoverBlobServiceImpl.class);
+    
+    @Autowired
+    private CoverBlobRepository coverBlobRepository;
+    
+    @Autowired
+    private StorageService storageService;
+    
+    @Autowired
+    private ThumbnailService thumbnailService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Override
+    public void acquire(List<String> objectNames) {
+        countOccurrences(objectNames).forEach((objectName, count) -> {
+            coverBlobRepository.insertIfAbsent(objectName);
+            coverBlobRepository.addReferences(objectName, count);
+        });
+    }
+    
+    @Override
+    public void release(List<String> objectNames) {
+        if (objectNames == null || objectNames.isEmpty()) {
+            return;
+        }
+        
+        Map<String, Integer> counts = countOccurrences(objectNames);
+        counts.forEach((objectName, count) -> coverBlobRepository.addReferences(objectName, -count));
+        coverBlobRepository.deleteUnreferenced(counts.keySet());
+        
+        Set<String> candidates = new HashSet<>(counts.keySet());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteUnreferenced(candidates);
+                }
+            });
+        } else {
+            deleteUnreferenced(candidates);
+        }
+    }
+    
+    @Override
+    public void deleteUnreferenced(Collection<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return;
+        }
+        
+        try {
+            withUnreferenced(objectNames, unreferenced -> {
+                for (String objectName : unreferenced) {
+                    storageService.deleteQuietly(List.of(objectName));
+                    thumbnailService.deleteVariants(objectName);
+                }
+            });
+        } catch (Exception e) {
+            // Sem como confirmar: melhor deixar o objeto órfão que apagar uma capa em uso
+            logger.warn("Erro ao consultar referências de capas, nada foi apagado: {}", e.getMessage());
+        }
+    }
+    
+    @Override
+    public void withUnreferenced(Collection<String> objectNames, Consumer<Set<String>> action) {
+        if (objectNames.isEmpty()) {
+            return;
+        }
+        
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        transaction.executeWithoutResult(status -> {
+            Set<String> unreferenced = new HashSet<>();
+            for (String objectName : new TreeSet<>(objectNames)) {
+                // Linha já existe: o objeto tem (ou está ganhando) referência
+                if (coverBlobRepository.insertIfAbsent(objectName) > 0) {
+                    unreferenced.add(objectName);
+                }
+            }
+            if (!unreferenced.isEmpty()) {
+                action.accept(unreferenced);
+                coverBlobRepository.deleteUnreferenced(unreferenced);
+            }
+        });
+    }
+    
+    private static Map<String, Integer> countOccurrences(List<String> objectNames) {
+        // Ordenado: transações que travam os mesmos nomes o fazem na mesma ordem
+        Map<String, Integer> counts = new TreeMap<>();
+        for (String objectName : objectNames) {
+            counts.merge(objectName, 1, Integer::sum);
+        }
+        return counts;
+    }
+}
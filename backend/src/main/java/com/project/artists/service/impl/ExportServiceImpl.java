@@ -0,0 +1,210 @@
+package com.project.artists.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.artists.service.ExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Implementação da exportação do catálogo
+ * 
+ * As linhas vêm de um cursor JDBC com fetch size fixo (o driver do
+ * PostgreSQL só usa cursor dentro de transação, por isso o read-only
+ * TransactionTemplate) e são escritas uma a uma no stream: o heap não
+ * depende do tamanho do catálogo. Nomes dos artistas são agregados no SQL,
+ * sem passar pelas coleções lazy das entidades.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExportServiceImpl.class);
+    
+    // Subconsulta correlacionada em vez de GROUP BY: percorre albums pela PK
+    // sem ordenar o catálogo inteiro antes da primeira linha
+    private static final String ALBUMS_SQL =
+        "SELECT a.id, a.title, a.release_year, " +
+        "       (SELECT STRING_AGG(ar.name, '; ' ORDER BY ar.name) " +
+        "          FROM artist_album aa JOIN artists ar ON ar.id = aa.artist_id " +
+        "         WHERE aa.album_id = a.id) AS artists, " +
+        "       a.cover_count, a.created_at, a.updated_at " +
+        "FROM albums a ORDER BY a.id";
+    
+    private static final String ARTISTS_SQL =
+        "SELECT ar.id, ar.name, ar.bio, ar.album_count, ar.created_at, ar.updated_at " +
+        "FROM artists ar ORDER BY ar.id";
+    
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Override
+    public void exportAlbums(Format format, OutputStream out) {
+        export("albums", ALBUMS_SQL, format, out);
+    }
+    
+    @Override
+    public void exportArtists(Format format, OutputStream out) {
+        export("artists", ARTISTS_SQL, format, out);
+    }
+    
+    private void export(String resource, String sql, Format format, OutputStream out) {
+        long inicio = System.currentTimeMillis();
+        
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        
+        try {
+            RowSink sink = format == Format.CSV ? new CsvSink(out) : new NdjsonSink(out);
+            Long rows = readOnly.execute(status -> jdbcTemplate.query(sql, (ResultSetExtractor<Long>) rs -> {
+                long count = 0;
+                try {
+                    sink.header(rs.getMetaData());
+                    while (rs.next()) {
+                        sink.row(rs);
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            }));
+            sink.finish();
+            
+            logger.info("Exportação de {} ({}): {} linhas em {}ms",
+                    resource, format, rows, System.currentTimeMillis() - inicio);
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Destino das linhas de um formato de exportação
+     */
+    private interface RowSink {
+        void header(ResultSetMetaData meta) throws SQLException, IOException;
+        void row(ResultSet rs) throws SQLException, IOException;
+        void finish() throws IOException;
+    }
+    
+    /**
+     * Timestamps saem como LocalDateTime (ISO-8601), igual aos DTOs da API
+     */
+    private static Object value(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value;
+    }
+    
+    /**
+     * Um objeto JSON por linha, com os nomes das colunas como campos
+     */
+    private final class NdjsonSink implements RowSink {
+        private final JsonGenerator generator;
+        private String[] columns;
+        
+        private NdjsonSink(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.setRootValueSeparator(null);
+        }
+        
+        @Override
+        public void header(ResultSetMetaData meta) throws SQLException {
+            columns = new String[meta.getColumnCount()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = meta.getColumnLabel(i + 1).toLowerCase();
+            }
+        }
+        
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                generator.writeObjectField(columns[i], value(rs, i + 1));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+    
+    /**
+     * CSV (RFC 4180) com linha de cabeçalho
+     */
+    private static final class CsvSink implements RowSink {
+        private final Writer writer;
+        private int columnCount;
+        
+        private CsvSink(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+        
+        @Override
+        public void header(ResultSetMetaData meta) throws SQLException, IOException {
+            columnCount = meta.getColumnCount();
+            for (int i = 1; i <= columnCount; i++) {
+                write(i, meta.getColumnLabel(i).toLowerCase());
+            }
+        }
+        
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= columnCount; i++) {
+                Object value = value(rs, i);
+                write(i, value != null ? value.toString() : "");
+            }
+        }
+        
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+        
+        private void write(int column, String value) throws IOException {
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+            writer.write(column == columnCount ? "\r\n" : ",");
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.project.artists.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.project.artists.service.FileCacheService;
+import com.project.artists.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Cache de arquivos em duas camadas na frente do armazenamento (StorageBackend)
+ * 
+ * - heap: objetos até heap-max-object-size, guardados como byte[]
+ * - disco: objetos até disk-max-object-size, em arquivos no diretório
+ *   app.file-cache.dir, lidos em blocos na hora de servir (o objeto
+ *   inteiro nunca fica no heap). O destino é o OutputStream do servlet,
+ *   então o transferTo copia por um buffer, sem sendfile.
+ * - preenchimento: feito em segundo plano (fill-pool-size threads, fila de
+ *   fill-queue-capacity objetos); com a fila cheia o objeto fica para o
+ *   próximo acesso
+ * 
+ * As duas camadas são caches Caffeine com limite por peso (bytes), então
+ * o despejo considera o tamanho dos objetos; o arquivo de uma entrada
+ * despejada do disco é apagado. Métricas: cache.gets/cache.evictions
+ * {cache=files.heap|files.disk} (taxa de acerto por camada),
+ * files.cache.bytes.served{source=heap|disk|origin} e
+ * files.cache.weight{tier} (bytes ocupados).
+ */
+@Service
+public class FileCacheServiceImpl implements FileCacheService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(FileCacheServiceImpl.class);
+    
+    private static final Pattern CACHE_FILE_NAME = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.file-cache.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.file-cache.heap-max-bytes:64MB}")
+    private DataSize heapMaxBytes;
+    
+    @Value("${app.file-cache.heap-max-object-size:256KB}")
+    private DataSize heapMaxObjectSize;
+    
+    @Value("${app.file-cache.disk-max-bytes:1GB}")
+    private DataSize diskMaxBytes;
+    
+    @Value("${app.file-cache.disk-max-object-size:32MB}")
+    private DataSize diskMaxObjectSize;
+    
+    @Value("${app.file-cache.dir:${java.io.tmpdir}/artists-file-cache}")
+    private Path directory;
+    
+    @Value("${app.file-cache.fill-pool-size:2}")
+    private int fillPoolSize;
+    
+    @Value("${app.file-cache.fill-queue-capacity:100}")
+    private int fillQueueCapacity;
+    
+    private Cache<String, HeapFile> heap;
+    private Cache<String, DiskFile> disk;
+    
+    private ThreadPoolExecutor filler;
+    
+    /**
+     * Objetos baixando para o cache -> marca do preenchimento. invalidate()
+     * remove a marca, e o preenchimento que já não a encontra descarta o que
+     * gravou (o download pode ter começado antes da remoção do objeto).
+     */
+    private final ConcurrentHashMap<String, Object> filling = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    public void init() throws IOException {
+        heap = Caffeine.newBuilder()
+                .maximumWeight(heapMaxBytes.toBytes())
+                .weigher((String key, HeapFile file) -> file.content.length)
+                .recordStats()
+                .build();
+        disk = Caffeine.newBuilder()
+                .maximumWeight(diskMaxBytes.toBytes())
+                .weigher((String key, DiskFile file) -> (int) Math.min(file.metadata.size(), Integer.MAX_VALUE))
+                .removalListener((String key, DiskFile file, RemovalCause cause) -> {
+                    if (file != null) {
+                        file.delete();
+                    }
+                })
+                .recordStats()
+                .build();
+        
+        // Arquivos de execuções anteriores não estão no índice em memória;
+        // só apaga os nomes gerados pelo próprio cache
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> CACHE_FILE_NAME.matcher(path.getFileName().toString()).matches())
+                    .forEach(path -> path.toFile().delete());
+        }
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        filler = new ThreadPoolExecutor(fillPoolSize, fillPoolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fillQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-cache-fill-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, heap, "files.heap");
+        CaffeineCacheMetrics.monitor(meterRegistry, disk, "files.disk");
+        Gauge.builder("files.cache.weight", heap, cache -> cache.policy().eviction().orElseThrow().weightedSize().orElse(0))
+                .description("Bytes ocupados pela camada do cache de arquivos")
+                .tag("tier", "heap")
+                .register(meterRegistry);
+        Gauge.builder("files.cache.weight", disk, cache -> cache.policy().eviction().orElseThrow().weightedSize().orElse(0))
+                .description("Bytes ocupados pela camada do cache de arquivos")
+                .tag("tier", "disk")
+                .register(meterRegistry);
+        
+        logger.info("Cache de arquivos: heap {}MB (objetos até {}KB), disco {}MB em {} (objetos até {}MB){}",
+                heapMaxBytes.toMegabytes(), heapMaxObjectSize.toKilobytes(),
+                diskMaxBytes.toMegabytes(), directory, diskMaxObjectSize.toMegabytes(),
+                enabled ? "" : " - DESABILITADO");
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        filler.shutdownNow();
+    }
+    
+    @Override
+    public Optional<CachedFile> get(String objectName) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        HeapFile inHeap = heap.getIfPresent(objectName);
+        if (inHeap != null) {
+            return Optional.of(inHeap);
+        }
+        return Optional.ofNullable(disk.getIfPresent(objectName));
+    }
+    
+    @Override
+    public boolean isCacheable(long size) {
+        return enabled && size <= diskMaxObjectSize.toBytes();
+    }
+    
+    @Override
+    public Optional<CachedFile> put(StoredObject object, InputStream content) {
+        long size = object.size();
+        if (!isCacheable(size)) {
+            return Optional.empty();
+        }
+        
+        try {
+            if (size <= heapMaxObjectSize.toBytes()) {
+                byte[] bytes = content.readNBytes((int) size);
+                if (bytes.length != size) {
+                    return Optional.empty();
+                }
+                HeapFile file = new HeapFile(object, bytes);
+                heap.put(object.name(), file);
+                return Optional.of(file);
+            }
+            
+            Path path = directory.resolve(UUID.randomUUID().toString());
+            long written = Files.copy(content, path);
+            DiskFile file = new DiskFile(object, path);
+            if (written != size) {
+                file.delete();
+                return Optional.empty();
+            }
+            disk.put(object.name(), file);
+            return Optional.of(file);
+        } catch (IOException e) {
+            logger.warn("Falha ao guardar {} no cache de arquivos: {}", object.name(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void fillAsync(StoredObject object, ContentSource source) {
+        if (!isCacheable(object.size()) || get(object.name()).isPresent()) {
+            return;
+        }
+        
+        Object token = new Object();
+        if (filling.putIfAbsent(object.name(), token) != null) {
+            return;
+        }
+        
+        try {
+            filler.execute(() -> {
+                try (InputStream content = source.open()) {
+                    put(object, content);
+                } catch (Exception e) {
+                    logger.warn("Falha ao baixar {} para o cache de arquivos: {}", object.name(), e.getMessage());
+                } finally {
+                    if (!filling.remove(object.name(), token)) {
+                        heap.invalidate(object.name());
+                        disk.invalidate(object.name());
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            filling.remove(object.name(), token);
+            logger.debug("Fila do cache de arquivos cheia, {} fica para o próximo acesso", object.name());
+        }
+    }
+    
+    @Override
+    public void invalidate(String objectName) {
+        filling.remove(objectName);
+        heap.invalidate(objectName);
+        disk.invalidate(objectName);
+    }
+    
+    @Override
+    public void recordOriginBytes(long bytes) {
+        served("origin", bytes);
+    }
+    
+    private void served(String source, long bytes) {
+        Counter.builder("files.cache.bytes.served")
+                .description("Bytes de arquivos servidos por origem")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment(bytes);
+    }
+    
+    private final class HeapFile implements CachedFile {
+        
+        private final StoredObject metadata;
+        private final byte[] content;
+        
+        private HeapFile(StoredObject metadata, byte[] content) {
+            this.metadata = metadata;
+            this.content = content;
+        }
+        
+        @Override
+        public StoredObject metadata() {
+            return metadata;
+        }
+        
+        @Override
+        public Transfer open(long offset, long length) {
+            return out -> {
+                out.write(content, (int) offset, (int) length);
+                served("heap", length);
+            };
+        }
+    }
+    
+    private final class DiskFile implements CachedFile {
+        
+        private final StoredObject metadata;
+        private final Path path;
+        
+        private DiskFile(StoredObject metadata, Path path) {
+            this.metadata = metadata;
+            this.path = path;
+        }
+        
+        @Override
+        public StoredObject metadata() {
+            return metadata;
+        }
+        
+        @Override
+        public Transfer open(long offset, long length) {
+            return out -> {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    WritableByteChannel target = Channels.newChannel(out);
+                    long position = offset;
+                    long remaining = length;
+                    while (remaining > 0) {
+                        long sent = channel.transferTo(position, remaining, target);
+                        if (sent <= 0) {
+                            break;
+                        }
+                        position += sent;
+                        remaining -= sent;
+                    }
+                    served("disk", length - remaining);
+                }
+            };
+        }
+        
+        private void delete() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.warn("Falha ao apagar {} do cache de arquivos: {}", path, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.project.artists.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.project.artists.config.CacheConfig;
+import com.project.artists.dto.notification.NotificationType;
+import com.project.artists.dto.request.AlbumRequestDTO;
+import com.project.artists.dto.request.ArtistRequestDTO;
+import com.project.artists.dto.request.ImportLineDTO;
+import com.project.artists.dto.response.ImportReportDTO;
+import com.project.artists.entity.Album;
+import com.project.artists.entity.Artist;
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.ArtistRepository;
+import com.project.artists.service.ImportService;
+import com.project.artists.service.NotificationService;
+import com.project.artists.service.SuggestionService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação da importação NDJSON do catálogo
+ * 
+ * O arquivo é lido linha a linha e gravado em lotes de tamanho fixo, cada
+ * lote em sua própria transação: a memória usada não depende do tamanho do
+ * arquivo (exceto pelo mapa ref -> id dos artistas referenciáveis).
+ * Em cada lote os artistas são inseridos primeiro (saveAll, em batch JDBC)
+ * e os ids citados pelos álbuns são resolvidos com uma única consulta IN.
+ * Nenhuma notificação por item: só um resumo ao final.
+ */
+@Service
+public class ImportServiceImpl implements ImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImportServiceImpl.class);
+    
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${app.import.max-errors:1000}")
+    private int maxErrors;
+    
+    @Autowired
+    private ArtistRepository artistRepository;
+    
+    @Autowired
+    private AlbumRepository albumRepository;
+    
+    @Autowired
+    private SuggestionService suggestionService;
+    
+    @Autowired
+    private NotificationService notificationService;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Override
+    public ImportReportDTO importNdjson(InputStream input) {
+        long inicio = System.currentTimeMillis();
+        
+        ImportReportDTO report = new ImportReportDTO(maxErrors);
+        ObjectReader reader = objectMapper.readerFor(ImportLineDTO.class);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        
+        // ref -> id; null enquanto o artista ainda está no lote pendente
+        Map<String, Long> refs = new HashMap<>();
+        List<PendingLine> chunk = new ArrayList<>(chunkSize);
+        long number = 0;
+        
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                number++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                report.lineRead();
+                
+                ImportLineDTO item;
+                try {
+                    item = reader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    report.addError(number, "JSON inválido: " + e.getOriginalMessage());
+                    continue;
+                }
+                
+                String invalid = validate(item, refs);
+                if (invalid != null) {
+                    report.addError(number, invalid);
+                    continue;
+                }
+                
+                if (item.getType() == ImportLineDTO.Type.ARTIST && item.getRef() != null) {
+                    refs.put(item.getRef(), null);
+                }
+                chunk.add(new PendingLine(number, item));
+                
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, refs, report, transaction);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Leitura da importação interrompida na linha {}: {}", number + 1, e.getMessage());
+            report.addError(number + 1, "Leitura interrompida: " + e.getMessage());
+        }
+        
+        if (!chunk.isEmpty()) {
+            flush(chunk, refs, report, transaction);
+        }
+        
+        report.setTempoExecucaoMs(System.currentTimeMillis() - inicio);
+        logger.info("Importação concluída: {} linhas, {} artistas, {} álbuns, {} falhas em {}ms",
+                report.getLinesRead(), report.getArtistsCreated(), report.getAlbumsCreated(),
+                report.getFailed(), report.getTempoExecucaoMs());
+        
+        if (report.getArtistsCreated() > 0 || report.getAlbumsCreated() > 0) {
+            notificationService.sendNotification(
+                NotificationType.CATALOG_IMPORTED,
+                "Catálogo Importado",
+                String.format("%d artistas e %d álbuns foram importados.",
+                        report.getArtistsCreated(), report.getAlbumsCreated())
+            );
+        }
+        
+        return report;
+    }
+    
+    /**
+     * Valida a linha com as mesmas regras dos endpoints de cadastro
+     * 
+     * @return mensagem de erro ou null se a linha é válida
+     */
+    private String validate(ImportLineDTO item, Map<String, Long> refs) {
+        if (item == null || item.getType() == null) {
+            return "Campo 'type' deve ser artist ou album";
+        }
+        
+        if (item.getType() == ImportLineDTO.Type.ARTIST) {
+            if (item.getRef() != null && refs.containsKey(item.getRef())) {
+                return String.format("Referência '%s' já foi usada por outro artista", item.getRef());
+            }
+            return violations(validator.validate(new ArtistRequestDTO(item.getName(), item.getBio())));
+        }
+        
+        if (item.getArtistIds().isEmpty() && item.getArtistRefs().isEmpty()) {
+            return "Álbum deve ter pelo menos um artista";
+        }
+        for (String ref : item.getArtistRefs()) {
+            if (!refs.containsKey(ref)) {
+                return String.format("Referência de artista desconhecida: '%s'", ref);
+            }
+        }
+        return violations(validator.validateProperty(
+                new AlbumRequestDTO(item.getTitle(), item.getArtistIds(), item.getReleaseYear()), "title"));
+    }
+    
+    private <T> String violations(Set<ConstraintViolation<T>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+    
+    /**
+     * Grava o lote pendente em uma transação; se ela falhar, todas as linhas
+     * do lote entram no relatório e as refs declaradas nele são descartadas
+     */
+    private void flush(List<PendingLine> chunk, Map<String, Long> refs,
+                       ImportReportDTO report, TransactionTemplate transaction) {
+        try {
+            ChunkResult result = transaction.execute(status -> writeChunk(chunk, refs));
+            
+            refs.putAll(result.refs);
+            result.errors.forEach(error -> report.addError(error.getLine(), error.getMessage()));
+            report.addCreated(result.artists, result.albums);
+            
+        } catch (RuntimeException e) {
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            logger.warn("Lote de importação (linhas {}-{}) descartado: {}",
+                    chunk.get(0).number, chunk.get(chunk.size() - 1).number, cause);
+            
+            for (PendingLine pending : chunk) {
+                report.addError(pending.number, "Lote não gravado: " + cause);
+                if (pending.item.getType() == ImportLineDTO.Type.ARTIST && pending.item.getRef() != null) {
+                    refs.remove(pending.item.getRef());
+                }
+            }
+        } finally {
+            chunk.clear();
+        }
+    }
+    
+    private ChunkResult writeChunk(List<PendingLine> chunk, Map<String, Long> refs) {
+        ChunkResult result = new ChunkResult();
+        
+        // 1. Artistas do lote
+        List<Artist> artists = new ArrayList<>();
+        List<PendingLine> artistLines = new ArrayList<>();
+        for (PendingLine pending : chunk) {
+            if (pending.item.getType() == ImportLineDTO.Type.ARTIST) {
+                artists.add(new Artist(pending.item.getName(), pending.item.getBio()));
+                artistLines.add(pending);
+            }
+        }
+        
+        Map<Long, Artist> known = new HashMap<>();
+        if (!artists.isEmpty()) {
+            artistRepository.saveAll(artists);
+            for (int i = 0; i < artists.size(); i++) {
+                Artist artist = artists.get(i);
+                known.put(artist.getId(), artist);
+                suggestionService.artistSaved(artist.getId(), artist.getName());
+                
+                String ref = artistLines.get(i).item.getRef();
+                if (ref != null) {
+                    result.refs.put(ref, artist.getId());
+                }
+            }
+            result.artists = artists.size();
+        }
+        
+        // 2. Ids citados pelos álbuns que não são do próprio lote: uma consulta IN
+        Set<Long> missing = new HashSet<>();
+        for (PendingLine pending : chunk) {
+            if (pending.item.getType() == ImportLineDTO.Type.ALBUM) {
+                missing.addAll(pending.item.getArtistIds());
+                for (String ref : pending.item.getArtistRefs()) {
+                    Long id = resolveRef(ref, refs, result.refs);
+                    if (id != null) {
+                        missing.add(id);
+                    }
+                }
+            }
+        }
+        missing.removeAll(known.keySet());
+        if (!missing.isEmpty()) {
+            artistRepository.findAllById(missing).forEach(artist -> known.put(artist.getId(), artist));
+        }
+        
+        // 3. Álbuns
+        List<Album> albums = new ArrayList<>();
+        Set<Long> affectedArtistIds = new HashSet<>();
+        for (PendingLine pending : chunk) {
+            if (pending.item.getType() != ImportLineDTO.Type.ALBUM) {
+                continue;
+            }
+            
+            Set<Long> ids = new LinkedHashSet<>(pending.item.getArtistIds());
+            String error = null;
+            for (String ref : pending.item.getArtistRefs()) {
+                Long id = resolveRef(ref, refs, result.refs);
+                if (id == null) {
+                    error = String.format("Referência de artista '%s' não foi gravada", ref);
+                    break;
+                }
+                ids.add(id);
+            }
+            if (error == null) {
+                List<Long> notFound = ids.stream().filter(id -> !known.containsKey(id)).toList();
+                if (!notFound.isEmpty()) {
+                    error = "Artistas não encontrados: " + notFound;
+                }
+            }
+            if (error != null) {
+                result.errors.add(new ImportReportDTO.LineError(pending.number, error));
+                continue;
+            }
+            
+            Album album = new Album();
+            album.setTitle(pending.item.getTitle());
+            album.setReleaseYear(pending.item.getReleaseYear());
+            album.setArtists(ids.stream().map(known::get).collect(Collectors.toSet()));
+            albums.add(album);
+            affectedArtistIds.addAll(ids);
+        }
+        
+        if (!albums.isEmpty()) {
+            albumRepository.saveAll(albums);
+            albums.forEach(album -> suggestionService.albumSaved(album.getId(), album.getTitle()));
+            
+            artistRepository.refreshAlbumCounts(affectedArtistIds);
+            Cache artistDetails = cacheManager.getCache(CacheConfig.ARTIST_DETAILS);
+            if (artistDetails != null) {
+                affectedArtistIds.forEach(artistDetails::evict);
+            }
+            result.albums = albums.size();
+        }
+        
+        return result;
+    }
+    
+    private Long resolveRef(String ref, Map<String, Long> refs, Map<String, Long> chunkRefs) {
+        Long id = chunkRefs.get(ref);
+        return id != null ? id : refs.get(ref);
+    }
+    
+    private static final class PendingLine {
+        private final long number;
+        private final ImportLineDTO item;
+        
+        private PendingLine(long number, ImportLineDTO item) {
+            this.number = number;
+            this.item = item;
+        }
+    }
+    
+    private static final class ChunkResult {
+        private int artists;
+        private int albums;
+        private final Map<String, Long> refs = new HashMap<>();
+        private final List<ImportReportDTO.LineError> errors = new ArrayList<>();
+    }
+}
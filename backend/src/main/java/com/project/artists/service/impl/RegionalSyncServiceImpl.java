@@ -1,18 +1,29 @@
 package com.project.artists.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.artists.client.RegionalApiClient;
 import com.project.artists.dto.external.RegionalExternoDTO;
 import com.project.artists.dto.response.SyncResponseDTO;
 import com.project.artists.entity.Regional;
 import com.project.artists.repository.RegionalRepository;
 import com.project.artists.service.RegionalSyncService;
+import com.project.artists.util.RegionalSnapshot;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +69,10 @@ import java.util.stream.Collectors;
  * - Batch operations para inserções
  * - Single query para buscar locais
  * - Transação única para todas as operações
+ * - Listagens servidas pelo cache de segundo nível; a sincronização bem
+ *   sucedida esvazia as regiões de Regional após o commit
+ * - GET /regionais servido de uma foto imutável (RegionalSnapshot) trocada
+ *   por AtomicReference; só é remontada quando a sincronização muda algo
  */
 @Service
 @Transactional
@@ -71,6 +86,20 @@ public class RegionalSyncServiceImpl implements RegionalSyncService {
     @Autowired
     private RegionalRepository regionalRepository;
     
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final AtomicReference<RegionalSnapshot> snapshot = new AtomicReference<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuildSnapshot();
+    }
+    
     @Override
     public SyncResponseDTO sincronizar() {
         logger.info("=== INICIANDO SINCRONIZAÇÃO DE REGIONAIS ===");
@@ -131,7 +160,7 @@ public class RegionalSyncServiceImpl implements RegionalSyncService {
                         externo.getId(),
                         externo.getNome(),
                         true
-                    );
+                    ).marcarNovo();
                     novos.add(novoRegional);
                     
                 } else if (!local.getNome().equals(externo.getNome())) {
@@ -224,6 +253,9 @@ public class RegionalSyncServiceImpl implements RegionalSyncService {
             logger.info("=== SINCRONIZAÇÃO CONCLUÍDA EM {}ms ===", duration);
             logger.info(message);
             
+            boolean changed = !novos.isEmpty() || !removidos.isEmpty() || !alterados.isEmpty();
+            afterSyncCommit(changed);
+            
             return new SyncResponseDTO(true, message, stats);
             
         } catch (Exception e) {
@@ -243,6 +275,57 @@ public class RegionalSyncServiceImpl implements RegionalSyncService {
         }
     }
     
+    /**
+     * Depois do commit (antes dele, outra requisição poderia recarregar o
+     * estado antigo): esvazia o cache de segundo nível e, se algo mudou,
+     * remonta a foto servida pelo GET
+     */
+    private void afterSyncCommit(boolean changed) {
+        Runnable action = () -> {
+            doEvictRegionalCache();
+            if (changed || snapshot.get() == null) {
+                rebuildSnapshot();
+            }
+        };
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private void doEvictRegionalCache() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evict(Regional.class);
+        cache.evictQueryRegion(Regional.QUERY_CACHE_REGION);
+        logger.debug("Cache de segundo nível de regionais invalidado");
+    }
+    
+    private RegionalSnapshot rebuildSnapshot() {
+        RegionalSnapshot rebuilt = RegionalSnapshot.of(regionalRepository.findAll(), objectMapper);
+        snapshot.set(rebuilt);
+        logger.info("Foto de regionais montada: {} ativo(s), {} no total",
+                rebuilt.getAtivos().getSize(), rebuilt.getTodos().getSize());
+        return rebuilt;
+    }
+    
+    /**
+     * SUPPORTS: a leitura normal não abre transação nem EntityManager; só a
+     * primeira chamada antes do ApplicationReadyEvent consulta o banco
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public RegionalSnapshot snapshot() {
+        RegionalSnapshot current = snapshot.get();
+        return current != null ? current : rebuildSnapshot();
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<Regional> listarTodos() {
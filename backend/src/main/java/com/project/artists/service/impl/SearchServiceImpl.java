@@ -0,0 +1,137 @@
+package com.project.artists.service.impl;
+
+import com.project.artists.dto.request.CursorPageRequest;
+import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.dto.response.SearchResultDTO;
+import com.project.artists.exception.BadRequestException;
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.CatalogSearchRepository;
+import com.project.artists.repository.projection.AlbumArtistNameView;
+import com.project.artists.repository.projection.SearchHit;
+import com.project.artists.service.SearchService;
+import com.project.artists.service.StorageService;
+import com.project.artists.service.ThumbnailService;
+import com.project.artists.util.KeysetCursor;
+import com.project.artists.util.SearchText;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação da busca unificada
+ * 
+ * A continuação usa o mesmo KeysetCursor das listagens, com a chave
+ * "rank" e o valor "TIPO:rank" da última linha entregue
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchServiceImpl implements SearchService {
+    
+    private static final String CURSOR_SORT = "rank";
+    private static final String VALUE_SEPARATOR = ":";
+    
+    @Autowired
+    private CatalogSearchRepository catalogSearchRepository;
+    
+    @Autowired
+    private AlbumRepository albumRepository;
+    
+    @Autowired
+    private StorageService storageService;
+    
+    @Autowired
+    private ThumbnailService thumbnailService;
+    
+    @Override
+    public PageResponseDTO<SearchResultDTO> search(String q, SearchResultDTO.Type type, boolean byArtist,
+                                                   String cursor, int pageSize) {
+        int size = Math.min(Math.max(1, pageSize), CursorPageRequest.MAX_SIZE);
+        boolean first = cursor == null || cursor.isBlank();
+        String tsQuery = SearchText.prefixTsQuery(q);
+        
+        if (tsQuery.isEmpty()) {
+            return new PageResponseDTO<>(new ArrayList<>(), size, first, null);
+        }
+        
+        SearchHit after = first ? null : decodeCursor(cursor);
+        
+        // Busca size + 1 para saber se existe próxima página
+        List<SearchHit> hits = catalogSearchRepository.search(
+                tsQuery, type == null ? null : type.name(), byArtist, after, size + 1);
+        
+        String nextCursor = null;
+        if (hits.size() > size) {
+            hits = hits.subList(0, size);
+            nextCursor = encodeCursor(hits.get(hits.size() - 1));
+        }
+        
+        return new PageResponseDTO<>(toResultDTOs(hits), size, first, nextCursor);
+    }
+    
+    /**
+     * Nomes dos artistas de todos os álbuns da página em uma única consulta,
+     * como nas listagens de álbuns
+     */
+    private List<SearchResultDTO> toResultDTOs(List<SearchHit> hits) {
+        List<Long> albumIds = hits.stream()
+                .filter(hit -> CatalogSearchRepository.TYPE_ALBUM.equals(hit.getType()))
+                .map(SearchHit::getId)
+                .collect(Collectors.toList());
+        
+        Map<Long, List<String>> artistNamesByAlbum = new HashMap<>();
+        if (!albumIds.isEmpty()) {
+            for (AlbumArtistNameView row : albumRepository.findArtistNamesByAlbumIds(albumIds)) {
+                artistNamesByAlbum
+                        .computeIfAbsent(row.getAlbumId(), k -> new ArrayList<>())
+                        .add(row.getArtistName());
+            }
+        }
+        
+        return hits.stream()
+                .map(hit -> toResultDTO(hit, artistNamesByAlbum))
+                .collect(Collectors.toList());
+    }
+    
+    private SearchResultDTO toResultDTO(SearchHit hit, Map<Long, List<String>> artistNamesByAlbum) {
+        SearchResultDTO.Type type = SearchResultDTO.Type.valueOf(hit.getType());
+        SearchResultDTO dto = new SearchResultDTO(type, hit.getId(), hit.getLabel(), hit.getRank());
+        
+        if (type == SearchResultDTO.Type.ALBUM) {
+            dto.setReleaseYear(hit.getReleaseYear());
+            dto.setArtistNames(artistNamesByAlbum.getOrDefault(hit.getId(), new ArrayList<>()));
+            if (hit.getFirstCover() != null) {
+                dto.setCoverUrl(storageService.generatePresignedUrl(
+                        thumbnailService.variantOf(hit.getFirstCover(), ThumbnailService.Size.LIST)));
+            }
+        } else {
+            dto.setAlbumCount(hit.getAlbumCount() == null ? 0 : hit.getAlbumCount());
+        }
+        
+        return dto;
+    }
+    
+    private String encodeCursor(SearchHit last) {
+        String value = last.getType() + VALUE_SEPARATOR + Float.toString(last.getRank());
+        return KeysetCursor.of(CURSOR_SORT, Sort.Direction.DESC, last.getId(), value).encode();
+    }
+    
+    private SearchHit decodeCursor(String token) {
+        KeysetCursor cursor = KeysetCursor.decode(token, CURSOR_SORT, Sort.Direction.DESC);
+        String[] value = cursor.getSortValue().split(VALUE_SEPARATOR, 2);
+        
+        try {
+            SearchResultDTO.Type type = SearchResultDTO.Type.valueOf(value[0]);
+            float rank = Float.parseFloat(value[1]);
+            return new SearchHit(type.name(), cursor.getId(), null, rank);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("Cursor inválido", e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.project.artists.service.impl;
+
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.CoverBlobRepository;
+import com.project.artists.repository.projection.AlbumCoversView;
+import com.project.artists.service.CoverBlobService;
+import com.project.artists.service.StorageReconcilerService;
+import com.project.artists.service.StorageService;
+import com.project.artists.service.ThumbnailService;
+import com.project.artists.storage.StoredObject;
+import com.project.artists.util.CompactNameSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Implementação da reconciliação das capas
+ * 
+ * 1. Carrega os nomes referenciados (albums.cover_urls e cover_blobs com
+ *    ref_count > 0) em lotes keyset, em um CompactNameSet
+ * 2. Lista o prefixo das capas no armazenamento (paginado pelo backend);
+ *    miniaturas contam como referenciadas se o original é
+ * 3. Objetos mais novos que min-age são ignorados: podem ser de um upload
+ *    cuja transação ainda não confirmou
+ * 4. Órfãos são removidos em lotes de batch-size (removeObjects no MinIO),
+ *    no máximo deletes-per-second por segundo. Cada lote passa pelo
+ *    CoverBlobService.withUnreferenced, que trava os nomes em cover_blobs:
+ *    um objeto que um upload da mesma imagem acabou de reaproveitar fica,
+ *    e um upload que chegar durante a remoção espera e regrava o objeto.
+ * 
+ * Métricas: storage.reconciler.scanned, storage.reconciler.orphans,
+ * storage.reconciler.deleted e storage.reconciler.reclaimed.bytes.
+ */
+@Service
+public class StorageReconcilerServiceImpl implements StorageReconcilerService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StorageReconcilerServiceImpl.class);
+    
+    private static final String COVERS_PREFIX = "album-covers/";
+    
+    @Autowired
+    private StorageService storageService;
+    
+    @Autowired
+    private ThumbnailService thumbnailService;
+    
+    @Autowired
+    private AlbumRepository albumRepository;
+    
+    @Autowired
+    private CoverBlobRepository coverBlobRepository;
+    
+    @Autowired
+    private CoverBlobService coverBlobService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.storage.reconciler.min-age:24h}")
+    private Duration minAge;
+    
+    @Value("${app.storage.reconciler.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${app.storage.reconciler.deletes-per-second:200}")
+    private int deletesPerSecond;
+    
+    @Value("${app.storage.reconciler.dry-run:false}")
+    private boolean dryRun;
+    
+    @Override
+    public Result reconcile() {
+        CompactNameSet referenced = loadReferencedNames();
+        Instant cutoff = Instant.now().minus(minAge);
+        
+        long scanned = 0;
+        long orphans = 0;
+        long deleted = 0;
+        long reclaimedBytes = 0;
+        
+        List<Orphan> batch = new ArrayList<>(batchSize);
+        try (Stream<StoredObject> objects = storageService.list(COVERS_PREFIX)) {
+            Iterator<StoredObject> iterator = objects.iterator();
+            while (iterator.hasNext()) {
+                StoredObject object = iterator.next();
+                scanned++;
+                
+                String owner = thumbnailService.originalOf(object.name()).orElse(object.name());
+                if (referenced.contains(owner) || isRecent(object, cutoff)) {
+                    continue;
+                }
+                
+                orphans++;
+                batch.add(new Orphan(object, owner));
+                if (batch.size() == batchSize) {
+                    Removed removed = deleteBatch(batch);
+                    deleted += removed.count();
+                    reclaimedBytes += removed.bytes();
+                    batch.clear();
+                }
+            }
+        }
+        
+        if (!batch.isEmpty()) {
+            Removed removed = deleteBatch(batch);
+            deleted += removed.count();
+            reclaimedBytes += removed.bytes();
+        }
+        
+        meterRegistry.counter("storage.reconciler.scanned").increment(scanned);
+        meterRegistry.counter("storage.reconciler.orphans").increment(orphans);
+        
+        return new Result(scanned, orphans, deleted, reclaimedBytes);
+    }
+    
+    /**
+     * Nomes referenciados pelo banco; um nome em cover_urls sem linha em
+     * cover_blobs (ou o contrário) também é mantido
+     */
+    private CompactNameSet loadReferencedNames() {
+        CompactNameSet referenced = new CompactNameSet();
+        
+        long afterId = 0;
+        List<AlbumCoversView> albums;
+        do {
+            albums = albumRepository.findCoversAfter(afterId, PageRequest.of(0, batchSize));
+            for (AlbumCoversView album : albums) {
+                album.getCoverUrls().forEach(referenced::add);
+                afterId = album.getId();
+            }
+        } while (albums.size() == batchSize);
+        
+        String afterName = "";
+        List<String> names;
+        do {
+            names = coverBlobRepository.findReferencedNamesAfter(afterName, PageRequest.of(0, batchSize));
+            names.forEach(referenced::add);
+            if (!names.isEmpty()) {
+                afterName = names.get(names.size() - 1);
+            }
+        } while (names.size() == batchSize);
+        
+        return referenced.freeze();
+    }
+    
+    private Removed deleteBatch(List<Orphan> batch) {
+        Set<String> owners = new HashSet<>();
+        batch.forEach(orphan -> owners.add(orphan.owner()));
+        
+        if (dryRun) {
+            Set<String> reused = new HashSet<>(coverBlobRepository.findExistingNames(owners));
+            Selection selection = unreferenced(batch, owner -> !reused.contains(owner));
+            if (!selection.names().isEmpty()) {
+                logger.info("Reconciliação (dry-run): {} órfão(s), {} bytes, ex.: {}",
+                        selection.names().size(), selection.removed().bytes(), selection.names().get(0));
+            }
+            return new Removed(0, 0);
+        }
+        
+        long started = System.nanoTime();
+        Removed[] removed = {new Removed(0, 0)};
+        coverBlobService.withUnreferenced(owners, unreferenced -> {
+            Selection selection = unreferenced(batch, unreferenced::contains);
+            if (!selection.names().isEmpty()) {
+                storageService.deleteAll(selection.names());
+            }
+            removed[0] = selection.removed();
+        });
+        
+        if (removed[0].count() == 0) {
+            return removed[0];
+        }
+        meterRegistry.counter("storage.reconciler.deleted").increment(removed[0].count());
+        meterRegistry.counter("storage.reconciler.reclaimed.bytes").increment(removed[0].bytes());
+        
+        throttle(removed[0].count(), started);
+        return removed[0];
+    }
+    
+    /**
+     * Objetos do lote cujo dono passa no filtro
+     */
+    private static Selection unreferenced(List<Orphan> batch, Predicate<String> removable) {
+        List<String> names = new ArrayList<>(batch.size());
+        long bytes = 0;
+        for (Orphan orphan : batch) {
+            if (removable.test(orphan.owner())) {
+                names.add(orphan.object().name());
+                bytes += orphan.object().size();
+            }
+        }
+        return new Selection(names, new Removed(names.size(), bytes));
+    }
+    
+    /**
+     * Espera o suficiente para o lote não passar de deletes-per-second
+     */
+    private void throttle(int deleted, long startedNanos) {
+        if (deletesPerSecond <= 0) {
+            return;
+        }
+        long minimumNanos = deleted * 1_000_000_000L / deletesPerSecond;
+        long remainingMillis = (minimumNanos - (System.nanoTime() - startedNanos)) / 1_000_000;
+        if (remainingMillis > 0) {
+            try {
+                Thread.sleep(remainingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Reconciliação interrompida", e);
+            }
+        }
+    }
+    
+    private static boolean isRecent(StoredObject object, Instant cutoff) {
+        // Sem data não há como saber a idade: fica
+        return object.lastModified() == null || object.lastModified().isAfter(cutoff);
+    }
+    
+    /**
+     * Objeto órfão e o nome que decide se ele é referenciado (o original,
+     * no caso das miniaturas)
+     */
+    private record Orphan(StoredObject object, String owner) {}
+    
+    private record Removed(int count, long bytes) {}
+    
+    private record Selection(List<String> names, Removed removed) {}
+}
@@ -0,0 +1,373 @@
+package com.project.artists.service.impl;
+
+import com.project.artists.exception.BadRequestException;
+import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.service.FileCacheService;
+import com.project.artists.service.StorageService;
+import com.project.artists.storage.ObjectNames;
+import com.project.artists.storage.StagedUpload;
+import com.project.artists.storage.StorageBackend;
+import com.project.artists.storage.StoredObject;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Implementação do serviço de armazenamento sobre o StorageBackend ativo
+ * 
+ * O backend é preparado (bucket/diretório) uma única vez por processo, no
+ * primeiro upload. Uploads de vários arquivos rodam em paralelo em um pool
+ * compartilhado de upload.pool-size threads, com no máximo
+ * upload.max-parallel-per-request arquivos de uma mesma requisição ao mesmo
+ * tempo; se algum falhar, os já enviados são apagados (tudo ou nada).
+ * 
+ * Os arquivos são nomeados pelo SHA-256 do conteúdo, então reenviar uma
+ * imagem não grava outra cópia. O hash sai do próprio envio (para um nome
+ * provisório), e o publish leva o objeto para o nome definitivo. Quem apaga
+ * objetos compartilhados deve passar pelo CoverBlobService.
+ */
+@Service
+public class StorageServiceImpl implements StorageService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StorageServiceImpl.class);
+    
+    /**
+     * Subpasta dos nomes provisórios; sobras de uploads interrompidos são
+     * removidas pela reconciliação
+     */
+    private static final String STAGING_FOLDER = ".incoming/";
+    
+    @Autowired
+    private StorageBackend storageBackend;
+    
+    @Autowired
+    private FileCacheService fileCacheService;
+    
+    @Value("${app.minio.external-endpoint}")
+    private String externalEndpoint;  
+    
+    @Value("${app.storage.upload.pool-size:8}")
+    private int uploadPoolSize;
+    
+    @Value("${app.storage.upload.max-parallel-per-request:4}")
+    private int maxParallelPerRequest;
+    
+    private ThreadPoolExecutor uploadExecutor;
+    
+    private volatile boolean backendReady;
+    
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Fila cheia: a própria thread da requisição faz o upload
+        uploadExecutor = new ThreadPoolExecutor(uploadPoolSize, uploadPoolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(uploadPoolSize * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "storage-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+    
+    @Override
+    public List<StagedUpload> stageFiles(List<MultipartFile> files, String folder) {
+        // Valida tudo antes de enviar qualquer arquivo
+        files.forEach(this::validate);
+        ensureBackendReady();
+        
+        if (files.size() == 1) {
+            return List.of(stageFile(files.get(0), folder));
+        }
+        
+        Semaphore permits = new Semaphore(Math.max(1, maxParallelPerRequest));
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<StagedUpload>> uploads = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                permits.acquire();
+                if (failed.get()) {
+                    permits.release();
+                    break;
+                }
+                uploads.add(uploadExecutor.submit(() -> {
+                    try {
+                        // Outro arquivo já falhou: não envia o que ainda estava na fila
+                        if (failed.get()) {
+                            return null;
+                        }
+                        return stageFile(file, folder);
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.set(true);
+        }
+        
+        // Espera todos terminarem, mesmo após uma falha, para não sobrar upload em andamento
+        List<StagedUpload> staged = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+        for (Future<StagedUpload> upload : uploads) {
+            try {
+                StagedUpload result = upload.get();
+                if (result != null) {
+                    staged.add(result);
+                }
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new RuntimeException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.set(true);
+            }
+        }
+        
+        if (failure != null || failed.get() || staged.size() < files.size()) {
+            // Provisórios são só deste lote
+            deleteQuietly(staged.stream().map(StagedUpload::stagingName).toList());
+            throw failure != null ? failure : new RuntimeException("Upload dos arquivos interrompido");
+        }
+        
+        return staged;
+    }
+    
+    @Override
+    public StagedUpload stageObject(String objectName, String folder, DataSize maxSize) {
+        String stagingName = stagingName(folder);
+        storageBackend.move(objectName, stagingName);
+        fileCacheService.invalidate(objectName);
+        
+        StoredObject object = storageBackend.stat(stagingName);
+        // Mesmas regras do upload multipart: o objeto não fica no armazenamento
+        String rejection = null;
+        if (object.size() <= 0) {
+            rejection = "Arquivo está vazio";
+        } else if (object.size() > maxSize.toBytes()) {
+            rejection = "Arquivo maior que o limite de " + maxSize.toMegabytes() + "MB";
+        } else if (object.contentType() == null || !object.contentType().startsWith("image/")) {
+            rejection = "Apenas imagens são permitidas";
+        }
+        if (rejection != null) {
+            deleteQuietly(List.of(stagingName));
+            throw new BadRequestException(rejection);
+        }
+        
+        MessageDigest digest = sha256();
+        try (InputStream content = new DigestInputStream(storageBackend.get(stagingName, 0, null), digest)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            deleteQuietly(List.of(stagingName));
+            throw new RuntimeException("Erro ao ler arquivo: " + e.getMessage(), e);
+        }
+        return new StagedUpload(stagingName, contentName(folder, digest, object.contentType(), objectName));
+    }
+    
+    @Override
+    public boolean publish(StagedUpload upload) {
+        if (exists(upload.objectName())) {
+            logger.debug("Arquivo {} já está no armazenamento, upload descartado", upload.objectName());
+            deleteQuietly(List.of(upload.stagingName()));
+            return false;
+        }
+        storageBackend.move(upload.stagingName(), upload.objectName());
+        fileCacheService.invalidate(upload.objectName());
+        return true;
+    }
+    
+    @Override
+    public void putObject(String objectName, byte[] content, String contentType) {
+        storageBackend.put(objectName, new ByteArrayInputStream(content), content.length, contentType);
+        // Regravação do mesmo nome não pode continuar servindo a versão anterior
+        fileCacheService.invalidate(objectName);
+    }
+    
+    @Override
+    public Optional<String> presignUpload(String objectName, Duration expiry) {
+        ensureBackendReady();
+        return storageBackend.presignPut(objectName, expiry);
+    }
+    
+    @Override
+    public String generatePresignedUrl(String objectName) {
+        // Return Spring backend proxy URL instead of MinIO direct URL
+        return externalEndpoint.replace("9002", "8085") + "/api/v1/files/" + objectName;
+    }
+    
+    @Override
+    public List<String> generatePresignedUrls(List<String> objectNames) {
+        List<String> urls = new ArrayList<>();
+        
+        for (String objectName : objectNames) {
+            String url = generatePresignedUrl(objectName);
+            urls.add(url);
+        }
+        
+        return urls;
+    }
+    
+    @Override
+    public void deleteFile(String objectName) {
+        storageBackend.delete(objectName);
+        fileCacheService.invalidate(objectName);
+    }
+    
+    @Override
+    public void deleteQuietly(List<String> objectNames) {
+        for (String objectName : objectNames) {
+            try {
+                deleteFile(objectName);
+            } catch (Exception e) {
+                logger.warn("Erro ao apagar arquivo {}: {}", objectName, e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public void deleteAll(List<String> objectNames) {
+        storageBackend.deleteAll(objectNames);
+        objectNames.forEach(fileCacheService::invalidate);
+    }
+    
+    @Override
+    public boolean isAvailable() {
+        return storageBackend.isAvailable();
+    }
+    
+    @Override
+    public StoredObject stat(String objectName) {
+        return storageBackend.stat(objectName);
+    }
+    
+    @Override
+    public InputStream openStream(String objectName, long offset, Long length) {
+        return storageBackend.get(objectName, offset, length);
+    }
+    
+    @Override
+    public long transferTo(String objectName, long offset, Long length, OutputStream output) throws IOException {
+        return storageBackend.transferTo(objectName, offset, length, output);
+    }
+    
+    @Override
+    public Stream<StoredObject> list(String prefix) {
+        return storageBackend.list(prefix);
+    }
+    
+    private void validate(MultipartFile file) {
+        // Validar arquivo
+        if (file.isEmpty()) {
+            throw new BadRequestException("Arquivo está vazio");
+        }
+        
+        // Validar tipo de arquivo (apenas imagens)
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new BadRequestException("Apenas imagens são permitidas");
+        }
+    }
+    
+    /**
+     * Envia o arquivo para um nome provisório; o SHA-256 é calculado pelo
+     * DigestInputStream enquanto o backend lê o stream, sem segunda leitura
+     */
+    private StagedUpload stageFile(MultipartFile file, String folder) {
+        String stagingName = stagingName(folder);
+        MessageDigest digest = sha256();
+        
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            storageBackend.put(stagingName, inputStream, file.getSize(), file.getContentType());
+            // O backend pode parar no tamanho declarado: o que sobrar ainda entra no hash
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao fazer upload do arquivo: " + e.getMessage(), e);
+        }
+        
+        return new StagedUpload(stagingName,
+                contentName(folder, digest, file.getContentType(), file.getOriginalFilename()));
+    }
+    
+    private static String stagingName(String folder) {
+        return folder + "/" + STAGING_FOLDER + UUID.randomUUID();
+    }
+    
+    private static String contentName(String folder, MessageDigest digest, String contentType, String fileName) {
+        return folder + "/" + HexFormat.of().formatHex(digest.digest())
+                + ObjectNames.extensionOf(contentType, fileName);
+    }
+    
+    private boolean exists(String objectName) {
+        try {
+            storageBackend.stat(objectName);
+            return true;
+        } catch (ResourceNotFoundException e) {
+            return false;
+        }
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * Prepara o backend na primeira chamada; uma falha deixa para tentar de
+     * novo no próximo upload
+     */
+    private void ensureBackendReady() {
+        if (backendReady) {
+            return;
+        }
+        synchronized (this) {
+            if (!backendReady) {
+                storageBackend.initialize();
+                backendReady = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.artists.service.impl;
+
+import com.project.artists.dto.response.SuggestionDTO;
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.ArtistRepository;
+import com.project.artists.repository.projection.SuggestionEntryView;
+import com.project.artists.service.SuggestionService;
+import com.project.artists.util.SuggestionIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação do autocomplete
+ * 
+ * Os índices são carregados uma vez quando a aplicação sobe e depois
+ * mantidos pelos serviços de artistas e álbuns nas mesmas escritas que
+ * disparam notificações; as consultas de sugestão não tocam o banco.
+ */
+@Service
+public class SuggestionServiceImpl implements SuggestionService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionServiceImpl.class);
+    
+    private static final int MAX_LIMIT = 20;
+    
+    private final SuggestionIndex artists = new SuggestionIndex();
+    private final SuggestionIndex albums = new SuggestionIndex();
+    
+    @Autowired
+    private ArtistRepository artistRepository;
+    
+    @Autowired
+    private AlbumRepository albumRepository;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        
+        artists.replaceAll(toMap(artistRepository.findAllSuggestionEntries()));
+        albums.replaceAll(toMap(albumRepository.findAllSuggestionEntries()));
+        
+        logger.info("Índice de sugestões carregado: {} artista(s), {} álbum(ns) em {} ms",
+                artists.size(), albums.size(), System.currentTimeMillis() - start);
+    }
+    
+    @Override
+    public List<SuggestionDTO> suggestArtists(String query, int limit) {
+        return suggest(artists, query, limit);
+    }
+    
+    @Override
+    public List<SuggestionDTO> suggestAlbums(String query, int limit) {
+        return suggest(albums, query, limit);
+    }
+    
+    @Override
+    public void artistSaved(Long id, String name) {
+        afterCommit(() -> artists.put(id, name));
+    }
+    
+    @Override
+    public void artistRemoved(Long id) {
+        afterCommit(() -> artists.remove(id));
+    }
+    
+    @Override
+    public void albumSaved(Long id, String title) {
+        afterCommit(() -> albums.put(id, title));
+    }
+    
+    @Override
+    public void albumRemoved(Long id) {
+        afterCommit(() -> albums.remove(id));
+    }
+    
+    private List<SuggestionDTO> suggest(SuggestionIndex index, String query, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        
+        return index.search(query, boundedLimit).stream()
+                .map(entry -> new SuggestionDTO(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Só altera o índice se a transação confirmar; sem transação, aplica na hora
+     */
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+    
+    private Map<Long, String> toMap(List<SuggestionEntryView> rows) {
+        Map<Long, String> entries = new HashMap<>(rows.size() * 2);
+        for (SuggestionEntryView row : rows) {
+            entries.put(row.getId(), row.getLabel());
+        }
+        return entries;
+    }
+}
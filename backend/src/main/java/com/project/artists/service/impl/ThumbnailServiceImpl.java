@@ -0,0 +1,373 @@
+package com.project.artists.service.impl;
+
+import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.projection.AlbumCoversView;
+import com.project.artists.service.StorageService;
+import com.project.artists.service.ThumbnailService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Geração das miniaturas das capas com ImageIO
+ *
+ * - Derivadas: uma por largura configurada (thumbnail/list/detail-width),
+ *   no mesmo formato do original, com o sufixo _w{largura} antes da
+ *   extensão. Imagens mais estreitas que a largura não são ampliadas.
+ * - Pool: pool-size threads e fila de queue-capacity capas. Upload com a
+ *   fila cheia não espera: a capa fica sem derivada (o proxy serve o
+ *   original) até o próximo backfill. O backfill, ao contrário, gera na
+ *   própria thread quando a fila enche, sem descartar nada.
+ * - Imagens acima de max-source-pixels não são decodificadas (o bitmap
+ *   inteiro vai para o heap).
+ *
+ * Métricas: thumbnails.generated{result=ok|failed|skipped|rejected} e
+ * thumbnails.queue.size.
+ */
+@Service
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailServiceImpl.class);
+
+    private static final Pattern VARIANT_NAME = Pattern.compile("(.+)_w(\\d+)(\\.[^./]*)?");
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.thumbnails.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.thumbnails.thumbnail-width:64}")
+    private int thumbnailWidth;
+
+    @Value("${app.thumbnails.list-width:256}")
+    private int listWidth;
+
+    @Value("${app.thumbnails.detail-width:512}")
+    private int detailWidth;
+
+    @Value("${app.thumbnails.pool-size:2}")
+    private int poolSize;
+
+    @Value("${app.thumbnails.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${app.thumbnails.max-source-pixels:40000000}")
+    private long maxSourcePixels;
+
+    @Value("${app.thumbnails.backfill.batch-size:200}")
+    private int backfillBatchSize;
+
+    /** Larguras geradas, da maior para a menor */
+    private SortedSet<Integer> widths;
+
+    private ThreadPoolExecutor executor;
+
+    /** Capas enfileiradas ou em geração, para não gerar a mesma duas vezes */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        widths = new TreeSet<>((a, b) -> Integer.compare(b, a));
+        widths.addAll(List.of(thumbnailWidth, listWidth, detailWidth));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("thumbnails.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Capas aguardando geração de miniaturas")
+                .register(meterRegistry);
+
+        logger.info("Miniaturas de capas: larguras {}, {} thread(s), fila de {}{}",
+                widths, poolSize, queueCapacity, enabled ? "" : " - DESABILITADO");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String variantOf(String objectName, Size size) {
+        if (!enabled || objectName == null) {
+            return objectName;
+        }
+        return variantName(objectName, widthOf(size));
+    }
+
+    @Override
+    public Optional<String> originalOf(String objectName) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Matcher matcher = VARIANT_NAME.matcher(objectName);
+        if (!matcher.matches() || !widths.contains(Integer.parseInt(matcher.group(2)))) {
+            return Optional.empty();
+        }
+        String extension = matcher.group(3) != null ? matcher.group(3) : "";
+        return Optional.of(matcher.group(1) + extension);
+    }
+
+    @Override
+    public void generateAfterCommit(List<String> objectNames) {
+        if (!enabled || objectNames.isEmpty()) {
+            return;
+        }
+
+        Runnable enqueue = () -> objectNames.forEach(objectName -> submit(objectName, false));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue.run();
+                }
+            });
+        } else {
+            enqueue.run();
+        }
+    }
+
+    @Override
+    public void deleteVariants(String objectName) {
+        for (int width : widths) {
+            try {
+                storageService.deleteFile(variantName(objectName, width));
+            } catch (Exception e) {
+                logger.warn("Erro ao remover miniatura {}px de {}: {}", width, objectName, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public int backfill() {
+        if (!enabled) {
+            return 0;
+        }
+
+        int processed = 0;
+        long afterId = 0;
+        List<AlbumCoversView> batch;
+        do {
+            batch = albumRepository.findCoversAfter(afterId, PageRequest.of(0, backfillBatchSize));
+            for (AlbumCoversView album : batch) {
+                for (String objectName : album.getCoverUrls()) {
+                    if (hasMissingVariant(objectName)) {
+                        submit(objectName, true);
+                        processed++;
+                    }
+                }
+                afterId = album.getId();
+            }
+        } while (batch.size() == backfillBatchSize);
+
+        return processed;
+    }
+
+    private void submit(String objectName, boolean runWhenFull) {
+        if (!pending.add(objectName)) {
+            return;
+        }
+
+        Runnable task = () -> {
+            try {
+                generate(objectName);
+            } finally {
+                pending.remove(objectName);
+            }
+        };
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (runWhenFull) {
+                task.run();
+            } else {
+                pending.remove(objectName);
+                count("rejected");
+                logger.warn("Fila de miniaturas cheia, {} fica para o backfill", objectName);
+            }
+        }
+    }
+
+    /**
+     * Decodifica o original uma vez e reduz em cascata (512 -> 256 -> 64),
+     * cada derivada partindo da anterior
+     */
+    void generate(String objectName) {
+        try {
+            Source source = read(objectName);
+            if (source == null) {
+                count("skipped");
+                return;
+            }
+
+            BufferedImage current = source.image;
+            for (int width : widths) {
+                current = scale(current, width, source.opaque());
+                storageService.putObject(variantName(objectName, width), encode(current, source.format), source.contentType);
+            }
+            count("ok");
+        } catch (ResourceNotFoundException e) {
+            // Capa removida antes da geração
+            count("skipped");
+        } catch (Exception e) {
+            count("failed");
+            logger.warn("Erro ao gerar miniaturas de {}: {}", objectName, e.getMessage());
+        }
+    }
+
+    private Source read(String objectName) throws IOException {
+        try (InputStream content = storageService.openStream(objectName, 0, null);
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                logger.debug("Formato sem leitor ImageIO, sem miniaturas: {}", objectName);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    logger.warn("Capa {} com {} pixels acima do limite, sem miniaturas", objectName, pixels);
+                    return null;
+                }
+
+                String format = reader.getFormatName().toLowerCase();
+                String[] mimeTypes = reader.getOriginatingProvider().getMIMETypes();
+                String contentType = mimeTypes != null && mimeTypes.length > 0 ? mimeTypes[0] : "image/" + format;
+                return new Source(reader.read(0), format, contentType);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reduz pela metade até a largura final com interpolação bilinear, que
+     * preserva detalhes melhor que um único redimensionamento grande
+     */
+    private static BufferedImage scale(BufferedImage image, int width, boolean opaque) {
+        int targetWidth = Math.min(width, image.getWidth());
+        int targetHeight = Math.max(1, Math.round(image.getHeight() * (float) targetWidth / image.getWidth()));
+        int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            w = Math.max(w / 2, targetWidth);
+            h = Math.max(h / 2, targetHeight);
+
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, w, h, null);
+            graphics.dispose();
+            current = next;
+        } while (w != targetWidth || h != targetHeight);
+
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, output)) {
+            throw new IOException("Sem escritor ImageIO para " + format);
+        }
+        return output.toByteArray();
+    }
+
+    private boolean hasMissingVariant(String objectName) {
+        for (int width : widths) {
+            try {
+                storageService.stat(variantName(objectName, width));
+            } catch (ResourceNotFoundException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int widthOf(Size size) {
+        switch (size) {
+            case THUMBNAIL:
+                return thumbnailWidth;
+            case LIST:
+                return listWidth;
+            default:
+                return detailWidth;
+        }
+    }
+
+    private static String variantName(String objectName, int width) {
+        int dot = objectName.lastIndexOf('.');
+        if (dot <= objectName.lastIndexOf('/')) {
+            return objectName + "_w" + width;
+        }
+        return objectName.substring(0, dot) + "_w" + width + objectName.substring(dot);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("thumbnails.generated", "result", result).increment();
+    }
+
+    /**
+     * Original decodificado; JPEG e BMP não têm canal alfa
+     */
+    private record Source(BufferedImage image, String format, String contentType) {
+
+        boolean opaque() {
+            return !image.getColorModel().hasAlpha() || format.equals("jpeg") || format.equals("bmp");
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.project.artists.storage;
+
+import com.project.artists.exception.BadRequestException;
+import com.project.artists.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Armazenamento em diretório local (app.storage.local.dir), para instalação
+ * em um único nó e CI sem MinIO
+ *
+ * - Gravação em arquivo temporário no mesmo diretório + move atômico:
+ *   leitores nunca veem um objeto pela metade
+ * - Leitura do trecho pedido com FileChannel.transferTo em blocos; como o
+ *   destino é um OutputStream, a JDK copia por um buffer intermediário (não
+ *   é sendfile), mas o arquivo nunca é carregado inteiro no heap
+ * - ETag derivado de data de modificação e tamanho (como o nginx); o
+ *   content type vem da extensão
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.storage",
+    name = "backend",
+    havingValue = "local"
+)
+public class LocalStorageBackend implements StorageBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalStorageBackend.class);
+
+    private static final String TEMP_PREFIX = ".upload-";
+
+    @Value("${app.storage.local.dir:./data/storage}")
+    private Path root;
+
+    @PostConstruct
+    public void init() {
+        root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void initialize() {
+        try {
+            Files.createDirectories(root);
+            logger.info("Armazenamento local em {}", root);
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao criar diretório de armazenamento: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return Files.isDirectory(root) && Files.isWritable(root);
+    }
+
+    @Override
+    public void put(String name, InputStream content, long size, String contentType) {
+        Path target = resolve(name);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = target.resolveSibling(TEMP_PREFIX + UUID.randomUUID());
+            Files.copy(content, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteTemp(temp);
+            throw new RuntimeException("Erro ao fazer upload do arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream get(String name, long offset, Long length) {
+        try {
+            FileChannel channel = FileChannel.open(resolve(name), StandardOpenOption.READ);
+            channel.position(offset);
+            InputStream stream = Channels.newInputStream(channel);
+            return length != null ? new BoundedInputStream(stream, length) : stream;
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Arquivo", "nome", name);
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao ler arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StoredObject stat(String name) {
+        Path path = resolve(name);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                throw new ResourceNotFoundException("Arquivo", "nome", name);
+            }
+            return toStoredObject(name, attributes);
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Arquivo", "nome", name);
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao consultar arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String name) {
+        try {
+            Files.deleteIfExists(resolve(name));
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao deletar arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Move atômico dentro da raiz
+     */
+    @Override
+    public void move(String source, String target) {
+        Path from = resolve(source);
+        Path to = resolve(target);
+        try {
+            Files.createDirectories(to.getParent());
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Arquivo", "nome", source);
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao mover arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Percorre só o diretório do prefixo (album-covers/ -> root/album-covers)
+     */
+    @Override
+    public Stream<StoredObject> list(String prefix) {
+        int slash = prefix.lastIndexOf('/');
+        Path start = slash >= 0 ? resolve(prefix.substring(0, slash)) : root;
+        if (!Files.isDirectory(start)) {
+            return Stream.empty();
+        }
+
+        try {
+            return Files.walk(start)
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_PREFIX))
+                    .map(path -> {
+                        try {
+                            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                            return attributes.isRegularFile() ? toStoredObject(nameOf(path), attributes) : null;
+                        } catch (IOException e) {
+                            // Apagado durante a listagem
+                            return null;
+                        }
+                    })
+                    .filter(object -> object != null && object.name().startsWith(prefix));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * FileChannel.transferTo em laço: cada chamada pode copiar menos que o
+     * pedido. O canal de destino embrulha um OutputStream, então a cópia
+     * passa por um buffer da JDK
+     */
+    @Override
+    public long transferTo(String name, long offset, Long length, OutputStream output) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(name), StandardOpenOption.READ)) {
+            long end = length != null ? Math.min(offset + length, channel.size()) : channel.size();
+            WritableByteChannel target = Channels.newChannel(output);
+            long position = offset;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position - offset;
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Arquivo", "nome", name);
+        }
+    }
+
+    /**
+     * Nome relativo dentro da raiz; "..", caminho absoluto e afins são recusados
+     */
+    private Path resolve(String name) {
+        if (name == null || name.isBlank() || name.startsWith("/") || name.contains("\\")) {
+            throw new BadRequestException("Nome de arquivo inválido: " + name);
+        }
+        Path path = root.resolve(name).normalize();
+        if (!path.startsWith(root) || path.equals(root)
+                || path.getFileName().toString().startsWith(TEMP_PREFIX)) {
+            throw new BadRequestException("Nome de arquivo inválido: " + name);
+        }
+        return path;
+    }
+
+    private String nameOf(Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private static StoredObject toStoredObject(String name, BasicFileAttributes attributes) {
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        return new StoredObject(
+            name,
+            attributes.size(),
+            Long.toHexString(lastModified) + "-" + Long.toHexString(attributes.size()),
+            attributes.lastModifiedTime().toInstant(),
+            URLConnection.guessContentTypeFromName(name)
+        );
+    }
+
+    private static void deleteTemp(Path temp) {
+        if (temp != null) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Sobra só um temporário, ignorado pela listagem
+            }
+        }
+    }
+
+    /**
+     * Limita a leitura a length bytes a partir da posição atual
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = super.read();
+            if (value >= 0) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.project.artists.storage;
+
+import com.project.artists.exception.ResourceNotFoundException;
+import io.minio.*;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Armazenamento no MinIO (ou outro S3 compatível), no bucket
+ * app.minio.bucket-name com leitura pública
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "app.storage",
+    name = "backend",
+    havingValue = "minio",
+    matchIfMissing = true
+)
+public class MinioStorageBackend implements StorageBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(MinioStorageBackend.class);
+
+    @Autowired
+    private MinioClient minioClient;
+
+    /**
+     * Cliente apontado para o endpoint externo, só para assinar URLs que o
+     * navegador usa (a assinatura inclui o host)
+     */
+    @Autowired
+    @Qualifier("minioPresignClient")
+    private MinioClient presignClient;
+    
+    @Value("${app.minio.bucket-name}")
+    private String bucketName;
+
+    @Override
+    public void initialize() {
+        try {
+            boolean exists = isAvailable();
+
+            if (!exists) {
+                // Create bucket
+                minioClient.makeBucket(
+                    MakeBucketArgs.builder()
+                        .bucket(bucketName)
+                        .build()
+                );
+            }
+
+            // ALWAYS set the policy (even if bucket already exists)
+            String policy = String.format("""
+                {
+                    "Version": "2012-10-17",
+                    "Statement": [
+                        {
+                            "Effect": "Allow",
+                            "Principal": {"AWS": "*"},
+                            "Action": ["s3:GetObject"],
+                            "Resource": "arn:aws:s3:::%s/*"
+                        }
+                    ]
+                }
+                """, bucketName);
+
+            minioClient.setBucketPolicy(
+                SetBucketPolicyArgs.builder()
+                    .bucket(bucketName)
+                    .config(policy)
+                    .build()
+            );
+
+            logger.info("Bucket {} pronto (policy de leitura pública aplicada)", bucketName);
+
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao criar bucket: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        try {
+            return minioClient.bucketExists(
+                BucketExistsArgs.builder()
+                    .bucket(bucketName)
+                    .build()
+            );
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void put(String name, InputStream content, long size, String contentType) {
+        try {
+            minioClient.putObject(
+                PutObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(name)
+                    .stream(content, size, -1)
+                    .contentType(contentType)
+                    .build()
+            );
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao fazer upload do arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream get(String name, long offset, Long length) {
+        try {
+            GetObjectArgs.Builder args = GetObjectArgs.builder()
+                .bucket(bucketName)
+                .object(name)
+                .offset(offset);
+            if (length != null) {
+                args.length(length);
+            }
+            return minioClient.getObject(args.build());
+        } catch (ErrorResponseException e) {
+            if (isNotFound(e)) {
+                throw new ResourceNotFoundException("Arquivo", "nome", name);
+            }
+            throw new RuntimeException("Erro ao ler arquivo: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao ler arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StoredObject stat(String name) {
+        try {
+            StatObjectResponse stat = minioClient.statObject(
+                StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(name)
+                    .build()
+            );
+            return new StoredObject(
+                name,
+                stat.size(),
+                stat.etag(),
+                stat.lastModified() != null ? stat.lastModified().toInstant() : null,
+                stat.contentType()
+            );
+        } catch (ErrorResponseException e) {
+            if (isNotFound(e)) {
+                throw new ResourceNotFoundException("Arquivo", "nome", name);
+            }
+            throw new RuntimeException("Erro ao consultar arquivo: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao consultar arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String name) {
+        try {
+            minioClient.removeObject(
+                RemoveObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(name)
+                    .build()
+            );
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao deletar arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Cópia feita pelo próprio MinIO (CopyObject), sem trazer o conteúdo
+     */
+    @Override
+    public void move(String source, String target) {
+        try {
+            minioClient.copyObject(
+                CopyObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(target)
+                    .source(CopySource.builder().bucket(bucketName).object(source).build())
+                    .build()
+            );
+        } catch (ErrorResponseException e) {
+            if (isNotFound(e)) {
+                throw new ResourceNotFoundException("Arquivo", "nome", source);
+            }
+            throw new RuntimeException("Erro ao mover arquivo: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao mover arquivo: " + e.getMessage(), e);
+        }
+        delete(source);
+    }
+
+    @Override
+    public Optional<String> presignPut(String name, Duration expiry) {
+        try {
+            return Optional.of(presignClient.getPresignedObjectUrl(
+                GetPresignedObjectUrlArgs.builder()
+                    .method(Method.PUT)
+                    .bucket(bucketName)
+                    .object(name)
+                    .expiry((int) expiry.toSeconds())
+                    .build()
+            ));
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao gerar URL de upload: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Uma chamada removeObjects (DeleteObjects do S3) para até 1000 nomes;
+     * o resultado é lazy e precisa ser percorrido para a remoção acontecer
+     */
+    @Override
+    public void deleteAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<DeleteObject> objects = names.stream().map(DeleteObject::new).collect(Collectors.toList());
+        Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+            RemoveObjectsArgs.builder()
+                .bucket(bucketName)
+                .objects(objects)
+                .build()
+        );
+        try {
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                logger.warn("Erro ao deletar arquivo {}: {}", error.objectName(), error.message());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao deletar arquivos: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Listagem paginada pelo cliente (1000 chaves por chamada), consumida
+     * sob demanda pelo stream
+     */
+    @Override
+    public Stream<StoredObject> list(String prefix) {
+        Iterable<Result<Item>> results = minioClient.listObjects(
+            ListObjectsArgs.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .recursive(true)
+                .build()
+        );
+        return StreamSupport.stream(results.spliterator(), false)
+                .map(result -> {
+                    try {
+                        Item item = result.get();
+                        return new StoredObject(
+                            item.objectName(),
+                            item.size(),
+                            item.etag() != null ? item.etag().replace("\"", "") : null,
+                            item.lastModified() != null ? item.lastModified().toInstant() : null,
+                            null
+                        );
+                    } catch (Exception e) {
+                        throw new RuntimeException("Erro ao listar arquivos: " + e.getMessage(), e);
+                    }
+                });
+    }
+
+    private static boolean isNotFound(ErrorResponseException e) {
+        String code = e.errorResponse().code();
+        return "NoSuchKey".equals(code) || "NoSuchObject".equals(code) || "NoSuchBucket".equals(code);
+    }
+}
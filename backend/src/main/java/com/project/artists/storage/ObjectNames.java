@@ -0,0 +1,38 @@
+package com.project.artists.storage;
+
+import java.util.regex.Pattern;
+
+/**
+ * Regras de nomes de objetos compartilhadas pelos fluxos de upload
+ */
+public final class ObjectNames {
+    
+    /** Extensões vindas do cliente entram no nome do objeto: nada de "/" ou ".." */
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("\\.[a-z0-9]{1,10}");
+    
+    private ObjectNames() {}
+    
+    /**
+     * Extensão pelo content type, para a mesma imagem como .jpeg e .jpg
+     * cair no mesmo nome; tipos desconhecidos mantêm a do nome original,
+     * se for segura
+     */
+    public static String extensionOf(String contentType, String originalFilename) {
+        switch (contentType != null ? contentType : "") {
+            case "image/jpeg":
+                return ".jpg";
+            case "image/png":
+                return ".png";
+            case "image/gif":
+                return ".gif";
+            case "image/webp":
+                return ".webp";
+            default:
+                if (originalFilename != null && originalFilename.contains(".")) {
+                    String extension = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
+                    return SAFE_EXTENSION.matcher(extension).matches() ? extension : "";
+                }
+                return "";
+        }
+    }
+}
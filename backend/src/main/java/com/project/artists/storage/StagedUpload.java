@@ -0,0 +1,10 @@
+package com.project.artists.storage;
+
+/**
+ * Arquivo já gravado em um nome provisório e o nome definitivo derivado do
+ * conteúdo (folder/sha256.ext), para onde ele vai no publish
+ * 
+ * @param stagingName nome provisório no armazenamento
+ * @param objectName  nome definitivo
+ */
+public record StagedUpload(String stagingName, String objectName) {}
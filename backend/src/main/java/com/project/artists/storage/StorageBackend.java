@@ -0,0 +1,97 @@
+package com.project.artists.storage;
+
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * SPI de armazenamento de objetos (capas e derivadas)
+ * 
+ * Implementações: MinioStorageBackend (app.storage.backend=minio, padrão)
+ * e LocalStorageBackend (app.storage.backend=local). Os nomes são caminhos
+ * relativos com "/" (ex.: album-covers/x.jpg). Objeto inexistente lança
+ * ResourceNotFoundException; demais falhas, RuntimeException.
+ */
+public interface StorageBackend {
+    
+    /**
+     * Prepara o armazenamento (bucket, diretório); pode ser chamado de novo
+     * se falhar
+     */
+    void initialize();
+    
+    /**
+     * Indica se o armazenamento responde
+     */
+    boolean isAvailable();
+    
+    /**
+     * Grava o objeto por inteiro; quem chama fecha o stream
+     */
+    void put(String name, InputStream content, long size, String contentType);
+    
+    /**
+     * Abre o conteúdo a partir de offset; length null = até o fim.
+     * Quem chama fecha o stream.
+     */
+    InputStream get(String name, long offset, Long length);
+    
+    StoredObject stat(String name);
+    
+    /**
+     * Remove o objeto; objeto inexistente não é erro
+     */
+    void delete(String name);
+    
+    /**
+     * Remove vários objetos; a implementação padrão chama delete um a um
+     */
+    default void deleteAll(Collection<String> names) {
+        names.forEach(this::delete);
+    }
+    
+    /**
+     * Renomeia o objeto, substituindo o destino se existir. A implementação
+     * padrão regrava o conteúdo pelo stream e apaga a origem.
+     */
+    default void move(String source, String target) {
+        StoredObject object = stat(source);
+        try (InputStream content = get(source, 0, null)) {
+            put(target, content, object.size(), object.contentType());
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao mover arquivo: " + e.getMessage(), e);
+        }
+        delete(source);
+    }
+    
+    /**
+     * URL assinada para gravar o objeto com PUT sem passar pela aplicação;
+     * vazio quando o backend não expõe o armazenamento ao cliente (padrão)
+     */
+    default Optional<String> presignPut(String name, Duration expiry) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Objetos com o prefixo; quem chama fecha o stream
+     */
+    Stream<StoredObject> list(String prefix);
+    
+    /**
+     * Copia o trecho para a saída. A implementação padrão passa por um
+     * buffer (get + copy); backends locais podem copiar direto do arquivo.
+     * 
+     * @return bytes copiados
+     */
+    default long transferTo(String name, long offset, Long length, OutputStream output) throws IOException {
+        try (InputStream content = get(name, offset, length)) {
+            return StreamUtils.copy(content, output);
+        }
+    }
+}
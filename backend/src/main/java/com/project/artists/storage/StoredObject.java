@@ -0,0 +1,10 @@
+package com.project.artists.storage;
+
+import java.time.Instant;
+
+/**
+ * Metadados de um objeto armazenado
+ * 
+ * @param eTag ETag do armazenamento, sem aspas
+ */
+public record StoredObject(String name, long size, String eTag, Instant lastModified, String contentType) {}
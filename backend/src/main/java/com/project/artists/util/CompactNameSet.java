@@ -0,0 +1,70 @@
+package com.project.artists.util;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto compacto de nomes para conferir pertencimento em lote
+ * 
+ * Guarda só um hash de 64 bits (FNV-1a) por nome, em um long[] ordenado:
+ * 8 bytes por nome contra algo perto de 100 de uma String em um HashSet.
+ * Uma colisão faz um nome ausente parecer presente (nunca o contrário),
+ * então o uso seguro é "presente = manter".
+ * 
+ * Preenchido com add e fechado com freeze; contains só depois do freeze.
+ */
+public class CompactNameSet {
+    
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private long[] hashes = new long[1024];
+    private int size;
+    private boolean frozen;
+    
+    public void add(String name) {
+        if (frozen) {
+            throw new IllegalStateException("Conjunto já fechado");
+        }
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        hashes[size++] = hash(name);
+    }
+    
+    /**
+     * Ordena e remove repetidos; depois disso o conjunto é só leitura
+     */
+    public CompactNameSet freeze() {
+        Arrays.sort(hashes, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || hashes[i] != hashes[distinct - 1]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        hashes = Arrays.copyOf(hashes, distinct);
+        size = distinct;
+        frozen = true;
+        return this;
+    }
+    
+    public boolean contains(String name) {
+        if (!frozen) {
+            throw new IllegalStateException("Conjunto ainda não fechado");
+        }
+        return Arrays.binarySearch(hashes, 0, size, hash(name)) >= 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private static long hash(String name) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= name.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.artists.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.exception.BadRequestException;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Campos pedidos via parâmetro fields= (sparse fieldsets)
+ * 
+ * Os serviços consultam includes() para pular joins e geração de URLs de
+ * capa que o cliente não pediu; o controller usa project() para escrever
+ * só esses campos no JSON. O id é sempre incluído.
+ */
+public final class FieldSet {
+    
+    public static final FieldSet ALL = new FieldSet(null);
+    
+    private final Set<String> fields;
+    
+    private FieldSet(Set<String> fields) {
+        this.fields = fields;
+    }
+    
+    /**
+     * @param raw     valor do parâmetro ("id,title"); null ou vazio = todos
+     * @param allowed campos existentes no DTO de resposta
+     */
+    public static FieldSet parse(String raw, Set<String> allowed) {
+        if (raw == null || raw.isBlank()) {
+            return ALL;
+        }
+        
+        Set<String> fields = new LinkedHashSet<>();
+        fields.add("id");
+        for (String field : raw.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new BadRequestException(String.format(
+                        "Campo desconhecido em fields: '%s'. Permitidos: %s", name, new TreeSet<>(allowed)));
+            }
+            fields.add(name);
+        }
+        
+        return new FieldSet(Collections.unmodifiableSet(fields));
+    }
+    
+    public boolean isAll() {
+        return fields == null;
+    }
+    
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+    
+    /**
+     * Remove do corpo da resposta os campos não pedidos; em páginas, o filtro
+     * vale para cada item de content
+     */
+    public Object project(Object body, ObjectMapper objectMapper) {
+        if (isAll() || body == null) {
+            return body;
+        }
+        
+        JsonNode tree = objectMapper.valueToTree(body);
+        if (body instanceof PageResponseDTO<?>) {
+            tree.path("content").forEach(this::retain);
+        } else {
+            retain(tree);
+        }
+        return tree;
+    }
+    
+    private void retain(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.retain(fields);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.artists.util;
+
+import com.project.artists.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco da paginação keyset
+ * 
+ * Guarda a última tupla (valor da ordenação, id) entregue ao cliente,
+ * junto com o campo e a direção da ordenação, para que a próxima página
+ * seja buscada com "(sort_key, id) > (:valor, :id)" em vez de OFFSET.
+ * 
+ * Formato: base64url("campo|direção|id|valor")
+ */
+public final class KeysetCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Long id;
+    private final String sortValue;
+    
+    private KeysetCursor(String sortBy, Sort.Direction direction, Long id, String sortValue) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.id = id;
+        this.sortValue = sortValue;
+    }
+    
+    public static KeysetCursor of(String sortBy, Sort.Direction direction, Long id, String sortValue) {
+        return new KeysetCursor(sortBy, direction, id, sortValue == null ? "" : sortValue);
+    }
+    
+    /**
+     * Decodifica o cursor e valida se ele pertence à mesma ordenação da requisição
+     */
+    public static KeysetCursor decode(String token, String expectedSortBy, Sort.Direction expectedDirection) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor inválido", e);
+        }
+        
+        if (parts.length != 4) {
+            throw new BadRequestException("Cursor inválido");
+        }
+        
+        if (!parts[0].equals(expectedSortBy) || !parts[1].equals(expectedDirection.name())) {
+            throw new BadRequestException("Cursor não corresponde à ordenação solicitada");
+        }
+        
+        try {
+            return new KeysetCursor(parts[0], expectedDirection, Long.parseLong(parts[2]), parts[3]);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Cursor inválido", e);
+        }
+    }
+    
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public String getSortBy() { return sortBy; }
+    
+    public Sort.Direction getDirection() { return direction; }
+    
+    public Long getId() { return id; }
+    
+    public String getSortValue() { return sortValue; }
+}
@@ -0,0 +1,90 @@
+package com.project.artists.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.artists.entity.Regional;
+import org.springframework.util.DigestUtils;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Foto imutável dos regionais, pronta para servir
+ * 
+ * Guarda o JSON já serializado (ativos e todos, ordenados por id) e o ETag
+ * calculado sobre os próprios bytes. Montada só na sincronização e trocada
+ * inteira (AtomicReference em RegionalSyncServiceImpl): quem lê nunca vê
+ * uma foto pela metade, não trava e não consulta o banco.
+ */
+public final class RegionalSnapshot {
+    
+    private final Payload ativos;
+    private final Payload todos;
+    private final Instant builtAt;
+    
+    private RegionalSnapshot(Payload ativos, Payload todos) {
+        this.ativos = ativos;
+        this.todos = todos;
+        this.builtAt = Instant.now();
+    }
+    
+    public static RegionalSnapshot of(List<Regional> regionais, ObjectMapper objectMapper) {
+        List<Regional> todos = regionais.stream()
+                .sorted(Comparator.comparing(Regional::getId))
+                .toList();
+        List<Regional> ativos = todos.stream()
+                .filter(regional -> Boolean.TRUE.equals(regional.getAtivo()))
+                .toList();
+        return new RegionalSnapshot(Payload.of(ativos, objectMapper), Payload.of(todos, objectMapper));
+    }
+    
+    public Payload getAtivos() {
+        return ativos;
+    }
+    
+    public Payload getTodos() {
+        return todos;
+    }
+    
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+    
+    /**
+     * Corpo serializado de uma listagem; o array é compartilhado entre as
+     * requisições e não deve ser alterado
+     */
+    public static final class Payload {
+        
+        private final byte[] json;
+        private final String eTag;
+        private final int size;
+        
+        private Payload(byte[] json, int size) {
+            this.json = json;
+            this.eTag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            this.size = size;
+        }
+        
+        private static Payload of(List<Regional> regionais, ObjectMapper objectMapper) {
+            try {
+                return new Payload(objectMapper.writeValueAsBytes(regionais), regionais.size());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Falha ao serializar regionais", e);
+            }
+        }
+        
+        public byte[] getJson() {
+            return json;
+        }
+        
+        public String getETag() {
+            return eTag;
+        }
+        
+        public int getSize() {
+            return size;
+        }
+    }
+}
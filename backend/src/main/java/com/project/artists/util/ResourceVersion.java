@@ -0,0 +1,76 @@
+package com.project.artists.util;
+
+import com.project.artists.repository.projection.VersionStampView;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Validadores HTTP (ETag forte + Last-Modified) de um recurso ou página
+ * 
+ * O ETag é o hash da "impressão digital" da versão, não do JSON, então
+ * pode ser calculado antes de carregar entidades e montar o DTO.
+ */
+public final class ResourceVersion {
+    
+    private final String eTag;
+    private final long lastModified;
+    
+    private ResourceVersion(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+    
+    public static ResourceVersion of(String fingerprint, LocalDateTime lastModified) {
+        String hash = DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8));
+        long millis = lastModified == null
+                ? -1
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new ResourceVersion("\"" + hash + "\"", millis);
+    }
+    
+    /**
+     * Versão de um detalhe a partir do updated_at do registro e dos
+     * relacionados embutidos no DTO; Last-Modified é o mais recente deles
+     */
+    public static ResourceVersion ofStamps(String resource, Long id, List<? extends VersionStampView> stamps) {
+        StringBuilder fingerprint = new StringBuilder(resource).append(':').append(id)
+                .append(':').append(stamps.get(0).getUpdatedAt());
+        LocalDateTime lastModified = stamps.get(0).getUpdatedAt();
+        
+        List<? extends VersionStampView> related = stamps.stream()
+                .filter(stamp -> stamp.getRelatedId() != null)
+                .sorted(Comparator.comparing(VersionStampView::getRelatedId))
+                .toList();
+        
+        for (VersionStampView stamp : related) {
+            fingerprint.append('|').append(stamp.getRelatedId()).append('@').append(stamp.getRelatedUpdatedAt());
+            if (stamp.getRelatedUpdatedAt() != null
+                    && (lastModified == null || stamp.getRelatedUpdatedAt().isAfter(lastModified))) {
+                lastModified = stamp.getRelatedUpdatedAt();
+            }
+        }
+        
+        return of(fingerprint.toString(), lastModified);
+    }
+    
+    /**
+     * Chave da página: caminho + query string (página, tamanho, ordenação, cursor, filtros)
+     */
+    public static String requestKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+    
+    public String getETag() { return eTag; }
+    
+    /**
+     * Epoch em milissegundos, ou -1 quando desconhecido
+     */
+    public long getLastModified() { return lastModified; }
+}
@@ -0,0 +1,66 @@
+package com.project.artists.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização dos termos de busca textual
+ */
+public final class SearchText {
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    
+    private SearchText() {}
+    
+    /**
+     * Minúsculas e sem acentos ("Não" -> "nao"), mesma regra de
+     * immutable_unaccent(lower(...)) usada nos índices do banco
+     */
+    public static String fold(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(raw, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Termo usado no ranking por similaridade
+     */
+    public static String term(String raw) {
+        return raw == null ? "" : raw.trim();
+    }
+    
+    /**
+     * Padrão LIKE de "contém", com os curingas digitados pelo usuário escapados
+     * (o escape padrão do PostgreSQL é a barra invertida)
+     */
+    public static String containsPattern(String raw) {
+        String escaped = term(raw)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+    
+    /**
+     * tsquery de prefixos ("nao pa" -> "nao:* & pa:*") para to_tsquery('simple', ...)
+     * 
+     * Só letras e dígitos chegam ao tsquery, então a sintaxe do usuário
+     * (&, |, !, parênteses) nunca é interpretada; vazio se não houver palavras
+     */
+    public static String prefixTsQuery(String raw) {
+        StringBuilder query = new StringBuilder();
+        for (String word : fold(raw).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append(" & ");
+            }
+            query.append(word).append(":*");
+        }
+        return query.toString();
+    }
+}
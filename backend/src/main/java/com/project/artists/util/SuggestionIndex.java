@@ -0,0 +1,120 @@
+package com.project.artists.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Índice de prefixos em memória para o autocomplete
+ * 
+ * Cada rótulo é normalizado (SearchText.fold) e quebrado em palavras; a busca
+ * encontra os ids cujas palavras começam com cada termo digitado, via
+ * subMap do ConcurrentSkipListMap, sem consultar o banco.
+ * 
+ * Leituras são lock-free; escritas são serializadas no próprio índice.
+ */
+public class SuggestionIndex {
+    
+    private static final String WORD_SEPARATORS = "[^\\p{L}\\p{N}]+";
+    
+    private final ConcurrentHashMap<Long, String> labels = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> words = new ConcurrentSkipListMap<>();
+    
+    public synchronized void put(Long id, String label) {
+        String previous = labels.put(id, label);
+        if (previous != null) {
+            unindex(id, previous);
+        }
+        for (String word : words(label)) {
+            words.computeIfAbsent(word, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+    
+    public synchronized void remove(Long id) {
+        String previous = labels.remove(id);
+        if (previous != null) {
+            unindex(id, previous);
+        }
+    }
+    
+    /**
+     * Substitui todo o conteúdo (carga inicial)
+     */
+    public synchronized void replaceAll(Map<Long, String> entries) {
+        labels.clear();
+        words.clear();
+        entries.forEach(this::put);
+    }
+    
+    public int size() {
+        return labels.size();
+    }
+    
+    /**
+     * Até 'limit' entradas cujas palavras começam com os termos da consulta
+     * 
+     * Ordem: rótulo que começa com a consulta inteira, depois rótulos mais
+     * curtos, depois ordem alfabética
+     */
+    public List<Map.Entry<Long, String>> search(String query, int limit) {
+        List<String> terms = words(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        // O termo mais longo costuma ser o mais seletivo
+        terms.sort(Comparator.comparingInt(String::length).reversed());
+        
+        Set<Long> candidates = idsWithPrefix(terms.get(0));
+        for (int i = 1; i < terms.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(idsWithPrefix(terms.get(i)));
+        }
+        
+        String foldedQuery = String.join(" ", words(query));
+        
+        return candidates.stream()
+                .map(id -> Map.entry(id, labels.getOrDefault(id, "")))
+                .filter(entry -> !entry.getValue().isEmpty())
+                .sorted(Comparator
+                        .comparing((Map.Entry<Long, String> entry) ->
+                                !String.join(" ", words(entry.getValue())).startsWith(foldedQuery))
+                        .thenComparingInt(entry -> entry.getValue().length())
+                        .thenComparing(Map.Entry::getValue, String.CASE_INSENSITIVE_ORDER)
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+    
+    private Set<Long> idsWithPrefix(String prefix) {
+        NavigableMap<String, Set<Long>> matches = words.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        Set<Long> ids = new HashSet<>();
+        matches.values().forEach(ids::addAll);
+        return ids;
+    }
+    
+    private void unindex(Long id, String label) {
+        for (String word : words(label)) {
+            words.computeIfPresent(word, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+    
+    private static List<String> words(String text) {
+        List<String> result = new ArrayList<>();
+        for (String word : SearchText.fold(text).split(WORD_SEPARATORS)) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+}
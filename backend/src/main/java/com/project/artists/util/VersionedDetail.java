@@ -0,0 +1,32 @@
+package com.project.artists.util;
+
+import org.springframework.cache.Cache;
+
+/**
+ * Detalhe em cache junto com o ETag da versão de que foi montado
+ * 
+ * O cache de detalhes guarda este par em vez do DTO: uma leitura que montou
+ * o detalhe antes de uma escrita pode gravá-lo depois do evict da escrita,
+ * e o ETag guardado é o que denuncia a versão antiga.
+ */
+public record VersionedDetail<T>(String eTag, T detail) {
+    
+    /**
+     * Detalhe em cache para id, só se foi montado na mesma versão; null se
+     * não há entrada ou se ela é de outra versão (a próxima carga a substitui)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(Cache cache, Object id, ResourceVersion version) {
+        VersionedDetail<T> cached = cache != null ? cache.get(id, VersionedDetail.class) : null;
+        if (cached == null || !cached.eTag().equals(version.getETag())) {
+            return null;
+        }
+        return cached.detail();
+    }
+    
+    public static <T> void put(Cache cache, Object id, ResourceVersion version, T detail) {
+        if (cache != null) {
+            cache.put(id, new VersionedDetail<>(version.getETag(), detail));
+        }
+    }
+}
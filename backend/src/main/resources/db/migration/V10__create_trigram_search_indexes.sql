@@ -0,0 +1,16 @@
+-- Busca textual indexada: pg_trgm atende LIKE '%termo%' via GIN e unaccent
+-- permite casar "Nao" com "Não" e "invisiveis" com "Invisíveis"
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE (depende do search_path) e não pode ser usada em
+-- índice de expressão; o wrapper fixa o dicionário e é IMMUTABLE
+CREATE OR REPLACE FUNCTION immutable_unaccent(text)
+    RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+CREATE INDEX idx_albums_title_trgm ON albums USING gin (immutable_unaccent(lower(title)) gin_trgm_ops);
+CREATE INDEX idx_artists_name_trgm ON artists USING gin (immutable_unaccent(lower(name)) gin_trgm_ops);
+
+COMMENT ON FUNCTION immutable_unaccent(text) IS 'unaccent IMMUTABLE para os índices trigram de busca';
@@ -0,0 +1,22 @@
+-- Busca unificada (/api/v1/search): tsvector mantido pelo próprio PostgreSQL
+-- (coluna gerada) e indexado com GIN.
+-- Config 'simple' + immutable_unaccent: sem stemming, para casar nomes próprios
+-- e títulos em qualquer idioma; o nome do artista pesa mais que a bio.
+ALTER TABLE albums
+    ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', immutable_unaccent(lower(title))), 'A')
+    ) STORED;
+
+ALTER TABLE artists
+    ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', immutable_unaccent(lower(name))), 'A') ||
+        setweight(to_tsvector('simple', immutable_unaccent(lower(COALESCE(bio, '')))), 'C')
+    ) STORED;
+
+CREATE INDEX idx_albums_search_vector ON albums USING GIN (search_vector);
+CREATE INDEX idx_artists_search_vector ON artists USING GIN (search_vector);
+
+COMMENT ON COLUMN albums.search_vector IS 'tsvector do título (coluna gerada)';
+COMMENT ON COLUMN artists.search_vector IS 'tsvector do nome (peso A) e da bio (peso C) (coluna gerada)';
@@ -0,0 +1,34 @@
+-- Versão global do catálogo, usada no ETag das páginas de listagem/busca
+-- Incrementada por trigger de statement a cada escrita em albums, artists e
+-- artist_album, inclusive escritas feitas fora da aplicação
+CREATE TABLE catalog_version (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO catalog_version (id, version) VALUES (1, 1);
+
+CREATE OR REPLACE FUNCTION bump_catalog_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE catalog_version SET version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = 1;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_albums_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE ON albums
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_version();
+
+CREATE TRIGGER trg_artists_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE ON artists
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_version();
+
+CREATE TRIGGER trg_artist_album_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE ON artist_album
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_version();
+
+COMMENT ON TABLE catalog_version IS 'Contador global de escritas no catálogo (ETag das páginas)';
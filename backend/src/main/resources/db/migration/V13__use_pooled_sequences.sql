@@ -0,0 +1,15 @@
+-- IDENTITY desabilita o batch de INSERT do Hibernate (o id só é conhecido
+-- depois de cada INSERT). As entidades passam a usar as sequences criadas
+-- pelos BIGSERIAL com o otimizador pooled: um nextval reserva 50 ids.
+-- O DEFAULT nextval(...) das colunas continua valendo para INSERTs manuais.
+ALTER SEQUENCE artists_id_seq INCREMENT BY 50;
+ALTER SEQUENCE albums_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE refresh_tokens_id_seq INCREMENT BY 50;
+
+-- Alinha cada sequence ao maior id existente: o próximo nextval devolve
+-- max(id) + 50 e o Hibernate usa a faixa (max(id) + 1 .. max(id) + 50)
+SELECT setval('artists_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM artists), 1));
+SELECT setval('albums_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM albums), 1));
+SELECT setval('users_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users), 1));
+SELECT setval('refresh_tokens_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM refresh_tokens), 1));
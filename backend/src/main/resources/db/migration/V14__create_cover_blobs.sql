@@ -0,0 +1,18 @@
+-- Capas passam a ser nomeadas pelo SHA-256 do conteúdo (album-covers/<hash>.<ext>):
+-- a mesma imagem enviada de novo reaproveita o objeto existente. ref_count
+-- conta as ocorrências do objeto em albums.cover_urls; o objeto só é apagado
+-- do armazenamento quando chega a zero.
+CREATE TABLE cover_blobs (
+    object_name VARCHAR(500) PRIMARY KEY,
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Capas já existentes (nomes UUID) entram com a contagem atual
+INSERT INTO cover_blobs (object_name, ref_count)
+SELECT c.object_name, COUNT(*)
+FROM albums a, jsonb_array_elements_text(a.cover_urls) AS c(object_name)
+WHERE jsonb_typeof(a.cover_urls) = 'array'
+GROUP BY c.object_name;
+
+COMMENT ON TABLE cover_blobs IS 'Objetos de capa no armazenamento e quantas vezes aparecem em albums.cover_urls';
@@ -0,0 +1,48 @@
+-- Versão do catálogo por sequence em vez da linha única da V12
+--
+-- O UPDATE em catalog_version travava a linha até o commit, serializando
+-- todas as escritas no catálogo entre instâncias; nextval não trava nem
+-- participa da transação. O trigger passa a ser por linha (statement que
+-- não altera nada não muda a versão), adiado para o commit (a versão nova
+-- só aparece junto com os dados, a não ser no instante do próprio commit)
+-- e incrementa uma única vez por transação.
+DROP TRIGGER IF EXISTS trg_albums_catalog_version ON albums;
+DROP TRIGGER IF EXISTS trg_artists_catalog_version ON artists;
+DROP TRIGGER IF EXISTS trg_artist_album_catalog_version ON artist_album;
+DROP FUNCTION IF EXISTS bump_catalog_version();
+
+CREATE SEQUENCE catalog_version_seq;
+SELECT setval('catalog_version_seq', (SELECT version FROM catalog_version WHERE id = 1));
+
+DROP TABLE catalog_version;
+
+CREATE FUNCTION bump_catalog_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF current_setting('app.catalog_version_bumped', true) IS DISTINCT FROM 'on' THEN
+        PERFORM nextval('catalog_version_seq');
+        -- is_local = true: volta ao padrão no fim da transação
+        PERFORM set_config('app.catalog_version_bumped', 'on', true);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE CONSTRAINT TRIGGER trg_albums_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE ON albums
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION bump_catalog_version();
+
+CREATE CONSTRAINT TRIGGER trg_artists_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE ON artists
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION bump_catalog_version();
+
+CREATE CONSTRAINT TRIGGER trg_artist_album_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE ON artist_album
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION bump_catalog_version();
+
+COMMENT ON SEQUENCE catalog_version_seq IS 'Contador global de escritas no catálogo (ETag das páginas)';
@@ -0,0 +1,41 @@
+-- Versão do catálogo em linhas de tabela em vez da sequence da V15
+--
+-- nextval não participa da transação: a versão nova ficava visível antes
+-- do commit dos dados, e um leitor nesse instante guardava a página antiga
+-- sob o ETag novo até a próxima escrita. Além disso o WAL registra a
+-- sequence 32 valores adiante, então numa réplica last_value só andava a
+-- cada 32 escritas. Um UPDATE em tabela aparece junto com os dados, no
+-- primário e na réplica.
+--
+-- Para não voltar a serializar as escritas numa linha só (V12), o contador
+-- é dividido em 16 linhas; cada transação incrementa uma delas no commit
+-- (trigger adiado, então o lock dura só o commit) e a versão é a soma.
+CREATE TABLE catalog_version_shards (
+    shard   SMALLINT PRIMARY KEY,
+    version BIGINT   NOT NULL
+);
+
+-- Soma inicial igual ao valor atual da sequence: ETags já emitidos não voltam a valer
+INSERT INTO catalog_version_shards (shard, version)
+SELECT shard, CASE WHEN shard = 0 THEN (SELECT last_value FROM catalog_version_seq) ELSE 0 END
+FROM generate_series(0, 15) AS shard;
+
+CREATE OR REPLACE FUNCTION bump_catalog_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF current_setting('app.catalog_version_bumped', true) IS DISTINCT FROM 'on' THEN
+        UPDATE catalog_version_shards
+           SET version = version + 1
+         WHERE shard = txid_current() % 16;
+        -- is_local = true: volta ao padrão no fim da transação
+        PERFORM set_config('app.catalog_version_bumped', 'on', true);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP SEQUENCE catalog_version_seq;
+
+COMMENT ON TABLE catalog_version_shards IS 'Contador global de escritas no catálogo (ETag das páginas), soma das linhas';
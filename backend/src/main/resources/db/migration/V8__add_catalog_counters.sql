@@ -0,0 +1,17 @@
+-- Contadores denormalizados para as listagens (evitam inicializar coleções lazy)
+ALTER TABLE artists ADD COLUMN album_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE albums ADD COLUMN cover_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE albums ADD COLUMN first_cover VARCHAR(500);
+
+-- Carga inicial a partir dos dados existentes
+UPDATE artists ar
+   SET album_count = (SELECT COUNT(*) FROM artist_album aa WHERE aa.artist_id = ar.id);
+
+UPDATE albums
+   SET cover_count = COALESCE(jsonb_array_length(cover_urls), 0),
+       first_cover = cover_urls ->> 0;
+
+COMMENT ON COLUMN artists.album_count IS 'Quantidade de álbuns do artista (mantida pelo AlbumService)';
+COMMENT ON COLUMN albums.cover_count IS 'Quantidade de capas em cover_urls';
+COMMENT ON COLUMN albums.first_cover IS 'Primeira capa de cover_urls (usada nas listagens)';
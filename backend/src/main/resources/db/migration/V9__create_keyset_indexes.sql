@@ -0,0 +1,6 @@
+-- Índices (chave de ordenação, id) para a paginação keyset (modo cursor)
+CREATE INDEX idx_albums_title_id ON albums (title, id);
+CREATE INDEX idx_albums_release_year_id ON albums ((COALESCE(release_year, 0)), id);
+CREATE INDEX idx_artists_name_id ON artists (name, id);
+
+-- Álbuns de um artista: artist_album já tem PK (artist_id, album_id)
@@ -2,27 +2,40 @@ package com.project.artists.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.artists.dto.request.AlbumRequestDTO;
+import com.project.artists.dto.request.CoverConfirmRequestDTO;
+import com.project.artists.dto.request.CoverUploadUrlRequestDTO;
 import com.project.artists.dto.response.AlbumResponseDTO;
 import com.project.artists.dto.response.AlbumSummaryDTO;
+import com.project.artists.dto.response.CoverUploadUrlResponseDTO;
 import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.exception.GlobalExceptionHandler;
+import com.project.artists.exception.NotImplementedException;
 import com.project.artists.service.AlbumService;
+import com.project.artists.service.CatalogVersionService;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -39,6 +52,12 @@ class AlbumControllerTest {
     @Mock
     private AlbumService albumService;
     
+    @Mock
+    private CatalogVersionService catalogVersionService;
+    
+    @Spy
+    private ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+    
     @InjectMocks
     private AlbumController albumController;
     
@@ -49,6 +68,7 @@ class AlbumControllerTest {
     void setUp() {
         mockMvc = MockMvcBuilders
             .standaloneSetup(albumController)
+            .setControllerAdvice(new GlobalExceptionHandler())
             .build();
         
         objectMapper = new ObjectMapper();
@@ -82,14 +102,45 @@ class AlbumControllerTest {
     @Test
     @DisplayName("GET /albums/{id} - Deve buscar album por ID")
     void deveBuscarAlbumPorId() throws Exception {
-        when(albumService.findById(1L)).thenReturn(albumResponse);
+        ResourceVersion version = ResourceVersion.of("album:1", LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(albumService.findVersion(1L)).thenReturn(version);
+        when(albumService.findById(1L, version)).thenReturn(albumResponse);
         
         mockMvc.perform(get("/api/v1/albums/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.getETag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("A Night at the Opera"));
         
-        verify(albumService).findById(1L);
+        verify(albumService).findById(1L, version);
+    }
+    
+    @Test
+    @DisplayName("GET /albums/{id} - Deve retornar 304 sem carregar o album quando o ETag confere")
+    void deveRetornar304QuandoEtagConfere() throws Exception {
+        ResourceVersion version = ResourceVersion.of("album:1", LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(albumService.findVersion(1L)).thenReturn(version);
+        
+        mockMvc.perform(get("/api/v1/albums/1")
+                .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+                .andExpect(status().isNotModified());
+        
+        verify(albumService, never()).findById(any(), any(ResourceVersion.class));
+    }
+    
+    @Test
+    @DisplayName("GET /albums - Deve retornar 304 quando a versao do catalogo nao mudou")
+    void deveRetornar304NaPaginaQuandoCatalogoNaoMudou() throws Exception {
+        ResourceVersion version = ResourceVersion.of("catalog:7:/api/v1/albums", null);
+        when(catalogVersionService.pageVersion(anyString())).thenReturn(version);
+        
+        mockMvc.perform(get("/api/v1/albums")
+                .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+                .andExpect(status().isNotModified());
+        
+        verify(catalogVersionService).pageVersion("/api/v1/albums");
+        verify(albumService, never()).findAll(any(), any());
     }
     
     @Test
@@ -99,7 +150,7 @@ class AlbumControllerTest {
         page.setContent(Collections.emptyList());
         page.setTotalElements(0L);
         
-        when(albumService.findAll(any(Pageable.class))).thenReturn(page);
+        when(albumService.findAll(any(Pageable.class), eq(FieldSet.ALL))).thenReturn(page);
         
         mockMvc.perform(get("/api/v1/albums")
                 .param("page", "0")
@@ -107,7 +158,28 @@ class AlbumControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray());
         
-        verify(albumService).findAll(any(Pageable.class));
+        verify(albumService).findAll(any(Pageable.class), eq(FieldSet.ALL));
+    }
+    
+    @Test
+    @DisplayName("GET /albums?fields=title - Deve escrever apenas os campos pedidos")
+    void deveListarAlbumsComFields() throws Exception {
+        AlbumSummaryDTO summary = new AlbumSummaryDTO(1L, "A Night at the Opera", 1975);
+        PageResponseDTO<AlbumSummaryDTO> page = new PageResponseDTO<>(List.of(summary), 0, 10, 1L, 1);
+        
+        when(albumService.findAll(any(Pageable.class), any(FieldSet.class))).thenReturn(page);
+        
+        mockMvc.perform(get("/api/v1/albums")
+                .param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("A Night at the Opera"))
+                .andExpect(jsonPath("$.content[0].releaseYear").doesNotExist())
+                .andExpect(jsonPath("$.content[0].artistNames").doesNotExist());
+        
+        verify(albumService).findAll(any(Pageable.class), argThat(fields -> 
+                fields.includes("title") && !fields.includes("artistNames") && !fields.includes("coverUrl")));
     }
     
     @Test
@@ -154,6 +226,59 @@ class AlbumControllerTest {
         verify(albumService).uploadCovers(eq(1L), anyList());
     }
     
+    @Test
+    @DisplayName("POST /albums/{id}/covers/upload-url - Deve devolver URL de upload sem cache")
+    void deveGerarUrlDeUploadDireto() throws Exception {
+        CoverUploadUrlResponseDTO uploadUrl = new CoverUploadUrlResponseDTO(
+            "album-covers/direct/1/abc.jpg", "http://localhost:9002/album-covers/album-covers/direct/1/abc.jpg?X-Amz-Signature=x",
+            "image/jpeg", 10485760L, LocalDateTime.of(2024, 1, 1, 12, 10));
+        when(albumService.createCoverUploadUrl(eq(1L), any(CoverUploadUrlRequestDTO.class))).thenReturn(uploadUrl);
+        
+        mockMvc.perform(post("/api/v1/albums/1/covers/upload-url")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"contentType\":\"image/jpeg\",\"fileName\":\"cover.jpg\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(jsonPath("$.objectKey").value("album-covers/direct/1/abc.jpg"))
+                .andExpect(jsonPath("$.method").value("PUT"));
+    }
+    
+    @Test
+    @DisplayName("POST /albums/{id}/covers/upload-url - Armazenamento sem upload direto deve responder 501")
+    void deveResponder501SemUploadDireto() throws Exception {
+        when(albumService.createCoverUploadUrl(eq(1L), any(CoverUploadUrlRequestDTO.class)))
+            .thenThrow(new NotImplementedException("Upload direto não disponível neste armazenamento; use POST /albums/{id}/covers"));
+        
+        mockMvc.perform(post("/api/v1/albums/1/covers/upload-url")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"contentType\":\"image/jpeg\",\"fileName\":\"cover.jpg\"}"))
+                .andExpect(status().isNotImplemented())
+                .andExpect(jsonPath("$.status").value(501));
+    }
+    
+    @Test
+    @DisplayName("POST /albums/{id}/covers/upload-url - Deve recusar tipo que nao e imagem")
+    void deveRecusarUrlDeUploadParaNaoImagem() throws Exception {
+        mockMvc.perform(post("/api/v1/albums/1/covers/upload-url")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"contentType\":\"text/html\"}"))
+                .andExpect(status().isBadRequest());
+        
+        verify(albumService, never()).createCoverUploadUrl(any(), any());
+    }
+    
+    @Test
+    @DisplayName("POST /albums/{id}/covers/confirm - Deve confirmar upload direto")
+    void deveConfirmarUploadDireto() throws Exception {
+        when(albumService.confirmCoverUpload(eq(1L), any(CoverConfirmRequestDTO.class))).thenReturn(albumResponse);
+        
+        mockMvc.perform(post("/api/v1/albums/1/covers/confirm")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"objectKey\":\"album-covers/direct/1/abc.jpg\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+    }
+    
     @Test
     @DisplayName("GET /albums/search - Deve buscar por titulo")
     void deveBuscarPorTitulo() throws Exception {
@@ -0,0 +1,188 @@
+package com.project.artists.repository;
+
+import com.project.artists.entity.Album;
+import com.project.artists.entity.Artist;
+import com.project.artists.repository.projection.AlbumArtistNameView;
+import com.project.artists.repository.projection.AlbumCoversView;
+import com.project.artists.repository.projection.AlbumSummaryView;
+import com.project.artists.repository.projection.ArtistVersionStampView;
+import com.project.artists.repository.projection.VersionStampView;
+import com.project.artists.util.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("Testes de consultas do AlbumRepository")
+class AlbumRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    private Artist queen;
+    private Artist bowie;
+    private Album opera;
+    private Album pressure;
+
+    @BeforeEach
+    void setUp() {
+        queen = entityManager.persist(new Artist("Queen", "British rock band"));
+        bowie = entityManager.persist(new Artist("David Bowie", "English singer"));
+
+        opera = new Album("A Night at the Opera", 1975);
+        opera.addArtist(queen);
+        opera.setCoverUrls(List.of("album-covers/opera.jpg", "album-covers/opera-back.jpg"));
+        opera = entityManager.persist(opera);
+
+        pressure = new Album("Under Pressure", 1981);
+        pressure.addArtist(queen);
+        pressure.addArtist(bowie);
+        pressure = entityManager.persist(pressure);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar resumos paginados e ordenados")
+    void deveListarResumosPaginados() {
+        Page<AlbumSummaryView> page = albumRepository.findAllSummaries(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "releaseYear")));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals("Under Pressure", page.getContent().get(0).getTitle());
+        assertEquals(1975, page.getContent().get(1).getReleaseYear());
+        assertEquals("album-covers/opera.jpg", page.getContent().get(1).getFirstCover());
+    }
+
+    @Test
+    @DisplayName("Deve buscar nomes dos artistas da pagina em uma consulta")
+    void deveBuscarNomesDosArtistasEmLote() {
+        List<AlbumArtistNameView> rows = albumRepository.findArtistNamesByAlbumIds(
+                List.of(opera.getId(), pressure.getId()));
+
+        List<String> pressureArtists = rows.stream()
+                .filter(row -> row.getAlbumId().equals(pressure.getId()))
+                .map(AlbumArtistNameView::getArtistName)
+                .collect(Collectors.toList());
+
+        assertEquals(3, rows.size());
+        assertEquals(List.of("David Bowie", "Queen"), pressureArtists);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar resumos por artista")
+    void deveFiltrarResumosPorArtista() {
+        Page<AlbumSummaryView> byArtist = albumRepository.findSummariesByArtistId(
+                bowie.getId(), PageRequest.of(0, 10));
+
+        assertEquals(1, byArtist.getTotalElements());
+        assertEquals("Under Pressure", byArtist.getContent().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("Deve manter contadores de capas e recalcular album_count")
+    void deveManterContadores() {
+        Album stored = albumRepository.findById(opera.getId()).orElseThrow();
+        assertEquals(2, stored.getCoverCount());
+        assertEquals("album-covers/opera.jpg", stored.getFirstCover());
+
+        int updated = artistRepository.refreshAlbumCounts(List.of(queen.getId(), bowie.getId()));
+        entityManager.clear();
+
+        assertEquals(2, updated);
+        assertEquals(2, artistRepository.findById(queen.getId()).orElseThrow().getAlbumCount());
+        assertEquals(1, artistRepository.findById(bowie.getId()).orElseThrow().getAlbumCount());
+    }
+
+    @Test
+    @DisplayName("Deve paginar resumos por keyset a partir do cursor")
+    void devePaginarResumosPorKeyset() {
+        Album heroes = new Album("Heroes", null);
+        heroes.addArtist(bowie);
+        heroes = entityManager.persist(heroes);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<AlbumSummaryView> first = albumRepository.findSummariesAfter(
+                null, null, "releaseYear", Sort.Direction.DESC, 2);
+        AlbumSummaryView last = first.get(1);
+        KeysetCursor cursor = KeysetCursor.of("releaseYear", Sort.Direction.DESC,
+                last.getId(), String.valueOf(last.getReleaseYear()));
+        List<AlbumSummaryView> second = albumRepository.findSummariesAfter(
+                null, cursor, "releaseYear", Sort.Direction.DESC, 2);
+
+        assertEquals(List.of(pressure.getId(), opera.getId()),
+                first.stream().map(AlbumSummaryView::getId).collect(Collectors.toList()));
+        assertEquals(1, second.size());
+        assertEquals(heroes.getId(), second.get(0).getId());
+
+        List<AlbumSummaryView> byArtist = albumRepository.findSummariesAfter(
+                bowie.getId(), KeysetCursor.of("title", Sort.Direction.ASC, heroes.getId(), "Heroes"),
+                "title", Sort.Direction.ASC, 10);
+
+        assertEquals(1, byArtist.size());
+        assertEquals("Under Pressure", byArtist.get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("Deve trazer carimbos de versao do album e dos artistas embutidos")
+    void deveTrazerCarimbosDeVersao() {
+        List<VersionStampView> stamps = albumRepository.findVersionStamps(pressure.getId());
+
+        assertEquals(2, stamps.size());
+        assertNotNull(stamps.get(0).getUpdatedAt());
+        assertEquals(Set.of(queen.getId(), bowie.getId()),
+                stamps.stream().map(VersionStampView::getRelatedId).collect(Collectors.toSet()));
+        assertTrue(albumRepository.findVersionStamps(-1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve limitar carimbos do artista aos albuns embutidos no detalhe")
+    void deveLimitarCarimbosDoArtista() {
+        List<ArtistVersionStampView> stamps = artistRepository.findVersionStamps(queen.getId(), 1);
+
+        assertEquals(1, stamps.size());
+        assertEquals(pressure.getId(), stamps.get(0).getRelatedId());
+        assertNotNull(stamps.get(0).getUpdatedAt());
+        assertNotNull(stamps.get(0).getAlbumCount());
+
+        List<ArtistVersionStampView> semAlbuns = artistRepository.findVersionStamps(queen.getId(), 0);
+        assertEquals(1, semAlbuns.size());
+        assertNull(semAlbuns.get(0).getRelatedId());
+        assertTrue(artistRepository.findVersionStamps(-1L, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve listar capas em lotes por id, so de albuns com capa")
+    void deveListarCapasEmLotes() {
+        List<AlbumCoversView> covers = albumRepository.findCoversAfter(0L, PageRequest.of(0, 10));
+
+        assertEquals(1, covers.size());
+        assertEquals(opera.getId(), covers.get(0).getId());
+        assertEquals(List.of("album-covers/opera.jpg", "album-covers/opera-back.jpg"), covers.get(0).getCoverUrls());
+        assertTrue(albumRepository.findCoversAfter(opera.getId(), PageRequest.of(0, 10)).isEmpty());
+    }
+}
@@ -2,27 +2,58 @@ package com.project.artists.service;
 
 import com.project.artists.dto.notification.NotificationType;
 import com.project.artists.dto.request.AlbumRequestDTO;
+import com.project.artists.dto.request.CoverConfirmRequestDTO;
+import com.project.artists.dto.request.CoverUploadUrlRequestDTO;
+import com.project.artists.dto.request.CursorPageRequest;
 import com.project.artists.dto.response.AlbumResponseDTO;
+import com.project.artists.dto.response.AlbumSummaryDTO;
+import com.project.artists.dto.response.CoverUploadUrlResponseDTO;
+import com.project.artists.dto.response.PageResponseDTO;
 import com.project.artists.entity.Album;
 import com.project.artists.entity.Artist;
+import com.project.artists.exception.BadRequestException;
+import com.project.artists.exception.NotImplementedException;
 import com.project.artists.exception.ResourceNotFoundException;
 import com.project.artists.repository.AlbumRepository;
 import com.project.artists.repository.ArtistRepository;
+import com.project.artists.repository.projection.AlbumArtistNameView;
+import com.project.artists.repository.projection.AlbumSummaryView;
 import com.project.artists.service.impl.AlbumServiceImpl;
+import com.project.artists.storage.StagedUpload;
+import com.project.artists.storage.StoredObject;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -40,6 +71,21 @@ class AlbumServiceTest {
     @Mock
     private NotificationService notificationService;
     
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private SuggestionService suggestionService;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @Mock
+    private CoverBlobService coverBlobService;
+
+    @Mock
+    private CacheManager cacheManager;
+    
     @InjectMocks
     private AlbumServiceImpl albumService;
     
@@ -68,8 +114,8 @@ class AlbumServiceTest {
     @Test
     @DisplayName("Deve criar album com sucesso")
     void deveCriarAlbumComSucesso() {
-        // Configurar mock para retornar artista quando buscar por ID individual
-        when(artistRepository.findById(1L)).thenReturn(Optional.of(testArtist));
+        // Artistas resolvidos em uma única consulta IN
+        when(artistRepository.findAllById(any())).thenReturn(List.of(testArtist));
         when(albumRepository.save(any(Album.class))).thenReturn(testAlbum);
         doNothing().when(notificationService).sendNotification(
             any(NotificationType.class), 
@@ -83,7 +129,8 @@ class AlbumServiceTest {
         assertNotNull(response);
         assertEquals("A Night at the Opera", response.getTitle());
         
-        verify(artistRepository, atLeastOnce()).findById(1L);
+        verify(artistRepository).findAllById(Set.of(1L));
+        verify(artistRepository, never()).findById(any());
         verify(albumRepository).save(any(Album.class));
         verify(notificationService).sendNotification(
             eq(NotificationType.ALBUM_CREATED), 
@@ -93,6 +140,20 @@ class AlbumServiceTest {
         );
     }
     
+    @Test
+    @DisplayName("Deve lancar excecao quando algum artista do album nao existe")
+    void deveLancarExcecaoQuandoArtistaNaoEncontrado() {
+        albumRequest.setArtistIds(Arrays.asList(1L, 999L));
+        when(artistRepository.findAllById(any())).thenReturn(List.of(testArtist));
+        
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> {
+            albumService.create(albumRequest);
+        });
+        
+        assertTrue(ex.getMessage().contains("999"));
+        verify(albumRepository, never()).save(any(Album.class));
+    }
+    
     @Test
     @DisplayName("Deve buscar album por ID")
     void deveBuscarAlbumPorId() {
@@ -130,11 +191,266 @@ class AlbumServiceTest {
         albumService.delete(1L);
         
         verify(albumRepository).findById(1L);
+        verify(coverBlobService).release(testAlbum.getCoverUrls());
         verify(albumRepository).delete(testAlbum);
+        verify(artistRepository).refreshAlbumCounts(Set.of(1L));
+        verify(suggestionService).albumRemoved(1L);
         verify(notificationService).sendNotification(
             eq(NotificationType.ALBUM_DELETED), 
             anyString(), 
             anyString()
         );
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Deve listar albuns com nomes de artistas carregados em lote")
+    void deveListarAlbunsComArtistasEmLote() {
+        Pageable pageable = PageRequest.of(0, 10);
+        AlbumSummaryView opera = summaryView(1L, "A Night at the Opera", "album-covers/opera.jpg");
+        AlbumSummaryView pressure = summaryView(2L, "Under Pressure", null);
+        
+        when(albumRepository.findAllSummaries(pageable))
+            .thenReturn(new PageImpl<>(List.of(opera, pressure), pageable, 2));
+        when(albumRepository.findArtistNamesByAlbumIds(anyCollection())).thenReturn(List.of(
+            artistNameView(1L, "Queen"),
+            artistNameView(2L, "David Bowie"),
+            artistNameView(2L, "Queen")
+        ));
+        when(thumbnailService.variantOf("album-covers/opera.jpg", ThumbnailService.Size.LIST))
+            .thenReturn("album-covers/opera_w256.jpg");
+        when(thumbnailService.variantOf("album-covers/opera.jpg", ThumbnailService.Size.THUMBNAIL))
+            .thenReturn("album-covers/opera_w64.jpg");
+        when(storageService.generatePresignedUrl(anyString()))
+            .thenAnswer(invocation -> "http://localhost/api/v1/files/" + invocation.getArgument(0));
+        
+        PageResponseDTO<AlbumSummaryDTO> response = albumService.findAll(pageable, FieldSet.ALL);
+        
+        assertEquals(2, response.getTotalElements());
+        assertEquals(List.of("Queen"), response.getContent().get(0).getArtistNames());
+        assertEquals(List.of("David Bowie", "Queen"), response.getContent().get(1).getArtistNames());
+        assertEquals("http://localhost/api/v1/files/album-covers/opera_w256.jpg", response.getContent().get(0).getCoverUrl());
+        assertEquals("http://localhost/api/v1/files/album-covers/opera_w64.jpg",
+                response.getContent().get(0).getCoverThumbnailUrl());
+        assertNull(response.getContent().get(1).getCoverUrl());
+        
+        verify(albumRepository, times(1)).findArtistNamesByAlbumIds(anyCollection());
+        verify(albumRepository, never()).findById(any());
+    }
+    
+    @Test
+    @DisplayName("fields=id,title nao deve consultar artistas nem gerar URLs de capa")
+    void deveListarAlbunsSemJoinsComFieldsEstreito() {
+        Pageable pageable = PageRequest.of(0, 10);
+        AlbumSummaryView opera = summaryView(1L, "A Night at the Opera", "album-covers/opera.jpg");
+        
+        when(albumRepository.findAllSummaries(pageable))
+            .thenReturn(new PageImpl<>(List.of(opera), pageable, 1));
+        
+        PageResponseDTO<AlbumSummaryDTO> response = albumService.findAll(
+                pageable, FieldSet.parse("id,title", AlbumSummaryDTO.FIELDS));
+        
+        assertEquals("A Night at the Opera", response.getContent().get(0).getTitle());
+        assertNull(response.getContent().get(0).getCoverUrl());
+        verify(albumRepository, never()).findArtistNamesByAlbumIds(anyCollection());
+        verifyNoInteractions(storageService);
+    }
+    
+    @Test
+    @DisplayName("Detalhe sem artists/coverUrls nao deve carregar artistas nem capas")
+    void deveBuscarDetalheComFieldsEstreito() {
+        Album album = mock(Album.class);
+        when(album.getId()).thenReturn(1L);
+        when(album.getTitle()).thenReturn("A Night at the Opera");
+        when(album.getCoverUrls()).thenReturn(List.of("album-covers/opera.jpg"));
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(album));
+        
+        AlbumResponseDTO response = albumService.findById(1L, FieldSet.parse("title", AlbumResponseDTO.FIELDS),
+                ResourceVersion.of("album:1", null));
+        
+        assertEquals("A Night at the Opera", response.getTitle());
+        verify(album, never()).getArtists();
+        verifyNoInteractions(storageService);
+    }
+    
+    @Test
+    @DisplayName("Listagem por cursor deve recusar tamanho menor que 1 e limitar o maior")
+    void deveValidarTamanhoDaPaginaPorCursor() {
+        assertThrows(BadRequestException.class, () -> albumService.findAllByCursor(
+                new CursorPageRequest(null, 0, "title", Sort.Direction.ASC), FieldSet.ALL));
+        assertThrows(BadRequestException.class, () -> albumService.findAllByCursor(
+                new CursorPageRequest(null, -1, "title", Sort.Direction.ASC), FieldSet.ALL));
+        verify(albumRepository, never()).findSummariesAfter(any(), any(), anyString(), any(), anyInt());
+        
+        when(albumRepository.findSummariesAfter(null, null, "title", Sort.Direction.ASC, CursorPageRequest.MAX_SIZE + 1))
+                .thenReturn(List.of());
+        
+        PageResponseDTO<AlbumSummaryDTO> result = albumService.findAllByCursor(
+                new CursorPageRequest(null, 1_000_000, "title", Sort.Direction.ASC), FieldSet.ALL);
+        
+        assertEquals(CursorPageRequest.MAX_SIZE, result.getPageSize());
+        assertTrue(result.getContent().isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Upload de capas deve referenciar antes de publicar e agendar as miniaturas")
+    void deveAgendarMiniaturasNoUploadDeCapas() {
+        List<MultipartFile> files = List.of(new MockMultipartFile("files", "opera.jpg", "image/jpeg", new byte[] {1}));
+        StagedUpload staged = new StagedUpload("album-covers/.incoming/1", "album-covers/opera.jpg");
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(testAlbum));
+        when(storageService.stageFiles(files, "album-covers")).thenReturn(List.of(staged));
+        when(albumRepository.save(testAlbum)).thenReturn(testAlbum);
+        
+        albumService.uploadCovers(1L, files);
+        
+        assertEquals(List.of("album-covers/opera.jpg"), testAlbum.getCoverUrls());
+        InOrder inOrder = inOrder(coverBlobService, storageService);
+        inOrder.verify(coverBlobService).acquire(List.of("album-covers/opera.jpg"));
+        inOrder.verify(storageService).publish(staged);
+        verify(thumbnailService).generateAfterCommit(List.of("album-covers/opera.jpg"));
+    }
+    
+    @Test
+    @DisplayName("Falha ao publicar deve apagar os provisorios")
+    void deveApagarProvisoriosQuandoPublicarFalha() {
+        List<MultipartFile> files = List.of(new MockMultipartFile("files", "opera.jpg", "image/jpeg", new byte[] {1}));
+        StagedUpload staged = new StagedUpload("album-covers/.incoming/1", "album-covers/opera.jpg");
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(testAlbum));
+        when(storageService.stageFiles(files, "album-covers")).thenReturn(List.of(staged));
+        when(storageService.publish(staged)).thenThrow(new RuntimeException("Erro ao mover arquivo"));
+        
+        assertThrows(RuntimeException.class, () -> albumService.uploadCovers(1L, files));
+        
+        verify(storageService).deleteQuietly(List.of("album-covers/.incoming/1"));
+        verify(albumRepository, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("Remover capa deve liberar a referencia ao objeto")
+    void deveLiberarReferenciaAoRemoverCapa() {
+        testAlbum.setCoverUrls(new ArrayList<>(List.of("album-covers/opera.jpg")));
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(testAlbum));
+        when(albumRepository.save(testAlbum)).thenReturn(testAlbum);
+        
+        albumService.removeCover(1L, "album-covers/opera.jpg");
+        
+        assertTrue(testAlbum.getCoverUrls().isEmpty());
+        verify(coverBlobService).release(List.of("album-covers/opera.jpg"));
+        verify(storageService, never()).deleteFile(anyString());
+    }
+    
+    @Test
+    @DisplayName("Detalhe deve trazer as capas originais e as derivadas do detalhe")
+    void deveBuscarDetalheComCapasDerivadas() {
+        testAlbum.setCoverUrls(new ArrayList<>(List.of("album-covers/opera.jpg")));
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(testAlbum));
+        when(thumbnailService.variantOf("album-covers/opera.jpg", ThumbnailService.Size.DETAIL))
+            .thenReturn("album-covers/opera_w512.jpg");
+        when(storageService.generatePresignedUrls(anyList()))
+            .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                    .map(name -> "http://localhost/api/v1/files/" + name)
+                    .toList());
+        
+        AlbumResponseDTO response = albumService.findById(1L);
+        
+        assertEquals(List.of("http://localhost/api/v1/files/album-covers/opera.jpg"), response.getCoverUrls());
+        assertEquals(List.of("http://localhost/api/v1/files/album-covers/opera_w512.jpg"), response.getCoverPreviewUrls());
+    }
+    
+    @Test
+    @DisplayName("URL de upload direto deve usar chave do album e validade configurada")
+    void deveGerarUrlDeUploadDireto() {
+        configureDirectUpload();
+        when(albumRepository.existsById(1L)).thenReturn(true);
+        when(storageService.presignUpload(anyString(), eq(Duration.ofMinutes(10))))
+            .thenAnswer(invocation -> Optional.of("http://localhost:9002/album-covers/" + invocation.getArgument(0)));
+        
+        CoverUploadUrlResponseDTO response = albumService.createCoverUploadUrl(1L,
+                new CoverUploadUrlRequestDTO("image/jpeg", "capa.JPEG"));
+        
+        assertTrue(response.getObjectKey().matches("album-covers/direct/1/[0-9a-f-]{36}\\.jpg"), response.getObjectKey());
+        assertEquals("http://localhost:9002/album-covers/" + response.getObjectKey(), response.getUploadUrl());
+        assertEquals("PUT", response.getMethod());
+        assertEquals(10 * 1024 * 1024, response.getMaxSize());
+    }
+    
+    @Test
+    @DisplayName("Backend sem upload direto deve recusar o pedido de URL")
+    void deveRecusarUploadDiretoSemSuporte() {
+        configureDirectUpload();
+        when(albumRepository.existsById(1L)).thenReturn(true);
+        when(storageService.presignUpload(anyString(), any())).thenReturn(Optional.empty());
+        
+        assertThrows(NotImplementedException.class, () -> albumService.createCoverUploadUrl(1L,
+                new CoverUploadUrlRequestDTO("image/png", "capa.png")));
+    }
+    
+    @Test
+    @DisplayName("Confirmar upload direto deve adicionar a capa pelo nome do conteudo")
+    void deveConfirmarUploadDireto() {
+        configureDirectUpload();
+        String key = "album-covers/direct/1/0f8fad5b-d9cb-469f-a165-70867728950e.jpg";
+        StagedUpload staged = new StagedUpload("album-covers/.incoming/1", "album-covers/abc.jpg");
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(testAlbum));
+        when(storageService.stageObject(key, "album-covers", DataSize.ofMegabytes(10))).thenReturn(staged);
+        when(albumRepository.save(testAlbum)).thenReturn(testAlbum);
+        
+        albumService.confirmCoverUpload(1L, new CoverConfirmRequestDTO(key));
+        
+        assertEquals(List.of("album-covers/abc.jpg"), testAlbum.getCoverUrls());
+        InOrder inOrder = inOrder(coverBlobService, storageService);
+        inOrder.verify(coverBlobService).acquire(List.of("album-covers/abc.jpg"));
+        inOrder.verify(storageService).publish(staged);
+        verify(thumbnailService).generateAfterCommit(List.of("album-covers/abc.jpg"));
+    }
+    
+    @Test
+    @DisplayName("Confirmar chave de outro album deve ser recusado sem consultar o armazenamento")
+    void deveRecusarChaveDeOutroAlbum() {
+        configureDirectUpload();
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(testAlbum));
+        
+        assertThrows(BadRequestException.class, () -> albumService.confirmCoverUpload(1L,
+                new CoverConfirmRequestDTO("album-covers/direct/2/0f8fad5b-d9cb-469f-a165-70867728950e.jpg")));
+        assertThrows(BadRequestException.class, () -> albumService.confirmCoverUpload(1L,
+                new CoverConfirmRequestDTO("album-covers/opera.jpg")));
+        
+        verifyNoInteractions(storageService);
+        verifyNoInteractions(coverBlobService);
+    }
+    
+    @Test
+    @DisplayName("Confirmar antes do envio (ou duas vezes) deve ser recusado")
+    void deveRecusarUploadDiretoNaoEnviado() {
+        configureDirectUpload();
+        String key = "album-covers/direct/1/0f8fad5b-d9cb-469f-a165-70867728950e.png";
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(testAlbum));
+        when(storageService.stageObject(eq(key), eq("album-covers"), any()))
+                .thenThrow(new ResourceNotFoundException("Arquivo", "nome", key));
+        
+        assertThrows(BadRequestException.class, () -> albumService.confirmCoverUpload(1L, new CoverConfirmRequestDTO(key)));
+        
+        verifyNoInteractions(coverBlobService);
+        verify(albumRepository, never()).save(any());
+    }
+    
+    private void configureDirectUpload() {
+        ReflectionTestUtils.setField(albumService, "directUploadExpiration", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(albumService, "directUploadMaxSize", DataSize.ofMegabytes(10));
+    }
+    
+    private AlbumSummaryView summaryView(Long id, String title, String firstCover) {
+        return new AlbumSummaryView() {
+            public Long getId() { return id; }
+            public String getTitle() { return title; }
+            public Integer getReleaseYear() { return null; }
+            public String getFirstCover() { return firstCover; }
+        };
+    }
+    
+    private AlbumArtistNameView artistNameView(Long albumId, String artistName) {
+        return new AlbumArtistNameView() {
+            public Long getAlbumId() { return albumId; }
+            public String getArtistName() { return artistName; }
+        };
+    }
+}
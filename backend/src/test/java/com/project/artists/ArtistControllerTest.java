@@ -3,7 +3,11 @@ package com.project.artists.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.artists.dto.request.ArtistRequestDTO;
 import com.project.artists.dto.response.ArtistResponseDTO;
+import com.project.artists.dto.response.SuggestionDTO;
 import com.project.artists.service.ArtistService;
+import com.project.artists.service.CatalogVersionService;
+import com.project.artists.service.SuggestionService;
+import com.project.artists.util.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -31,6 +38,12 @@ class ArtistControllerTest {
     @Mock
     private ArtistService artistService;
     
+    @Mock
+    private SuggestionService suggestionService;
+    
+    @Mock
+    private CatalogVersionService catalogVersionService;
+    
     @InjectMocks
     private ArtistController artistController;
     
@@ -74,14 +87,16 @@ class ArtistControllerTest {
     @Test
     @DisplayName("GET /artists/{id} - Deve buscar artista por ID")
     void deveBuscarArtistaPorId() throws Exception {
-        when(artistService.findById(1L)).thenReturn(artistResponse);
+        ResourceVersion version = ResourceVersion.of("artist:1", LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(artistService.findVersion(1L)).thenReturn(version);
+        when(artistService.findById(1L, version)).thenReturn(artistResponse);
         
         mockMvc.perform(get("/api/v1/artists/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.name").value("Queen"));
         
-        verify(artistService).findById(1L);
+        verify(artistService).findById(1L, version);
     }
     
     @Test
@@ -94,4 +109,18 @@ class ArtistControllerTest {
         
         verify(artistService).delete(1L);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("GET /artists/suggest - Deve retornar sugestoes")
+    void deveRetornarSugestoes() throws Exception {
+        when(suggestionService.suggestArtists("que", 5))
+            .thenReturn(List.of(new SuggestionDTO(1L, "Queen")));
+        
+        mockMvc.perform(get("/api/v1/artists/suggest")
+                .param("q", "que")
+                .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].label").value("Queen"));
+    }
+}
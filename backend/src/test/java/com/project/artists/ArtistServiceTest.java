@@ -2,13 +2,20 @@ package com.project.artists.service;
 
 import com.project.artists.dto.notification.NotificationType;
 import com.project.artists.dto.request.ArtistRequestDTO;
+import com.project.artists.dto.request.CursorPageRequest;
 import com.project.artists.dto.response.ArtistResponseDTO;
 import com.project.artists.dto.response.ArtistSummaryDTO;
 import com.project.artists.dto.response.PageResponseDTO;
 import com.project.artists.entity.Artist;
+import com.project.artists.exception.BadRequestException;
 import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.repository.AlbumRepository;
 import com.project.artists.repository.ArtistRepository;
+import com.project.artists.repository.projection.AlbumSummaryRow;
 import com.project.artists.service.impl.ArtistServiceImpl;
+import com.project.artists.util.FieldSet;
+import com.project.artists.util.KeysetCursor;
+import com.project.artists.util.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,10 +23,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
@@ -41,6 +51,15 @@ class ArtistServiceTest {
     @Mock
     private NotificationService notificationService;
     
+    @Mock
+    private SuggestionService suggestionService;
+    
+    @Mock
+    private AlbumRepository albumRepository;
+    
+    @Mock
+    private CacheManager cacheManager;
+    
     @InjectMocks
     private ArtistServiceImpl artistService;
     
@@ -76,6 +95,7 @@ class ArtistServiceTest {
         assertEquals("Queen", response.getName());
         
         verify(artistRepository).save(any(Artist.class));
+        verify(suggestionService).artistSaved(1L, "Queen");
         verify(notificationService).sendNotification(
             eq(NotificationType.ARTIST_CREATED), 
             anyString(), 
@@ -98,6 +118,57 @@ class ArtistServiceTest {
         verify(artistRepository).findById(1L);
     }
     
+    @Test
+    @DisplayName("Detalhe deve embutir os primeiros N albuns com link de continuacao")
+    void deveEmbutirPrimeirosAlbunsComContinuacao() {
+        ReflectionTestUtils.setField(artistService, "embeddedAlbumLimit", 2);
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(testArtist));
+        when(albumRepository.findSummariesAfter(1L, null, "releaseYear", Sort.Direction.DESC, 3)).thenReturn(List.of(
+            new AlbumSummaryRow(10L, "Innuendo", 1991, null),
+            new AlbumSummaryRow(11L, "The Miracle", 1989, null),
+            new AlbumSummaryRow(12L, "A Kind of Magic", 1986, null)
+        ));
+        
+        ArtistResponseDTO response = artistService.findById(1L);
+        
+        assertEquals(2, response.getAlbums().size());
+        assertEquals("The Miracle", response.getAlbums().get(1).getTitle());
+        
+        String cursor = KeysetCursor.of("releaseYear", Sort.Direction.DESC, 11L, "1989").encode();
+        assertEquals("/api/v1/albums/artist/1?sortBy=releaseYear&direction=desc&size=2&cursor=" + cursor,
+                response.getAlbumsNext());
+    }
+    
+    @Test
+    @DisplayName("Detalhe sem albuns restantes nao deve ter link de continuacao")
+    void deveEmbutirTodosOsAlbunsSemContinuacao() {
+        ReflectionTestUtils.setField(artistService, "embeddedAlbumLimit", 2);
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(testArtist));
+        when(albumRepository.findSummariesAfter(1L, null, "releaseYear", Sort.Direction.DESC, 3)).thenReturn(List.of(
+            new AlbumSummaryRow(10L, "Innuendo", 1991, null)
+        ));
+        
+        ArtistResponseDTO response = artistService.findById(1L);
+        
+        assertEquals(1, response.getAlbums().size());
+        assertNull(response.getAlbumsNext());
+    }
+    
+    @Test
+    @DisplayName("Detalhe sem albums em fields nao deve carregar os albuns")
+    void deveBuscarArtistaSemAlbuns() {
+        Artist artist = mock(Artist.class);
+        when(artist.getId()).thenReturn(1L);
+        when(artist.getName()).thenReturn("Queen");
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
+        
+        ArtistResponseDTO response = artistService.findById(1L, FieldSet.parse("name", ArtistResponseDTO.FIELDS),
+                ResourceVersion.of("artist:1", null));
+        
+        assertEquals("Queen", response.getName());
+        verify(artist, never()).getAlbums();
+    }
+    
     @Test
     @DisplayName("Deve lancar excecao quando artista nao encontrado")
     void deveLancarExcecaoQuandoArtistaNaoEncontrado() {
@@ -142,10 +213,75 @@ class ArtistServiceTest {
         
         verify(artistRepository).findById(1L);
         verify(artistRepository).delete(testArtist);
+        verify(suggestionService).artistRemoved(1L);
         verify(notificationService).sendNotification(
             eq(NotificationType.ARTIST_DELETED), 
             anyString(), 
             anyString()
         );
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Deve listar artistas por cursor e gerar o proximo cursor")
+    void deveListarArtistasPorCursor() {
+        Artist bowie = new Artist("David Bowie", "English singer");
+        bowie.setId(2L);
+        when(artistRepository.findAfter(null, "name", Sort.Direction.ASC, 2))
+            .thenReturn(Arrays.asList(bowie, testArtist));
+        
+        PageResponseDTO<ArtistSummaryDTO> result = artistService.findAllByCursor(
+            new CursorPageRequest("", 1, "name", Sort.Direction.ASC));
+        
+        assertEquals(1, result.getContent().size());
+        assertEquals("David Bowie", result.getContent().get(0).getName());
+        assertTrue(result.isFirst());
+        
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor(), "name", Sort.Direction.ASC);
+        assertEquals(2L, next.getId());
+        assertEquals("David Bowie", next.getSortValue());
+    }
+    
+    @Test
+    @DisplayName("Tamanho de pagina menor que 1 deve ser recusado e o maior limitado")
+    void deveValidarTamanhoDaPaginaPorCursor() {
+        assertThrows(BadRequestException.class, () -> artistService.findAllByCursor(
+            new CursorPageRequest(null, 0, "name", Sort.Direction.ASC)));
+        assertThrows(BadRequestException.class, () -> artistService.findAllByCursor(
+            new CursorPageRequest(null, -5, "name", Sort.Direction.ASC)));
+        verify(artistRepository, never()).findAfter(any(), anyString(), any(), anyInt());
+        
+        when(artistRepository.findAfter(null, "name", Sort.Direction.ASC, CursorPageRequest.MAX_SIZE + 1))
+            .thenReturn(List.of(testArtist));
+        
+        PageResponseDTO<ArtistSummaryDTO> result = artistService.findAllByCursor(
+            new CursorPageRequest(null, 1_000_000, "name", Sort.Direction.ASC));
+        
+        assertEquals(CursorPageRequest.MAX_SIZE, result.getPageSize());
+        assertNull(result.getNextCursor());
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar cursor de outra ordenacao")
+    void deveRejeitarCursorDeOutraOrdenacao() {
+        String cursor = KeysetCursor.of("name", Sort.Direction.DESC, 1L, "Queen").encode();
+        
+        assertThrows(BadRequestException.class, () -> artistService.findAllByCursor(
+            new CursorPageRequest(cursor, 10, "name", Sort.Direction.ASC)));
+        assertThrows(BadRequestException.class, () -> artistService.findAllByCursor(
+            new CursorPageRequest(null, 10, "bio", Sort.Direction.ASC)));
+        verify(artistRepository, never()).findAfter(any(), anyString(), any(), anyInt());
+    }
+    
+    @Test
+    @DisplayName("Deve buscar por nome escapando curingas do LIKE")
+    void deveBuscarPorNomeEscapandoCuringas() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(artistRepository.searchByName("100%_", "%100\\%\\_%", pageable))
+            .thenReturn(new PageImpl<>(List.of(testArtist), pageable, 1));
+        
+        PageResponseDTO<ArtistSummaryDTO> result = artistService.searchByName(" 100%_ ", pageable);
+        
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Queen", result.getContent().get(0).getName());
+    }
+}
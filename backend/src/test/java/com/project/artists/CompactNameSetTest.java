@@ -0,0 +1,38 @@
+package com.project.artists.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do conjunto compacto de nomes")
+class CompactNameSetTest {
+
+    @Test
+    @DisplayName("Deve encontrar os nomes adicionados, sem repetidos")
+    void deveEncontrarNomesAdicionados() {
+        CompactNameSet names = new CompactNameSet();
+        for (int i = 0; i < 5000; i++) {
+            names.add("album-covers/" + i + ".jpg");
+        }
+        names.add("album-covers/0.jpg");
+        names.freeze();
+
+        assertEquals(5000, names.size());
+        assertTrue(names.contains("album-covers/0.jpg"));
+        assertTrue(names.contains("album-covers/4999.jpg"));
+        assertFalse(names.contains("album-covers/5000.jpg"));
+        assertFalse(names.contains("album-covers/0.png"));
+    }
+
+    @Test
+    @DisplayName("Consulta antes do freeze e insercao depois devem falhar")
+    void deveExigirFreeze() {
+        CompactNameSet names = new CompactNameSet();
+        names.add("a");
+
+        assertThrows(IllegalStateException.class, () -> names.contains("a"));
+        names.freeze();
+        assertThrows(IllegalStateException.class, () -> names.add("b"));
+    }
+}
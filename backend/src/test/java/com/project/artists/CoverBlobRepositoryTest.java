@@ -0,0 +1,55 @@
+package com.project.artists.repository;
+
+import com.project.artists.entity.CoverBlob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("Testes da contagem de referencias das capas")
+class CoverBlobRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CoverBlobRepository coverBlobRepository;
+
+    @Test
+    @DisplayName("Insercao repetida deve manter uma linha e somar as referencias")
+    void deveSomarReferencias() {
+        assertEquals(1, coverBlobRepository.insertIfAbsent("album-covers/a.jpg"));
+        assertEquals(0, coverBlobRepository.insertIfAbsent("album-covers/a.jpg"));
+        coverBlobRepository.addReferences("album-covers/a.jpg", 2);
+        coverBlobRepository.addReferences("album-covers/a.jpg", 1);
+        entityManager.clear();
+
+        assertEquals(3, coverBlobRepository.findById("album-covers/a.jpg").orElseThrow().getRefCount());
+    }
+
+    @Test
+    @DisplayName("Deve apagar apenas as linhas sem referencia")
+    void deveApagarSemReferencia() {
+        entityManager.persist(new CoverBlob("album-covers/a.jpg", 0));
+        entityManager.persist(new CoverBlob("album-covers/b.jpg", 1));
+        entityManager.persist(new CoverBlob("album-covers/c.jpg", 0));
+        entityManager.flush();
+
+        int deleted = coverBlobRepository.deleteUnreferenced(Set.of("album-covers/a.jpg", "album-covers/b.jpg"));
+
+        assertEquals(1, deleted);
+        assertEquals(Set.of("album-covers/b.jpg", "album-covers/c.jpg"), Set.copyOf(coverBlobRepository.findExistingNames(
+                List.of("album-covers/a.jpg", "album-covers/b.jpg", "album-covers/c.jpg"))));
+    }
+}
@@ -0,0 +1,96 @@
+package com.project.artists.service;
+
+import com.project.artists.repository.CoverBlobRepository;
+import com.project.artists.service.impl.CoverBlobServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes da contagem de referencias das capas - CoverBlobService")
+class CoverBlobServiceTest {
+
+    @Mock
+    private CoverBlobRepository coverBlobRepository;
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CoverBlobServiceImpl coverBlobService;
+
+    @Test
+    @DisplayName("Deve somar uma referencia por ocorrencia")
+    void deveSomarOcorrencias() {
+        coverBlobService.acquire(List.of("album-covers/a.jpg", "album-covers/b.jpg", "album-covers/a.jpg"));
+
+        verify(coverBlobRepository).insertIfAbsent("album-covers/a.jpg");
+        verify(coverBlobRepository).addReferences("album-covers/a.jpg", 2);
+        verify(coverBlobRepository).addReferences("album-covers/b.jpg", 1);
+    }
+
+    @Test
+    @DisplayName("Deve apagar do armazenamento so os objetos que ficaram sem referencia")
+    void deveApagarSoObjetosSemReferencia() {
+        when(coverBlobRepository.insertIfAbsent("album-covers/compartilhada.jpg")).thenReturn(0);
+        when(coverBlobRepository.insertIfAbsent("album-covers/unica.jpg")).thenReturn(1);
+
+        coverBlobService.release(List.of("album-covers/compartilhada.jpg", "album-covers/unica.jpg"));
+
+        verify(coverBlobRepository).addReferences("album-covers/compartilhada.jpg", -1);
+        verify(coverBlobRepository).addReferences("album-covers/unica.jpg", -1);
+        verify(coverBlobRepository).deleteUnreferenced(Set.of("album-covers/compartilhada.jpg", "album-covers/unica.jpg"));
+        verify(coverBlobRepository).deleteUnreferenced(Set.of("album-covers/unica.jpg"));
+        verify(storageService).deleteQuietly(List.of("album-covers/unica.jpg"));
+        verify(thumbnailService).deleteVariants("album-covers/unica.jpg");
+        verify(thumbnailService, never()).deleteVariants("album-covers/compartilhada.jpg");
+    }
+
+    @Test
+    @DisplayName("Falha ao consultar referencias nao deve apagar nada")
+    void naoDeveApagarSemConfirmarReferencias() {
+        when(coverBlobRepository.insertIfAbsent(anyString())).thenThrow(new RuntimeException("connection refused"));
+
+        coverBlobService.deleteUnreferenced(Set.of("album-covers/a.jpg"));
+
+        verify(storageService, never()).deleteQuietly(anyList());
+        verify(thumbnailService, never()).deleteVariants(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve travar os nomes em ordem e so entregar os que nao tinham linha")
+    void deveTravarNomesEmOrdem() {
+        when(coverBlobRepository.insertIfAbsent(anyString())).thenReturn(0);
+        when(coverBlobRepository.insertIfAbsent("album-covers/a.jpg")).thenReturn(1);
+        Set<String> claimed = new HashSet<>();
+
+        coverBlobService.withUnreferenced(List.of("album-covers/c.jpg", "album-covers/a.jpg", "album-covers/b.jpg"),
+                claimed::addAll);
+
+        InOrder inOrder = inOrder(coverBlobRepository);
+        inOrder.verify(coverBlobRepository).insertIfAbsent("album-covers/a.jpg");
+        inOrder.verify(coverBlobRepository).insertIfAbsent("album-covers/b.jpg");
+        inOrder.verify(coverBlobRepository).insertIfAbsent("album-covers/c.jpg");
+        inOrder.verify(coverBlobRepository).deleteUnreferenced(Set.of("album-covers/a.jpg"));
+        assertEquals(Set.of("album-covers/a.jpg"), claimed);
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.artists.service;
+
+import com.project.artists.config.CacheConfig;
+import com.project.artists.dto.request.ArtistRequestDTO;
+import com.project.artists.dto.response.ArtistResponseDTO;
+import com.project.artists.util.ResourceVersion;
+import com.project.artists.util.VersionedDetail;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes do cache de detalhes")
+class DetailCacheTest {
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve cachear o detalhe do artista e invalidar na atualizacao")
+    void deveCachearEInvalidarDetalheDoArtista() {
+        ArtistResponseDTO created = artistService.create(request("Cache Test Artist"));
+        Cache artistDetails = cacheManager.getCache(CacheConfig.ARTIST_DETAILS);
+
+        ResourceVersion version = artistService.findVersion(created.getId());
+        ArtistResponseDTO first = artistService.findById(created.getId(), version);
+        assertSame(first, artistService.findById(created.getId(), version));
+        assertNotNull(artistDetails.get(created.getId()));
+
+        artistService.update(created.getId(), request("Cache Test Artist Renamed"));
+
+        assertNull(artistDetails.get(created.getId()));
+        ResourceVersion updated = artistService.findVersion(created.getId());
+        assertEquals("Cache Test Artist Renamed", artistService.findById(created.getId(), updated).getName());
+    }
+
+    @Test
+    @DisplayName("Detalhe gravado depois do evict por uma leitura antiga nao deve ser servido na versao nova")
+    void naoDeveServirDetalheDeOutraVersao() {
+        ArtistResponseDTO created = artistService.create(request("Stale Cache Artist"));
+        Cache artistDetails = cacheManager.getCache(CacheConfig.ARTIST_DETAILS);
+        ResourceVersion before = artistService.findVersion(created.getId());
+        ArtistResponseDTO stale = artistService.findById(created.getId());
+
+        artistService.update(created.getId(), request("Stale Cache Artist Renamed"));
+        // Leitura concorrente que carregou antes da escrita e gravou depois do evict
+        VersionedDetail.put(artistDetails, created.getId(), before, stale);
+
+        ResourceVersion after = artistService.findVersion(created.getId());
+        assertNotEquals(before.getETag(), after.getETag());
+        assertEquals("Stale Cache Artist Renamed", artistService.findById(created.getId(), after).getName());
+    }
+
+    @Test
+    @DisplayName("Deve publicar metricas dos caches no actuator")
+    void devePublicarMetricas() {
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", CacheConfig.ALBUM_DETAILS).meter());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", CacheConfig.ARTIST_DETAILS).meter());
+    }
+
+    private ArtistRequestDTO request(String name) {
+        ArtistRequestDTO request = new ArtistRequestDTO();
+        request.setName(name);
+        request.setBio("bio");
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.artists.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.artists.dto.response.ImportReportDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.export.fetch-size=2")
+@ActiveProfiles("test")
+@DisplayName("Testes da exportacao do catalogo")
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Deve exportar albuns em NDJSON com nomes dos artistas agregados")
+    void deveExportarAlbunsEmNdjson() throws Exception {
+        seed();
+
+        List<String> lines = export(ExportService.Format.NDJSON, true);
+        JsonNode album = lines.stream()
+                .map(this::parse)
+                .filter(node -> node.get("title").asText().equals("Export, \"Album\""))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals("Export Artist A; Export Artist B", album.get("artists").asText());
+        assertEquals(2001, album.get("release_year").asInt());
+        assertTrue(album.get("created_at").isTextual());
+    }
+
+    @Test
+    @DisplayName("Deve exportar artistas em CSV com cabecalho e escape")
+    void deveExportarArtistasEmCsv() {
+        seed();
+
+        List<String> lines = export(ExportService.Format.CSV, false);
+
+        assertEquals("id,name,bio,album_count,created_at,updated_at", lines.get(0));
+        assertTrue(lines.stream().anyMatch(line -> line.contains(",Export Artist A,\"bio, com virgula\",")));
+    }
+
+    private void seed() {
+        String ndjson = String.join("\n",
+            "{\"type\":\"artist\",\"ref\":\"exp-a\",\"name\":\"Export Artist A\",\"bio\":\"bio, com virgula\"}",
+            "{\"type\":\"artist\",\"ref\":\"exp-b\",\"name\":\"Export Artist B\"}",
+            "{\"type\":\"album\",\"title\":\"Export, \\\"Album\\\"\",\"releaseYear\":2001,\"artistRefs\":[\"exp-b\",\"exp-a\"]}");
+        ImportReportDTO report = importService.importNdjson(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(0, report.getFailed());
+    }
+
+    private List<String> export(ExportService.Format format, boolean albums) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (albums) {
+            exportService.exportAlbums(format, out);
+        } else {
+            exportService.exportArtists(format, out);
+        }
+        return Arrays.asList(out.toString(StandardCharsets.UTF_8).split("\r?\n"));
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new AssertionError(line, e);
+        }
+    }
+}
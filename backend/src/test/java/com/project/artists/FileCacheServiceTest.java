@@ -0,0 +1,239 @@
+package com.project.artists.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.project.artists.service.FileCacheService.CachedFile;
+import com.project.artists.service.impl.FileCacheServiceImpl;
+import com.project.artists.storage.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do cache de arquivos em camadas")
+class FileCacheServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileCacheServiceImpl fileCacheService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        fileCacheService = new FileCacheServiceImpl();
+        ReflectionTestUtils.setField(fileCacheService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(fileCacheService, "enabled", true);
+        ReflectionTestUtils.setField(fileCacheService, "heapMaxBytes", DataSize.ofBytes(1000));
+        ReflectionTestUtils.setField(fileCacheService, "heapMaxObjectSize", DataSize.ofBytes(100));
+        ReflectionTestUtils.setField(fileCacheService, "diskMaxBytes", DataSize.ofKilobytes(10));
+        ReflectionTestUtils.setField(fileCacheService, "diskMaxObjectSize", DataSize.ofKilobytes(4));
+        ReflectionTestUtils.setField(fileCacheService, "directory", directory);
+        ReflectionTestUtils.setField(fileCacheService, "fillPoolSize", 1);
+        ReflectionTestUtils.setField(fileCacheService, "fillQueueCapacity", 10);
+        fileCacheService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileCacheService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Objeto pequeno deve ir para o heap e servir trechos")
+    void deveGuardarObjetoPequenoNoHeap() throws IOException {
+        byte[] content = bytes(50);
+        fileCacheService.put(object("small.jpg", content), new ByteArrayInputStream(content));
+
+        CachedFile cached = fileCacheService.get("small.jpg").orElseThrow();
+
+        assertArrayEquals(Arrays.copyOfRange(content, 10, 20), read(cached, 10, 10));
+        assertEquals(0, diskFiles());
+        assertEquals(10, meterRegistry.get("files.cache.bytes.served").tag("source", "heap").counter().count());
+    }
+
+    @Test
+    @DisplayName("Objeto medio deve ir para o disco e ser apagado na invalidacao")
+    void deveGuardarObjetoMedioNoDiscoEApagarNaInvalidacao() throws IOException {
+        byte[] content = bytes(2000);
+        fileCacheService.put(object("large.jpg", content), new ByteArrayInputStream(content));
+
+        CachedFile cached = fileCacheService.get("large.jpg").orElseThrow();
+        assertArrayEquals(content, read(cached, 0, content.length));
+        assertEquals(1, diskFiles());
+
+        fileCacheService.invalidate("large.jpg");
+
+        assertTrue(fileCacheService.get("large.jpg").isEmpty());
+        awaitDiskFiles(0);
+    }
+
+    @Test
+    @DisplayName("Arquivo em disco so deve ser aberto ao escrever a resposta")
+    void deveAbrirArquivoEmDiscoSoAoEscrever() throws IOException {
+        byte[] content = bytes(2000);
+        fileCacheService.put(object("late.jpg", content), new ByteArrayInputStream(content));
+
+        FileCacheService.Transfer transfer = fileCacheService.get("late.jpg").orElseThrow().open(0, content.length);
+        fileCacheService.invalidate("late.jpg");
+        awaitDiskFiles(0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(NoSuchFileException.class, () -> transfer.writeTo(out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    @DisplayName("Objeto acima do limite nao deve ser cacheado")
+    void naoDeveCachearObjetoGrande() {
+        byte[] content = bytes(5000);
+
+        assertFalse(fileCacheService.isCacheable(content.length));
+        assertTrue(fileCacheService.put(object("huge.jpg", content), new ByteArrayInputStream(content)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Despejo deve respeitar o limite em bytes do heap")
+    void deveDespejarPorTamanho() {
+        for (int i = 0; i < 30; i++) {
+            byte[] content = bytes(100);
+            fileCacheService.put(object("cover-" + i + ".jpg", content), new ByteArrayInputStream(content));
+        }
+
+        Cache<?, ?> heap = (Cache<?, ?>) ReflectionTestUtils.getField(fileCacheService, "heap");
+        heap.cleanUp();
+        double weight = meterRegistry.get("files.cache.weight").tag("tier", "heap").gauge().value();
+        assertTrue(weight <= 1000, "bytes no heap: " + weight);
+    }
+
+    @Test
+    @DisplayName("Preenchimento em segundo plano deve guardar o objeto uma unica vez")
+    void devePreencherEmSegundoPlano() throws Exception {
+        byte[] content = bytes(50);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger opened = new AtomicInteger();
+        FileCacheService.ContentSource source = () -> {
+            opened.incrementAndGet();
+            awaitQuietly(release);
+            return new ByteArrayInputStream(content);
+        };
+
+        fileCacheService.fillAsync(object("async.jpg", content), source);
+        fileCacheService.fillAsync(object("async.jpg", content), source);
+        release.countDown();
+
+        assertArrayEquals(content, read(awaitCached("async.jpg"), 0, content.length));
+        assertEquals(1, opened.get());
+    }
+
+    @Test
+    @DisplayName("Invalidacao durante o preenchimento deve descartar o conteudo baixado")
+    void deveDescartarPreenchimentoInvalidado() throws Exception {
+        byte[] content = bytes(50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        fileCacheService.fillAsync(object("deleted.jpg", content), () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return new ByteArrayInputStream(content);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        fileCacheService.invalidate("deleted.jpg");
+        release.countDown();
+
+        // Fila de uma thread: quando a tarefa seguinte roda, a anterior terminou
+        CountDownLatch drained = new CountDownLatch(1);
+        fileCacheService.fillAsync(object("other.jpg", content), () -> {
+            drained.countDown();
+            return new ByteArrayInputStream(content);
+        });
+        assertTrue(drained.await(5, TimeUnit.SECONDS));
+        awaitCached("other.jpg");
+
+        assertTrue(fileCacheService.get("deleted.jpg").isEmpty());
+    }
+
+    private CachedFile awaitCached(String objectName) {
+        for (int i = 0; i < 250; i++) {
+            Optional<CachedFile> cached = fileCacheService.get(objectName);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            sleep(20);
+        }
+        return fail(objectName + " nao entrou no cache");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] read(CachedFile cached, long offset, long length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cached.open(offset, length).writeTo(out);
+        return out.toByteArray();
+    }
+
+    private long diskFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private void awaitDiskFiles(long expected) throws IOException {
+        // O removal listener do Caffeine roda de forma assíncrona
+        for (int i = 0; i < 50 && diskFiles() != expected; i++) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        assertEquals(expected, diskFiles());
+    }
+
+    private static StoredObject object(String name, byte[] content) {
+        return new StoredObject(name, content.length, "etag-" + name, Instant.now(), "image/jpeg");
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+}
@@ -0,0 +1,255 @@
+package com.project.artists.controller;
+
+import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.service.FileCacheService.CachedFile;
+import com.project.artists.service.FileCacheService;
+import com.project.artists.service.StorageService;
+import com.project.artists.service.ThumbnailService;
+import com.project.artists.storage.StoredObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes de FileProxyController")
+class FileProxyControllerTest {
+
+    private static final String OBJECT = "album-covers/harakiri.jpg";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-01-15T10:00:00Z");
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private FileCacheService fileCacheService;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @InjectMocks
+    private FileProxyController fileProxyController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(fileProxyController).build();
+    }
+
+    @Test
+    @DisplayName("GET /files - Deve transmitir o arquivo com os metadados do armazenamento")
+    void deveTransmitirArquivoCompleto() throws Exception {
+        stubObject();
+        stubTransfer(0, null);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + OBJECT))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED.toEpochMilli()))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("GET /files - Deve responder 304 sem baixar o conteudo")
+    void deveResponder304SemBaixarConteudo() throws Exception {
+        stubObject();
+
+        mockMvc.perform(get("/api/v1/files/" + OBJECT).header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified());
+
+        verify(storageService, never()).transferTo(anyString(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /files - Range deve responder 206 buscando so o trecho")
+    void deveResponderRangeParcial() throws Exception {
+        stubObject();
+        stubTransfer(2, 4L);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + OBJECT)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"abc123\""))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("GET /files - If-Range desatualizado deve devolver o arquivo todo")
+    void deveIgnorarRangeComIfRangeDesatualizado() throws Exception {
+        stubObject();
+        stubTransfer(0, null);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + OBJECT)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"outra-versao\""))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("GET /files - Range fora do arquivo deve responder 416")
+    void deveResponder416ParaRangeInvalido() throws Exception {
+        stubObject();
+
+        mockMvc.perform(get("/api/v1/files/" + OBJECT).header(HttpHeaders.RANGE, "bytes=50-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        verify(storageService, never()).transferTo(anyString(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /files - Objeto inexistente deve responder 404")
+    void deveResponder404ParaObjetoInexistente() throws Exception {
+        when(storageService.stat(eq("album-covers/nao-existe.jpg")))
+                .thenThrow(new ResourceNotFoundException("Arquivo", "nome", "album-covers/nao-existe.jpg"));
+
+        mockMvc.perform(get("/api/v1/files/album-covers/nao-existe.jpg"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /files - Arquivo em cache deve ser servido sem ir ao MinIO")
+    void deveServirDoCacheSemIrAoMinio() throws Exception {
+        when(fileCacheService.get(OBJECT)).thenReturn(Optional.of(cachedFile()));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + OBJECT).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(content().string("789"));
+
+        verifyNoInteractions(storageService);
+    }
+
+    @Test
+    @DisplayName("GET /files - Arquivo despejado antes da escrita deve ser servido do MinIO")
+    void deveServirDoMinioQuandoArquivoFoiDespejado() throws Exception {
+        StoredObject metadata = new StoredObject(OBJECT, CONTENT.length, "abc123", LAST_MODIFIED, "image/jpeg");
+        CachedFile evicted = new CachedFile() {
+            public StoredObject metadata() { return metadata; }
+            public FileCacheService.Transfer open(long offset, long length) {
+                return out -> { throw new NoSuchFileException(OBJECT); };
+            }
+        };
+        when(fileCacheService.get(OBJECT)).thenReturn(Optional.of(evicted));
+        stubTransfer(0, 10L);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + OBJECT)).andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+
+        verify(fileCacheService).invalidate(OBJECT);
+    }
+
+    @Test
+    @DisplayName("GET /files - Primeiro acesso deve servir o trecho do MinIO e preencher o cache em segundo plano")
+    void devePreencherCacheEmSegundoPlanoNoPrimeiroAcesso() throws Exception {
+        stubObject();
+        stubTransfer(0, 4L);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + OBJECT).header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("0123"));
+
+        ArgumentCaptor<FileCacheService.ContentSource> source = ArgumentCaptor.forClass(FileCacheService.ContentSource.class);
+        verify(fileCacheService).fillAsync(argThat(object -> object.name().equals(OBJECT)), source.capture());
+        verify(storageService, never()).openStream(anyString(), anyLong(), any());
+
+        source.getValue().open();
+        verify(storageService).openStream(OBJECT, 0, null);
+    }
+
+    @Test
+    @DisplayName("GET /files - Miniatura ainda nao gerada deve servir o original sem cache longo")
+    void deveServirOriginalEnquantoMiniaturaNaoExiste() throws Exception {
+        String variant = "album-covers/harakiri_w256.jpg";
+        when(storageService.stat(variant)).thenThrow(new ResourceNotFoundException("Arquivo", "nome", variant));
+        when(thumbnailService.originalOf(variant)).thenReturn(Optional.of(OBJECT));
+        stubObject();
+        stubTransfer(0, null);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + variant)).andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    private CachedFile cachedFile() {
+        StoredObject metadata = new StoredObject(OBJECT, CONTENT.length, "abc123", LAST_MODIFIED, "image/jpeg");
+        return new CachedFile() {
+            public StoredObject metadata() { return metadata; }
+            public FileCacheService.Transfer open(long offset, long length) {
+                return out -> out.write(Arrays.copyOfRange(CONTENT, (int) offset, (int) (offset + length)));
+            }
+        };
+    }
+
+    private void stubTransfer(long offset, Long length) throws IOException {
+        when(storageService.transferTo(eq(OBJECT), eq(offset), eq(length), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(3);
+            int end = length != null ? (int) (offset + length) : CONTENT.length;
+            output.write(CONTENT, (int) offset, end - (int) offset);
+            return (long) (end - offset);
+        });
+    }
+
+    private void stubObject() {
+        when(storageService.stat(OBJECT))
+                .thenReturn(new StoredObject(OBJECT, CONTENT.length, "abc123", LAST_MODIFIED, "image/jpeg"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.artists.service;
+
+import com.project.artists.dto.response.ImportReportDTO;
+import com.project.artists.entity.Artist;
+import com.project.artists.repository.ArtistRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.import.chunk-size=2", "app.import.max-errors=3"})
+@ActiveProfiles("test")
+@DisplayName("Testes da importacao NDJSON")
+class ImportServiceTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Test
+    @DisplayName("Deve importar em lotes resolvendo refs entre lotes e reportar linhas invalidas")
+    void deveImportarEmLotes() {
+        ImportReportDTO report = importService.importNdjson(ndjson(
+            "{\"type\":\"artist\",\"ref\":\"imp1\",\"name\":\"Import Artist One\"}",
+            "{\"type\":\"ARTIST\",\"ref\":\"imp2\",\"name\":\"Import Artist Two\",\"bio\":\"bio\"}",
+            "",
+            "{\"type\":\"album\",\"title\":\"Import Album A\",\"releaseYear\":1990,\"artistRefs\":[\"imp1\"]}",
+            "{\"type\":\"album\",\"title\":\"Import Album B\",\"artistRefs\":[\"imp1\",\"imp2\"]}",
+            "{\"type\":\"album\",\"title\":\"Sem artista\"}",
+            "{nao e json",
+            "{\"type\":\"album\",\"title\":\"Ref desconhecida\",\"artistRefs\":[\"nope\"]}"
+        ));
+
+        assertEquals(7, report.getLinesRead());
+        assertEquals(2, report.getArtistsCreated());
+        assertEquals(2, report.getAlbumsCreated());
+        assertEquals(3, report.getFailed());
+        assertEquals(List.of(6L, 7L, 8L), report.getErrors().stream()
+                .map(ImportReportDTO.LineError::getLine)
+                .collect(Collectors.toList()));
+        assertFalse(report.isErrorsTruncated());
+
+        Artist one = findArtist("Import Artist One");
+        assertEquals(2, one.getAlbumCount());
+        assertEquals(1, findArtist("Import Artist Two").getAlbumCount());
+    }
+
+    @Test
+    @DisplayName("Deve reportar artistas inexistentes e limitar a lista de erros")
+    void deveLimitarErros() {
+        ImportReportDTO report = importService.importNdjson(ndjson(
+            "{\"type\":\"album\",\"title\":\"X\",\"artistIds\":[987654]}",
+            "{\"type\":\"artist\",\"name\":\"Import Artist Three\"}",
+            "{\"type\":\"artist\",\"name\":\"\"}",
+            "{\"type\":\"video\"}",
+            "{}"
+        ));
+
+        assertEquals(1, report.getArtistsCreated());
+        assertEquals(4, report.getFailed());
+        assertEquals(3, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        assertEquals(1L, report.getErrors().get(0).getLine());
+        assertTrue(report.getErrors().get(0).getMessage().contains("987654"));
+    }
+
+    private Artist findArtist(String name) {
+        return artistRepository.findAll().stream()
+                .filter(artist -> artist.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
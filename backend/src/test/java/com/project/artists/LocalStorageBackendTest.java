@@ -0,0 +1,50 @@
+package com.project.artists.storage;
+
+import com.project.artists.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do armazenamento em diretorio local")
+class LocalStorageBackendTest extends StorageBackendContract {
+
+    @TempDir
+    Path root;
+
+    @Override
+    protected StorageBackend createBackend() {
+        LocalStorageBackend local = new LocalStorageBackend();
+        ReflectionTestUtils.setField(local, "root", root.resolve("storage"));
+        local.init();
+        local.initialize();
+        return local;
+    }
+
+    @Test
+    @DisplayName("Nomes fora da raiz devem ser recusados")
+    void deveRecusarNomesForaDaRaiz() throws Exception {
+        Files.writeString(root.resolve("segredo.txt"), "x");
+
+        assertThrows(BadRequestException.class, () -> backend.stat("../segredo.txt"));
+        assertThrows(BadRequestException.class, () -> backend.get("album-covers/../../segredo.txt", 0, null));
+        assertThrows(BadRequestException.class, () -> backend.stat("/etc/passwd"));
+    }
+
+    @Test
+    @DisplayName("Gravacao deve usar temporario invisivel para leitores e listagem")
+    void naoDeveExporTemporarios() throws Exception {
+        backend.put("album-covers/a.jpg", new ByteArrayInputStream(new byte[] {1, 2, 3}), 3, "image/jpeg");
+        Files.writeString(root.resolve("storage/album-covers/.upload-abc"), "pela metade");
+
+        assertEquals(1, backend.list("album-covers/").count());
+        assertEquals("image/jpeg", backend.stat("album-covers/a.jpg").contentType());
+        assertThrows(BadRequestException.class, () -> backend.stat("album-covers/.upload-abc"));
+    }
+}
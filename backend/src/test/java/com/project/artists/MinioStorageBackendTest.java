@@ -0,0 +1,33 @@
+package com.project.artists.storage;
+
+import io.minio.MinioClient;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Contrato contra um MinIO real; só roda quando o endpoint é informado:
+ * mvn test -Dtest=MinioStorageBackendTest -Dminio.endpoint=http://localhost:9002
+ */
+@DisplayName("Testes do armazenamento no MinIO")
+class MinioStorageBackendTest extends StorageBackendContract {
+
+    @Override
+    protected StorageBackend createBackend() {
+        String endpoint = System.getProperty("minio.endpoint");
+        assumeTrue(endpoint != null && !endpoint.isBlank(), "minio.endpoint não informado");
+
+        MinioClient client = MinioClient.builder()
+                .endpoint(endpoint)
+                .credentials(System.getProperty("minio.access-key", "minioadmin"),
+                        System.getProperty("minio.secret-key", "minioadmin"))
+                .build();
+
+        MinioStorageBackend minio = new MinioStorageBackend();
+        ReflectionTestUtils.setField(minio, "minioClient", client);
+        ReflectionTestUtils.setField(minio, "bucketName", System.getProperty("minio.bucket", "storage-contract"));
+        minio.initialize();
+        return minio;
+    }
+}
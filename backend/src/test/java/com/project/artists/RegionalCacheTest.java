@@ -0,0 +1,137 @@
+package com.project.artists.service;
+
+import com.project.artists.client.RegionalApiClient;
+import com.project.artists.datasource.SqlStatementCountExtension;
+import com.project.artists.dto.external.RegionalExternoDTO;
+import com.project.artists.entity.Regional;
+import com.project.artists.repository.RegionalRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cache de segundo nível de Regional: listagens sem ida ao banco e
+ * invalidação ao final da sincronização
+ * 
+ * O benchmark (com x sem cache) é opcional:
+ * mvn test -Dtest=RegionalCacheTest -Dbenchmark=true
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes do cache de segundo nivel de regionais")
+class RegionalCacheTest {
+
+    private static final int REGIONAIS = 500;
+
+    @RegisterExtension
+    SqlStatementCountExtension sql = new SqlStatementCountExtension();
+
+    @Autowired
+    private RegionalSyncService regionalSyncService;
+
+    @Autowired
+    private RegionalRepository regionalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private RegionalApiClient regionalApiClient;
+
+    @BeforeEach
+    void setUp() {
+        List<RegionalExternoDTO> externos = new ArrayList<>();
+        for (int id = 1; id <= REGIONAIS; id++) {
+            externos.add(new RegionalExternoDTO(id, "Regional " + id, true));
+        }
+        when(regionalApiClient.buscarRegionais()).thenReturn(externos);
+        assertTrue(regionalSyncService.sincronizar().isSuccess());
+    }
+
+    @Test
+    @DisplayName("Listagem repetida deve vir do cache, sem comandos SQL")
+    void deveListarDoCache() {
+        assertEquals(REGIONAIS, regionalSyncService.listarAtivos().size());
+
+        sql.reset();
+        assertEquals(REGIONAIS, regionalSyncService.listarAtivos().size());
+        assertEquals(REGIONAIS, regionalSyncService.listarTodos().size());
+        regionalSyncService.listarTodos();
+
+        // listarTodos consulta o banco uma vez (primeira vez dessa query)
+        sql.assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("Sincronizacao deve invalidar o cache de regionais")
+    void deveInvalidarNaSincronizacao() {
+        regionalSyncService.listarAtivos();
+        assertTrue(entityManagerFactory.getCache().contains(Regional.class, 1));
+
+        List<RegionalExternoDTO> externos = new ArrayList<>(regionalApiClient.buscarRegionais());
+        externos.set(0, new RegionalExternoDTO(1, "Regional 1 Renomeado", true));
+        when(regionalApiClient.buscarRegionais()).thenReturn(externos);
+        assertTrue(regionalSyncService.sincronizar().isSuccess());
+
+        assertFalse(entityManagerFactory.getCache().contains(Regional.class, 1));
+        assertTrue(regionalSyncService.listarAtivos().stream()
+                .anyMatch(regional -> regional.getNome().equals("Regional 1 Renomeado")));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("Benchmark: latencia da listagem com e sem cache")
+    void benchmarkListagem() {
+        int iteracoes = 2000;
+
+        double semCache = average(iteracoes, () -> {
+            evictRegionais();
+            return regionalSyncService.listarAtivos();
+        });
+        double comCache = average(iteracoes, regionalSyncService::listarAtivos);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        System.out.printf("listarAtivos (%d regionais, %d iterações): sem cache %.1fµs, com cache %.1fµs (%.1fx)%n",
+                REGIONAIS, iteracoes, semCache, comCache, semCache / comCache);
+        if (statistics.isStatisticsEnabled()) {
+            System.out.printf("query cache: %d hits, %d misses%n",
+                    statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount());
+        }
+
+        assertTrue(comCache < semCache);
+    }
+
+    private double average(int iteracoes, Supplier<List<Regional>> listagem) {
+        // Aquecimento (JIT e pool de conexões)
+        for (int i = 0; i < iteracoes / 4; i++) {
+            listagem.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iteracoes; i++) {
+            assertEquals(REGIONAIS, listagem.get().size());
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iteracoes;
+    }
+
+    private void evictRegionais() {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evict(Regional.class);
+        cache.evictQueryRegion(Regional.QUERY_CACHE_REGION);
+    }
+}
@@ -1,8 +1,10 @@
 package com.project.artists.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.artists.dto.response.SyncResponseDTO;
 import com.project.artists.entity.Regional;
 import com.project.artists.service.RegionalSyncService;
+import com.project.artists.util.RegionalSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -34,6 +37,7 @@ class RegionalControllerTest {
     
     private SyncResponseDTO syncResponse;
     private List<Regional> regionais;
+    private RegionalSnapshot snapshot;
     
     @BeforeEach
     void setUp() {
@@ -55,7 +59,13 @@ class RegionalControllerTest {
         regional2.setNome("Regional Norte");
         regional2.setAtivo(true);
         
-        regionais = Arrays.asList(regional1, regional2);
+        Regional regional3 = new Regional();
+        regional3.setId(3);
+        regional3.setNome("Regional Centro");
+        regional3.setAtivo(false);
+        
+        regionais = Arrays.asList(regional2, regional1, regional3);
+        snapshot = RegionalSnapshot.of(regionais, new ObjectMapper().findAndRegisterModules());
     }
     
     @Test
@@ -87,30 +97,48 @@ class RegionalControllerTest {
     }
     
     @Test
-    @DisplayName("GET /regionais - Deve listar regionais ativos")
+    @DisplayName("GET /regionais - Deve listar regionais ativos da foto em memoria")
     void deveListarRegionaisAtivos() throws Exception {
-        when(regionalSyncService.listarAtivos()).thenReturn(regionais);
+        when(regionalSyncService.snapshot()).thenReturn(snapshot);
         
         mockMvc.perform(get("/api/v1/regionais"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getAtivos().getETag()))
                 .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].nome").value("Regional Sul"))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$[1].id").value(2))
+                .andExpect(jsonPath("$[0].new").doesNotExist());
+        
+        verify(regionalSyncService).snapshot();
+        verify(regionalSyncService, never()).listarAtivos();
+    }
+    
+    @Test
+    @DisplayName("GET /regionais - Deve retornar 304 quando o ETag nao mudou")
+    void deveRetornar304QuandoETagNaoMudou() throws Exception {
+        when(regionalSyncService.snapshot()).thenReturn(snapshot);
         
-        verify(regionalSyncService).listarAtivos();
+        mockMvc.perform(get("/api/v1/regionais")
+                        .header(HttpHeaders.IF_NONE_MATCH, snapshot.getAtivos().getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
     
     @Test
     @DisplayName("GET /regionais/all - Deve listar todos os regionais")
     void deveListarTodosRegionais() throws Exception {
-        when(regionalSyncService.listarTodos()).thenReturn(regionais);
+        when(regionalSyncService.snapshot()).thenReturn(snapshot);
         
         mockMvc.perform(get("/api/v1/regionais/all"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getTodos().getETag()))
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[2].ativo").value(false));
         
-        verify(regionalSyncService).listarTodos();
+        verify(regionalSyncService).snapshot();
+        verify(regionalSyncService, never()).listarTodos();
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,23 @@
 package com.project.artists.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.artists.client.RegionalApiClient;
 import com.project.artists.dto.external.RegionalExternoDTO;
 import com.project.artists.dto.response.SyncResponseDTO;
 import com.project.artists.entity.Regional;
 import com.project.artists.repository.RegionalRepository;
 import com.project.artists.service.impl.RegionalSyncServiceImpl;
+import com.project.artists.util.RegionalSnapshot;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -36,6 +42,15 @@ class RegionalSyncServiceTest {
     @Mock
     private RegionalRepository regionalRepository;
     
+    @Mock
+    private SessionFactory entityManagerFactory;
+    
+    @Mock
+    private Cache secondLevelCache;
+    
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    
     @InjectMocks
     private RegionalSyncServiceImpl regionalSyncService;
     
@@ -46,6 +61,9 @@ class RegionalSyncServiceTest {
     void setUp() {
         regionaisExternos = new ArrayList<>();
         regionaisLocais = new ArrayList<>();
+        
+        lenient().when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(entityManagerFactory);
+        lenient().when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
     }
     
     @Test
@@ -79,6 +97,10 @@ class RegionalSyncServiceTest {
         
         // Verificar que saveAll foi chamado 1 vez (para inserir novos)
         verify(regionalRepository, times(1)).saveAll(any());
+        
+        // Cache de segundo nível invalidado ao final da sincronização
+        verify(secondLevelCache).evict(Regional.class);
+        verify(secondLevelCache).evictQueryRegion(Regional.QUERY_CACHE_REGION);
     }
     
     @Test
@@ -110,6 +132,38 @@ class RegionalSyncServiceTest {
         verify(regionalRepository, never()).saveAll(any());
     }
 
+    @Test
+    @DisplayName("Deve remontar a foto de regionais apenas quando a sincronizacao muda algo")
+    void testFotoRemontadaApenasComMudancas() {
+        regionaisExternos.add(new RegionalExternoDTO(1, "Regional Sul", true));
+        regionaisLocais.add(new Regional(1, "Regional Sul", true));
+        
+        when(regionalApiClient.buscarRegionais()).thenReturn(regionaisExternos);
+        when(regionalRepository.findByAtivoTrue()).thenReturn(regionaisLocais);
+        when(regionalRepository.findAll()).thenReturn(regionaisLocais);
+        
+        RegionalSnapshot inicial = regionalSyncService.snapshot();
+        assertEquals(1, inicial.getAtivos().getSize());
+        
+        // Sem mudanças: a mesma foto continua sendo servida
+        regionalSyncService.sincronizar();
+        assertSame(inicial, regionalSyncService.snapshot());
+        
+        // Com um regional novo: foto nova, com outro ETag
+        regionaisExternos.add(new RegionalExternoDTO(2, "Regional Norte", true));
+        when(regionalRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+        when(regionalRepository.findAll()).thenReturn(List.of(
+            new Regional(1, "Regional Sul", true), new Regional(2, "Regional Norte", true)));
+        
+        regionalSyncService.sincronizar();
+        
+        RegionalSnapshot atualizada = regionalSyncService.snapshot();
+        assertNotSame(inicial, atualizada);
+        assertEquals(2, atualizada.getAtivos().getSize());
+        assertNotEquals(inicial.getAtivos().getETag(), atualizada.getAtivos().getETag());
+        verify(regionalRepository, times(2)).findAll();
+    }
+
     @Test
     @DisplayName("Deve inserir apenas novos regionais")
     void testNovosRegionais() {
@@ -138,6 +192,31 @@ class RegionalSyncServiceTest {
         verify(regionalRepository, times(1)).saveAll(any());
     }
 
+    @Test
+    @DisplayName("Novos regionais devem ir direto para INSERT (isNew)")
+    @SuppressWarnings("unchecked")
+    void testNovosRegionaisMarcadosComoNovos() {
+        // Arrange
+        regionaisExternos.add(new RegionalExternoDTO(1, "Regional Sul", true));
+        regionaisExternos.add(new RegionalExternoDTO(3, "Regional Centro", true));
+        regionaisLocais.add(new Regional(1, "Regional Sul", true));
+        
+        when(regionalApiClient.buscarRegionais()).thenReturn(regionaisExternos);
+        when(regionalRepository.findByAtivoTrue()).thenReturn(regionaisLocais);
+        when(regionalRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+        
+        // Act
+        regionalSyncService.sincronizar();
+        
+        // Assert
+        ArgumentCaptor<List<Regional>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regionalRepository).saveAll(captor.capture());
+        Regional salvo = captor.getValue().get(0);
+        assertEquals(3, salvo.getId());
+        assertTrue(salvo.isNew());
+        assertFalse(regionaisLocais.get(0).isNew());
+    }
+
     @Test
     @DisplayName("Deve marcar como inativo regionais removidos da API")
     void testRegionaisRemovidos() {
@@ -238,8 +317,9 @@ class RegionalSyncServiceTest {
         // Aceitar qualquer mensagem de erro, pois pode variar dependendo da implementação
         assertFalse(result.getMessage().isEmpty(), "Mensagem de erro não pode estar vazia");
         
-        // Nao deve tentar salvar nada
+        // Nao deve tentar salvar nada nem invalidar o cache
         verify(regionalRepository, never()).saveAll(any());
+        verifyNoInteractions(secondLevelCache);
     }
      
     @Test
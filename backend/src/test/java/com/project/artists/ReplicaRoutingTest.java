@@ -0,0 +1,165 @@
+package com.project.artists.datasource;
+
+import com.project.artists.config.DataSourceConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Roteamento read-only montado como no DataSourceConfig, com dois bancos H2
+ * (primário e réplica) que respondem "quem sou eu" pela tabela whoami
+ */
+@DisplayName("Testes do roteamento para replicas de leitura")
+class ReplicaRoutingTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesTracker tracker;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+
+        DataSource primary = whoamiDatabase("primary");
+        DataSource replica = whoamiDatabase("replica");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+                primary, Map.of("replica-1", replica), tracker, Duration.ofMinutes(1), meterRegistry));
+
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Transacao read-only deve ler da replica e as demais do primario")
+    void deveRotearPorTipoDeTransacao() {
+        assertEquals("replica", whoami(true));
+        assertEquals("primary", whoami(false));
+        assertEquals(1, connections("replica-1", "replica"));
+    }
+
+    @Test
+    @DisplayName("Usuario que acabou de escrever deve ler do primario")
+    void deveLerDoPrimarioDentroDaJanela() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("writer", null, List.of()));
+        assertEquals("replica", whoami(true));
+
+        tracker.recordWrite();
+
+        assertEquals("primary", whoami(true));
+        assertEquals(1, connections("primary", "read-your-writes"));
+    }
+
+    @Test
+    @DisplayName("Escrita anonima nao deve mandar os demais anonimos ao primario")
+    void deveIgnorarUsuarioAnonimo() {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", List.of(new SimpleGrantedAuthority("ROLE_ANONYMOUS"))));
+
+        tracker.recordWrite();
+
+        assertFalse(tracker.isRecentWriter());
+        assertEquals("replica", whoami(true));
+    }
+
+    @Test
+    @DisplayName("Conexao com credenciais deve seguir o mesmo roteamento")
+    void deveRotearConexaoComCredenciais() throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(replica.getConnection("reader", "secret")).thenReturn(connection);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                whoamiDatabase("primary"), Map.of("replica-1", replica), tracker, Duration.ofMinutes(1), meterRegistry);
+
+        assertSame(connection, routing.getConnection("reader", "secret"));
+        assertEquals(1, connections("replica-1", "replica"));
+    }
+
+    @Test
+    @DisplayName("Replica indisponivel deve cair para o primario e sair da rotacao")
+    void deveFazerFailoverParaOPrimario() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                whoamiDatabase("primary"), Map.of("replica-1", broken), tracker, Duration.ofMinutes(1), meterRegistry);
+
+        routing.getConnection().close();
+        routing.getConnection().close();
+
+        // A segunda conexão já não tenta a réplica marcada como fora
+        verify(broken, times(1)).getConnection();
+        assertEquals(1, meterRegistry.get("datasource.routing.failures").tag("pool", "replica-1").counter().count());
+        assertEquals(2, connections("primary", "failover"));
+    }
+
+    @Test
+    @DisplayName("Pools das replicas devem ser fechados no desligamento")
+    @SuppressWarnings("unchecked")
+    void deveFecharPoolsDasReplicas() {
+        DataSourceConfig config = new DataSourceConfig();
+        ReflectionTestUtils.setField(config, "replicaUrls", List.of("jdbc:h2:mem:whoami-replica;DB_CLOSE_DELAY=-1"));
+        ReflectionTestUtils.setField(config, "replicaRetryAfter", Duration.ofMinutes(1));
+        HikariDataSource primary = new HikariDataSource();
+        primary.setJdbcUrl("jdbc:h2:mem:whoami-primary;DB_CLOSE_DELAY=-1");
+
+        config.dataSource(primary, tracker, meterRegistry);
+        List<HikariDataSource> pools = List.copyOf(
+                (List<HikariDataSource>) ReflectionTestUtils.getField(config, "replicaPools"));
+
+        assertEquals(1, pools.size());
+        assertFalse(pools.get(0).isClosed());
+
+        config.closeReplicaPools();
+
+        assertTrue(pools.get(0).isClosed());
+    }
+
+    private String whoami(boolean readOnly) {
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class));
+    }
+
+    private double connections(String pool, String reason) {
+        return meterRegistry.get("datasource.routing.connections").tag("pool", pool).tag("reason", reason).counter().count();
+    }
+
+    private static DataSource whoamiDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:whoami-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS whoami(name VARCHAR(20))");
+        jdbc.execute("MERGE INTO whoami KEY(name) VALUES('" + name + "')");
+        return dataSource;
+    }
+}
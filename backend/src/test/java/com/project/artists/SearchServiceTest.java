@@ -0,0 +1,112 @@
+package com.project.artists.service;
+
+import com.project.artists.dto.response.PageResponseDTO;
+import com.project.artists.dto.response.SearchResultDTO;
+import com.project.artists.exception.BadRequestException;
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.CatalogSearchRepository;
+import com.project.artists.repository.projection.AlbumArtistNameView;
+import com.project.artists.repository.projection.SearchHit;
+import com.project.artists.service.impl.SearchServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes da busca unificada - SearchService")
+class SearchServiceTest {
+
+    @Mock
+    private CatalogSearchRepository catalogSearchRepository;
+
+    @Mock
+    private AlbumRepository albumRepository;
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    @Test
+    @DisplayName("Deve montar tsquery de prefixos e gerar cursor da proxima pagina")
+    void deveBuscarEGerarCursor() {
+        when(catalogSearchRepository.search(eq("nao:* & pa:*"), isNull(), eq(false), isNull(), eq(2)))
+            .thenReturn(List.of(
+                new SearchHit("ALBUM", 7L, "Não Pare", 0.6f),
+                new SearchHit("ARTIST", 3L, "Nação Zumbi", 0.1f)));
+
+        PageResponseDTO<SearchResultDTO> page = searchService.search("Não  pa!", null, false, null, 1);
+
+        assertEquals(1, page.getContent().size());
+        assertEquals(SearchResultDTO.Type.ALBUM, page.getContent().get(0).getType());
+        assertTrue(page.isFirst());
+        assertNotNull(page.getNextCursor());
+
+        when(catalogSearchRepository.search(anyString(), eq("ARTIST"), eq(false), any(), eq(2))).thenReturn(List.of());
+        searchService.search("Não pa", SearchResultDTO.Type.ARTIST, false, page.getNextCursor(), 1);
+
+        ArgumentCaptor<SearchHit> after = ArgumentCaptor.forClass(SearchHit.class);
+        verify(catalogSearchRepository).search(anyString(), eq("ARTIST"), eq(false), after.capture(), eq(2));
+        assertEquals("ALBUM", after.getValue().getType());
+        assertEquals(7L, after.getValue().getId());
+        assertEquals(0.6f, after.getValue().getRank());
+    }
+
+    @Test
+    @DisplayName("Deve trazer os dados dos cards das listagens em cada resultado")
+    void deveTrazerDadosDosCards() {
+        AlbumArtistNameView queen = mock(AlbumArtistNameView.class);
+        when(queen.getAlbumId()).thenReturn(7L);
+        when(queen.getArtistName()).thenReturn("Queen");
+        when(catalogSearchRepository.search(eq("queen:*"), isNull(), eq(true), isNull(), eq(11)))
+            .thenReturn(List.of(new SearchHit("ALBUM", 7L, "Innuendo", 0.6f, 1991, null, "album-covers/innuendo.jpg")));
+        when(albumRepository.findArtistNamesByAlbumIds(List.of(7L))).thenReturn(List.of(queen));
+        when(thumbnailService.variantOf("album-covers/innuendo.jpg", ThumbnailService.Size.LIST))
+            .thenReturn("album-covers/innuendo-list.jpg");
+        when(storageService.generatePresignedUrl("album-covers/innuendo-list.jpg")).thenReturn("http://minio/innuendo");
+        when(catalogSearchRepository.search(eq("queen:*"), eq("ARTIST"), eq(false), isNull(), eq(11)))
+            .thenReturn(List.of(new SearchHit("ARTIST", 3L, "Queen", 0.9f, null, 15, null)));
+
+        SearchResultDTO album = searchService.search("queen", null, true, null, 10).getContent().get(0);
+        SearchResultDTO artist = searchService.search("queen", SearchResultDTO.Type.ARTIST, false, null, 10).getContent().get(0);
+
+        assertEquals(1991, album.getReleaseYear());
+        assertEquals(List.of("Queen"), album.getArtistNames());
+        assertEquals("http://minio/innuendo", album.getCoverUrl());
+        assertNull(album.getAlbumCount());
+        assertEquals(15, artist.getAlbumCount());
+        assertNull(artist.getArtistNames());
+        verifyNoMoreInteractions(albumRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar pagina vazia sem consultar o banco quando nao ha termos")
+    void deveIgnorarConsultaSemTermos() {
+        PageResponseDTO<SearchResultDTO> page = searchService.search(" & !", null, false, null, 10);
+
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+        verifyNoInteractions(catalogSearchRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor invalido")
+    void deveRejeitarCursorInvalido() {
+        assertThrows(BadRequestException.class,
+            () -> searchService.search("rock", null, false, "nao-e-um-cursor", 10));
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.artists.controller;
+
+import com.project.artists.datasource.SqlStatementCountExtension;
+import com.project.artists.dto.request.AlbumRequestDTO;
+import com.project.artists.dto.request.ArtistRequestDTO;
+import com.project.artists.service.AlbumService;
+import com.project.artists.service.ArtistService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orçamento de comandos SQL por endpoint: a quantidade de comandos não pode
+ * crescer com o número de álbuns/artistas (N+1)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "sql-budget")
+@DisplayName("Testes do orcamento de comandos SQL por requisicao")
+class SqlStatementBudgetTest {
+
+    @RegisterExtension
+    SqlStatementCountExtension sql = new SqlStatementCountExtension();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private AlbumService albumService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Detalhe do artista nao deve crescer com o numero de albuns")
+    void detalheDoArtistaSemNMaisUm() throws Throwable {
+        Long small = artistWithAlbums("Budget Small", 2);
+        Long large = artistWithAlbums("Budget Large", 8);
+
+        long smallCount = sql.measure(() -> mockMvc.perform(get("/api/v1/artists/{id}", small)).andExpect(status().isOk()));
+        long largeCount = sql.measure(() -> mockMvc.perform(get("/api/v1/artists/{id}", large)).andExpect(status().isOk()));
+
+        assertTrue(smallCount > 0);
+        assertEquals(smallCount, largeCount);
+    }
+
+    @Test
+    @DisplayName("Albuns do artista devem carregar os nomes dos artistas em lote")
+    void albunsDoArtistaSemNMaisUm() throws Throwable {
+        Long small = artistWithAlbums("Budget Page Small", 2);
+        Long large = artistWithAlbums("Budget Page Large", 8);
+
+        long smallCount = sql.measure(() -> mockMvc.perform(get("/api/v1/albums/artist/{id}", small)).andExpect(status().isOk()));
+        long largeCount = sql.measure(() -> mockMvc.perform(get("/api/v1/albums/artist/{id}", large)).andExpect(status().isOk()));
+
+        assertEquals(smallCount, largeCount);
+        assertTrue(largeCount <= 4, "executados " + largeCount);
+    }
+
+    @Test
+    @DisplayName("Deve expor Server-Timing e metricas por endpoint")
+    void deveExporServerTimingEMetricas() throws Exception {
+        Long artistId = artistWithAlbums("Budget Timing", 1);
+        sql.reset();
+
+        mockMvc.perform(get("/api/v1/albums/artist/{id}", artistId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern("db;dur=\\d+\\.\\d;desc=\"\\d+ statements\"")));
+
+        assertTrue(sql.getStatements() > 0);
+        assertNotNull(meterRegistry.find("http.server.requests.sql.statements")
+                .tag("uri", "/api/v1/albums/artist/{artistId}").summary());
+        assertNotNull(meterRegistry.find("http.server.requests.sql.time")
+                .tag("method", "GET").timer());
+    }
+
+    private Long artistWithAlbums(String name, int albums) {
+        ArtistRequestDTO artist = new ArtistRequestDTO();
+        artist.setName(name);
+        artist.setBio("bio");
+        Long artistId = artistService.create(artist).getId();
+
+        for (int i = 0; i < albums; i++) {
+            AlbumRequestDTO album = new AlbumRequestDTO();
+            album.setTitle(name + " " + i);
+            album.setReleaseYear(2000 + i);
+            album.setArtistIds(List.of(artistId));
+            albumService.create(album);
+        }
+        return artistId;
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.artists.datasource;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conta os comandos SQL executados na thread do teste (MockMvc roda a
+ * requisição na mesma thread), para travar regressões N+1 por endpoint
+ * 
+ * <pre>
+ * &#64;RegisterExtension
+ * SqlStatementCountExtension sql = new SqlStatementCountExtension();
+ * 
+ * sql.reset();
+ * mockMvc.perform(get("/api/v1/albums"));
+ * sql.assertAtMost(3);
+ * </pre>
+ */
+public class SqlStatementCountExtension implements BeforeEachCallback, AfterEachCallback {
+    
+    private SqlStatementStats.Scope scope;
+    
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        scope = SqlStatementStats.open();
+    }
+    
+    @Override
+    public void afterEach(ExtensionContext context) {
+        scope.close();
+    }
+    
+    /**
+     * Zera a contagem (ex.: depois de preparar os dados do teste)
+     */
+    public void reset() {
+        scope.close();
+        scope = SqlStatementStats.open();
+    }
+    
+    public long getStatements() {
+        return scope.getStatements();
+    }
+    
+    /**
+     * Comandos executados dentro de action
+     */
+    public long measure(Executable action) throws Throwable {
+        try (SqlStatementStats.Scope measured = SqlStatementStats.open()) {
+            action.execute();
+            return measured.getStatements();
+        }
+    }
+    
+    public void assertStatements(long expected) {
+        assertEquals(expected, scope.getStatements(), "comandos SQL executados");
+    }
+    
+    public void assertAtMost(long max) {
+        assertTrue(scope.getStatements() <= max,
+                "esperado no máximo " + max + " comandos SQL, executados " + scope.getStatements());
+    }
+}
@@ -0,0 +1,207 @@
+package com.project.artists.storage;
+
+import com.project.artists.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Contrato comum dos StorageBackend: cada implementação estende esta classe
+ * e passa pelos mesmos testes e pelo mesmo benchmark (opcional):
+ * mvn test -Dtest='*StorageBackendTest' -Dbenchmark=true
+ *
+ * Os objetos de cada teste ficam sob um prefixo próprio, apagado no fim.
+ */
+abstract class StorageBackendContract {
+
+    protected StorageBackend backend;
+    protected String prefix;
+
+    /**
+     * Backend pronto para uso (initialize já chamado)
+     */
+    protected abstract StorageBackend createBackend() throws Exception;
+
+    @BeforeEach
+    void setUpBackend() throws Exception {
+        backend = createBackend();
+        prefix = "contract-" + UUID.randomUUID() + "/";
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (backend != null) {
+            try (Stream<StoredObject> objects = backend.list(prefix)) {
+                objects.forEach(object -> backend.delete(object.name()));
+            }
+        }
+    }
+
+    @Test
+    void deveGravarEConsultarMetadados() {
+        byte[] content = bytes(1000);
+        put("a.jpg", content, "image/jpeg");
+
+        StoredObject object = backend.stat(prefix + "a.jpg");
+
+        assertEquals(prefix + "a.jpg", object.name());
+        assertEquals(1000, object.size());
+        assertNotNull(object.eTag());
+        assertNotNull(object.lastModified());
+    }
+
+    @Test
+    void deveLerTrechos() throws IOException {
+        byte[] content = bytes(1000);
+        put("a.jpg", content, "image/jpeg");
+
+        try (InputStream range = backend.get(prefix + "a.jpg", 10, 20L);
+             InputStream tail = backend.get(prefix + "a.jpg", 990, null)) {
+            assertArrayEquals(Arrays.copyOfRange(content, 10, 30), StreamUtils.copyToByteArray(range));
+            assertArrayEquals(Arrays.copyOfRange(content, 990, 1000), StreamUtils.copyToByteArray(tail));
+        }
+    }
+
+    @Test
+    void deveTransferirTrechos() throws IOException {
+        byte[] content = bytes(1000);
+        put("a.jpg", content, "image/jpeg");
+
+        ByteArrayOutputStream whole = new ByteArrayOutputStream();
+        ByteArrayOutputStream range = new ByteArrayOutputStream();
+
+        assertEquals(1000, backend.transferTo(prefix + "a.jpg", 0, null, whole));
+        assertEquals(100, backend.transferTo(prefix + "a.jpg", 500, 100L, range));
+        assertArrayEquals(content, whole.toByteArray());
+        assertArrayEquals(Arrays.copyOfRange(content, 500, 600), range.toByteArray());
+    }
+
+    @Test
+    void deveSobrescreverObjeto() throws IOException {
+        put("a.jpg", bytes(100), "image/jpeg");
+        byte[] updated = "nova versao".getBytes();
+        put("a.jpg", updated, "image/jpeg");
+
+        try (InputStream content = backend.get(prefix + "a.jpg", 0, null)) {
+            assertArrayEquals(updated, StreamUtils.copyToByteArray(content));
+        }
+        assertEquals(updated.length, backend.stat(prefix + "a.jpg").size());
+    }
+
+    @Test
+    void deveApagarObjeto() {
+        put("a.jpg", bytes(10), "image/jpeg");
+
+        backend.delete(prefix + "a.jpg");
+        backend.delete(prefix + "nao-existe.jpg");
+
+        assertThrows(ResourceNotFoundException.class, () -> backend.stat(prefix + "a.jpg"));
+        assertThrows(ResourceNotFoundException.class, () -> backend.get(prefix + "a.jpg", 0, null));
+    }
+
+    @Test
+    void deveApagarEmLote() {
+        put("a.jpg", bytes(10), "image/jpeg");
+        put("b.jpg", bytes(10), "image/jpeg");
+        put("c.jpg", bytes(10), "image/jpeg");
+
+        backend.deleteAll(List.of(prefix + "a.jpg", prefix + "b.jpg", prefix + "nao-existe.jpg"));
+
+        try (Stream<StoredObject> objects = backend.list(prefix)) {
+            assertEquals(Set.of(prefix + "c.jpg"), objects.map(StoredObject::name).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    void deveMoverObjeto() throws IOException {
+        byte[] content = bytes(500);
+        put(".incoming/tmp", content, "image/png");
+        put("final.png", bytes(10), "image/png");
+
+        backend.move(prefix + ".incoming/tmp", prefix + "final.png");
+
+        assertThrows(ResourceNotFoundException.class, () -> backend.stat(prefix + ".incoming/tmp"));
+        try (InputStream moved = backend.get(prefix + "final.png", 0, null)) {
+            assertArrayEquals(content, StreamUtils.copyToByteArray(moved));
+        }
+        assertThrows(ResourceNotFoundException.class, () -> backend.move(prefix + "nao-existe", prefix + "x.png"));
+    }
+
+    @Test
+    void deveListarPorPrefixo() {
+        put("covers/a.jpg", bytes(10), "image/jpeg");
+        put("covers/b.png", bytes(20), "image/png");
+        put("outros/c.jpg", bytes(30), "image/jpeg");
+
+        try (Stream<StoredObject> objects = backend.list(prefix + "covers/")) {
+            Set<String> names = objects.map(StoredObject::name).collect(Collectors.toSet());
+            assertEquals(Set.of(prefix + "covers/a.jpg", prefix + "covers/b.png"), names);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkLeitura() throws IOException {
+        int iterations = 200;
+        byte[] content = bytes(1024 * 1024);
+        put("bench.jpg", content, "image/jpeg");
+        OutputStream discard = OutputStream.nullOutputStream();
+
+        for (int i = 0; i < 20; i++) {
+            backend.transferTo(prefix + "bench.jpg", 0, null, discard);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            backend.transferTo(prefix + "bench.jpg", 0, null, discard);
+        }
+        double transferMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            try (InputStream stream = backend.get(prefix + "bench.jpg", 0, null)) {
+                StreamUtils.copy(stream, discard);
+            }
+        }
+        double copyMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            backend.stat(prefix + "bench.jpg");
+        }
+        double statMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.printf("%s (1MB x %d): transferTo %.0f MB/s, get+copy %.0f MB/s, stat %.1fµs%n",
+                backend.getClass().getSimpleName(), iterations,
+                iterations / (transferMillis / 1000), iterations / (copyMillis / 1000),
+                statMillis * 1000 / iterations);
+    }
+
+    private void put(String name, byte[] content, String contentType) {
+        backend.put(prefix + name, new ByteArrayInputStream(content), content.length, contentType);
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        return content;
+    }
+}
@@ -0,0 +1,151 @@
+package com.project.artists.service;
+
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.CoverBlobRepository;
+import com.project.artists.repository.projection.AlbumCoversView;
+import com.project.artists.service.impl.StorageReconcilerServiceImpl;
+import com.project.artists.storage.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes da reconciliacao do armazenamento")
+class StorageReconcilerServiceTest {
+
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(3));
+
+    private SimpleMeterRegistry meterRegistry;
+    private StorageService storageService;
+    private ThumbnailService thumbnailService;
+    private AlbumRepository albumRepository;
+    private CoverBlobRepository coverBlobRepository;
+    private CoverBlobService coverBlobService;
+    private Set<String> reused;
+    private StorageReconcilerServiceImpl reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storageService = mock(StorageService.class);
+        thumbnailService = mock(ThumbnailService.class);
+        albumRepository = mock(AlbumRepository.class);
+        coverBlobRepository = mock(CoverBlobRepository.class);
+        coverBlobService = mock(CoverBlobService.class);
+        reused = new HashSet<>();
+
+        reconciler = new StorageReconcilerServiceImpl();
+        ReflectionTestUtils.setField(reconciler, "storageService", storageService);
+        ReflectionTestUtils.setField(reconciler, "thumbnailService", thumbnailService);
+        ReflectionTestUtils.setField(reconciler, "albumRepository", albumRepository);
+        ReflectionTestUtils.setField(reconciler, "coverBlobRepository", coverBlobRepository);
+        ReflectionTestUtils.setField(reconciler, "coverBlobService", coverBlobService);
+        ReflectionTestUtils.setField(reconciler, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(reconciler, "minAge", Duration.ofHours(24));
+        ReflectionTestUtils.setField(reconciler, "batchSize", 2);
+        ReflectionTestUtils.setField(reconciler, "deletesPerSecond", 0);
+        ReflectionTestUtils.setField(reconciler, "dryRun", false);
+
+        when(albumRepository.findCoversAfter(eq(0L), any()))
+                .thenReturn(List.of(covers(1L, "album-covers/usada.jpg")));
+        when(coverBlobRepository.findReferencedNamesAfter(eq(""), any()))
+                .thenReturn(List.of("album-covers/em-blob.jpg"));
+        // Entrega os nomes sem linha em cover_blobs, como a implementação
+        doAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            Consumer<Set<String>> action = invocation.getArgument(1);
+            Set<String> unreferenced = new HashSet<>(names);
+            unreferenced.removeAll(reused);
+            if (!unreferenced.isEmpty()) {
+                action.accept(unreferenced);
+            }
+            return null;
+        }).when(coverBlobService).withUnreferenced(anyCollection(), any());
+        when(thumbnailService.originalOf(anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            return name.contains("_w")
+                    ? Optional.of(name.replaceAll("_w\\d+", ""))
+                    : Optional.empty();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve remover em lotes so objetos antigos sem referencia, com as miniaturas")
+    void deveRemoverOrfaosAntigos() {
+        when(storageService.list("album-covers/")).thenReturn(Stream.of(
+                object("album-covers/usada.jpg", 100, OLD),
+                object("album-covers/usada_w256.jpg", 10, OLD),
+                object("album-covers/em-blob.jpg", 100, OLD),
+                object("album-covers/orfa.jpg", 300, OLD),
+                object("album-covers/orfa_w64.jpg", 20, OLD),
+                object("album-covers/orfa2.png", 50, OLD),
+                object("album-covers/recente.jpg", 1000, Instant.now())));
+
+        StorageReconcilerService.Result result = reconciler.reconcile();
+
+        assertEquals(7, result.scanned());
+        assertEquals(3, result.orphans());
+        assertEquals(3, result.deleted());
+        assertEquals(370, result.reclaimedBytes());
+        verify(storageService).deleteAll(List.of("album-covers/orfa.jpg", "album-covers/orfa_w64.jpg"));
+        verify(storageService).deleteAll(List.of("album-covers/orfa2.png"));
+        assertEquals(370, meterRegistry.get("storage.reconciler.reclaimed.bytes").counter().count());
+        assertEquals(3, meterRegistry.get("storage.reconciler.deleted").counter().count());
+    }
+
+    @Test
+    @DisplayName("Objeto reaproveitado por um upload durante a varredura nao deve ser removido")
+    void naoDeveRemoverObjetoReaproveitado() {
+        when(storageService.list("album-covers/")).thenReturn(Stream.of(
+                object("album-covers/orfa.jpg", 300, OLD)));
+        reused.add("album-covers/orfa.jpg");
+
+        StorageReconcilerService.Result result = reconciler.reconcile();
+
+        assertEquals(1, result.orphans());
+        assertEquals(0, result.deleted());
+        verify(storageService, never()).deleteAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Dry-run deve apenas contar os orfaos")
+    void naoDeveRemoverEmDryRun() {
+        ReflectionTestUtils.setField(reconciler, "dryRun", true);
+        when(storageService.list("album-covers/")).thenReturn(Stream.of(
+                object("album-covers/orfa.jpg", 300, OLD)));
+
+        StorageReconcilerService.Result result = reconciler.reconcile();
+
+        assertEquals(1, result.orphans());
+        assertEquals(0, result.deleted());
+        verify(storageService, never()).deleteAll(anyList());
+    }
+
+    private static StoredObject object(String name, long size, Instant lastModified) {
+        return new StoredObject(name, size, "etag", lastModified, null);
+    }
+
+    private static AlbumCoversView covers(Long id, String... coverUrls) {
+        return new AlbumCoversView() {
+            public Long getId() { return id; }
+            public List<String> getCoverUrls() { return List.of(coverUrls); }
+        };
+    }
+}
@@ -0,0 +1,210 @@
+package com.project.artists.service;
+
+import com.project.artists.exception.BadRequestException;
+import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.service.impl.StorageServiceImpl;
+import com.project.artists.storage.StagedUpload;
+import com.project.artists.storage.StorageBackend;
+import com.project.artists.storage.StoredObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do upload de arquivos no armazenamento")
+class StorageServiceTest {
+
+    private StorageBackend storageBackend;
+    private FileCacheService fileCacheService;
+    private StorageServiceImpl storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageBackend = mock(StorageBackend.class);
+        fileCacheService = mock(FileCacheService.class);
+
+        storageService = new StorageServiceImpl();
+        ReflectionTestUtils.setField(storageService, "storageBackend", storageBackend);
+        ReflectionTestUtils.setField(storageService, "fileCacheService", fileCacheService);
+        ReflectionTestUtils.setField(storageService, "uploadPoolSize", 4);
+        ReflectionTestUtils.setField(storageService, "maxParallelPerRequest", 2);
+        storageService.init();
+
+        when(storageBackend.stat(anyString())).thenAnswer(invocation -> {
+            throw new ResourceNotFoundException("Arquivo", "nome", invocation.getArgument(0));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Backend deve ser preparado uma unica vez")
+    void devePrepararBackendUmaVez() {
+        storageService.stageFiles(List.of(image("a.jpg"), image("b.jpg")), "album-covers");
+        storageService.stageFiles(List.of(image("c.jpg")), "album-covers");
+
+        verify(storageBackend, times(1)).initialize();
+        verify(storageBackend, times(3)).put(anyString(), any(InputStream.class), anyLong(), eq("image/jpeg"));
+    }
+
+    @Test
+    @DisplayName("Uploads de uma requisicao devem respeitar o limite de paralelismo")
+    void deveLimitarParalelismoPorRequisicao() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch overlapped = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            if (now > 1) {
+                overlapped.countDown();
+            }
+            overlapped.await(1, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return null;
+        }).when(storageBackend).put(anyString(), any(), anyLong(), anyString());
+
+        List<StagedUpload> staged = storageService.stageFiles(
+                List.of(image("a.jpg"), image("b.jpg"), image("c.jpg"), image("d.jpg"), image("e.jpg")), "album-covers");
+        List<String> names = staged.stream().map(StagedUpload::objectName).toList();
+
+        assertEquals(5, names.size());
+        assertEquals(5, Set.copyOf(names).size());
+        assertTrue(names.stream().allMatch(name -> name.startsWith("album-covers/") && name.endsWith(".jpg")));
+        assertTrue(staged.stream().allMatch(upload -> upload.stagingName().startsWith("album-covers/.incoming/")));
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Falha em um arquivo deve apagar os provisorios ja enviados")
+    void deveApagarEnviadosQuandoUmFalha() throws Exception {
+        Set<String> uploaded = ConcurrentHashMap.newKeySet();
+        doThrow(new RuntimeException("connection reset"))
+                .when(storageBackend).put(anyString(), any(), anyLong(), eq("image/png"));
+        doAnswer(invocation -> {
+            uploaded.add(invocation.getArgument(0));
+            return null;
+        }).when(storageBackend).put(anyString(), any(), anyLong(), eq("image/jpeg"));
+        List<MultipartFile> files = List.of(image("a.jpg"), new MockMultipartFile("files", "b.png", "image/png", new byte[] {1}));
+
+        assertThrows(RuntimeException.class, () -> storageService.stageFiles(files, "album-covers"));
+
+        verify(storageBackend, times(uploaded.size())).delete(anyString());
+        uploaded.forEach(name -> verify(storageBackend).delete(name));
+    }
+
+    @Test
+    @DisplayName("Arquivo invalido deve recusar o lote sem enviar nada")
+    void deveValidarAntesDeEnviar() throws Exception {
+        List<MultipartFile> files = List.of(image("a.jpg"), new MockMultipartFile("files", "a.txt", "text/plain", new byte[] {1}));
+
+        assertThrows(BadRequestException.class, () -> storageService.stageFiles(files, "album-covers"));
+
+        verify(storageBackend, never()).put(anyString(), any(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("Nome definitivo deve ser o hash do conteudo lido durante o envio")
+    void deveNomearPeloConteudo() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("files", "revolver.jpeg", "image/jpeg", new byte[] {1, 2, 3});
+        // O backend lê só parte do stream: o restante ainda entra no hash
+        doAnswer(invocation -> {
+            InputStream content = invocation.getArgument(1);
+            content.read();
+            return null;
+        }).when(storageBackend).put(anyString(), any(), anyLong(), anyString());
+
+        StagedUpload staged = storageService.stageFiles(List.of(file), "album-covers").get(0);
+
+        assertEquals("album-covers/039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81.jpg",
+                staged.objectName());
+        verify(storageBackend).put(eq(staged.stagingName()), any(), eq(3L), eq("image/jpeg"));
+    }
+
+    @Test
+    @DisplayName("Objeto ja gravado deve sair da chave original e ser lido uma vez para calcular o nome")
+    void deveNomearObjetoExistentePeloConteudo() {
+        String key = "album-covers/direct/1/abc.jpeg";
+        reset(storageBackend);
+        when(storageBackend.stat(startsWith("album-covers/.incoming/")))
+                .thenAnswer(invocation -> new StoredObject(invocation.getArgument(0), 3, "etag", null, "image/jpeg"));
+        when(storageBackend.get(startsWith("album-covers/.incoming/"), eq(0L), isNull()))
+                .thenReturn(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+
+        StagedUpload staged = storageService.stageObject(key, "album-covers", DataSize.ofMegabytes(10));
+
+        verify(storageBackend).move(key, staged.stagingName());
+        verify(fileCacheService).invalidate(key);
+        assertTrue(staged.stagingName().startsWith("album-covers/.incoming/"));
+        assertEquals("album-covers/039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81.jpg",
+                staged.objectName());
+    }
+
+    @Test
+    @DisplayName("Objeto ja gravado acima do limite deve ser apagado sem ser lido")
+    void deveApagarObjetoAcimaDoLimite() {
+        String key = "album-covers/direct/1/abc.png";
+        reset(storageBackend);
+        when(storageBackend.stat(startsWith("album-covers/.incoming/")))
+                .thenAnswer(invocation -> new StoredObject(invocation.getArgument(0), 11L * 1024 * 1024, "etag", null, "image/png"));
+
+        assertThrows(BadRequestException.class,
+                () -> storageService.stageObject(key, "album-covers", DataSize.ofMegabytes(10)));
+
+        verify(storageBackend).delete(startsWith("album-covers/.incoming/"));
+        verify(storageBackend, never()).get(anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Publicar deve mover o provisorio para o nome definitivo")
+    void deveMoverProvisorioAoPublicar() {
+        StagedUpload staged = new StagedUpload("album-covers/.incoming/1", "album-covers/abc.jpg");
+
+        assertTrue(storageService.publish(staged));
+
+        verify(storageBackend).move("album-covers/.incoming/1", "album-covers/abc.jpg");
+        verify(fileCacheService).invalidate("album-covers/abc.jpg");
+    }
+
+    @Test
+    @DisplayName("Publicar conteudo que ja existe deve so apagar o provisorio")
+    void deveDescartarProvisorioQuandoConteudoJaExiste() {
+        StagedUpload staged = new StagedUpload("album-covers/.incoming/1", "album-covers/abc.jpg");
+        reset(storageBackend);
+        when(storageBackend.stat("album-covers/abc.jpg"))
+                .thenReturn(new StoredObject("album-covers/abc.jpg", 3, "etag", null, "image/jpeg"));
+
+        assertFalse(storageService.publish(staged));
+
+        verify(storageBackend).delete("album-covers/.incoming/1");
+        verify(storageBackend, never()).move(anyString(), anyString());
+    }
+
+    private static MockMultipartFile image(String name) {
+        return new MockMultipartFile("files", name, "image/jpeg", name.getBytes());
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.artists.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do indice de sugestoes em memoria")
+class SuggestionIndexTest {
+
+    private SuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SuggestionIndex();
+        index.replaceAll(Map.of(
+                1L, "Mil Coisas Invisíveis",
+                2L, "Não Pare",
+                3L, "Nação Zumbi",
+                4L, "Os Invisíveis"));
+    }
+
+    @Test
+    @DisplayName("Deve casar prefixos de palavras ignorando acentos")
+    void deveCasarPrefixosSemAcentos() {
+        assertEquals(List.of(4L, 1L), ids(index.search("invis", 10)));
+        assertEquals(List.of(2L, 3L), ids(index.search("na", 10)));
+        assertEquals(List.of(1L), ids(index.search("INVISIVEIS mil", 10)));
+        assertTrue(index.search("zz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve priorizar rotulos que comecam com a consulta e respeitar o limite")
+    void devePriorizarInicioDoRotulo() {
+        index.put(5L, "Invisível ao Vivo no Rio de Janeiro");
+
+        assertEquals(List.of(5L, 4L, 1L), ids(index.search("invis", 10)));
+        assertEquals(List.of(5L), ids(index.search("invis", 1)));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar e remover entradas")
+    void deveAtualizarERemover() {
+        index.put(2L, "Pare Agora");
+        index.remove(4L);
+
+        assertEquals(List.of(3L), ids(index.search("na", 10)));
+        assertEquals(List.of(1L), ids(index.search("invis", 10)));
+        assertEquals(List.of(2L), ids(index.search("pare", 10)));
+        assertEquals(3, index.size());
+    }
+
+    private List<Long> ids(List<Map.Entry<Long, String>> entries) {
+        return entries.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+    }
+}
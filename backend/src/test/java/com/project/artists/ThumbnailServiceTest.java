@@ -0,0 +1,182 @@
+package com.project.artists.service;
+
+import com.project.artists.exception.ResourceNotFoundException;
+import com.project.artists.repository.AlbumRepository;
+import com.project.artists.repository.projection.AlbumCoversView;
+import com.project.artists.service.impl.ThumbnailServiceImpl;
+import com.project.artists.storage.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes da geracao de miniaturas das capas")
+class ThumbnailServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StorageService storageService;
+    private AlbumRepository albumRepository;
+    private ThumbnailServiceImpl thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storageService = mock(StorageService.class);
+        albumRepository = mock(AlbumRepository.class);
+
+        thumbnailService = new ThumbnailServiceImpl();
+        ReflectionTestUtils.setField(thumbnailService, "storageService", storageService);
+        ReflectionTestUtils.setField(thumbnailService, "albumRepository", albumRepository);
+        ReflectionTestUtils.setField(thumbnailService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(thumbnailService, "enabled", true);
+        ReflectionTestUtils.setField(thumbnailService, "thumbnailWidth", 64);
+        ReflectionTestUtils.setField(thumbnailService, "listWidth", 256);
+        ReflectionTestUtils.setField(thumbnailService, "detailWidth", 512);
+        ReflectionTestUtils.setField(thumbnailService, "poolSize", 1);
+        ReflectionTestUtils.setField(thumbnailService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(thumbnailService, "maxSourcePixels", 40_000_000L);
+        ReflectionTestUtils.setField(thumbnailService, "backfillBatchSize", 2);
+        thumbnailService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Derivada deve ficar ao lado do original com o sufixo da largura")
+    void deveNomearDerivadasAoLadoDoOriginal() {
+        assertEquals("album-covers/x_w256.jpg", thumbnailService.variantOf("album-covers/x.jpg", ThumbnailService.Size.LIST));
+        assertEquals("album-covers/x_w64", thumbnailService.variantOf("album-covers/x", ThumbnailService.Size.THUMBNAIL));
+
+        assertEquals(Optional.of("album-covers/x.jpg"), thumbnailService.originalOf("album-covers/x_w512.jpg"));
+        assertEquals(Optional.of("album-covers/x"), thumbnailService.originalOf("album-covers/x_w64"));
+        assertEquals(Optional.empty(), thumbnailService.originalOf("album-covers/x_w300.jpg"));
+        assertEquals(Optional.empty(), thumbnailService.originalOf("album-covers/x.jpg"));
+    }
+
+    @Test
+    @DisplayName("JPEG deve gerar as tres larguras mantendo a proporcao")
+    void deveGerarDerivadasJpeg() throws IOException {
+        when(storageService.openStream("album-covers/x.jpg", 0, null))
+                .thenReturn(new ByteArrayInputStream(image(1000, 500, BufferedImage.TYPE_INT_RGB, "jpeg")));
+
+        ReflectionTestUtils.invokeMethod(thumbnailService, "generate", "album-covers/x.jpg");
+
+        assertEquals(new Dimension(512, 256), putDimension("album-covers/x_w512.jpg", "image/jpeg"));
+        assertEquals(new Dimension(256, 128), putDimension("album-covers/x_w256.jpg", "image/jpeg"));
+        assertEquals(new Dimension(64, 32), putDimension("album-covers/x_w64.jpg", "image/jpeg"));
+        assertEquals(1, meterRegistry.get("thumbnails.generated").tag("result", "ok").counter().count());
+    }
+
+    @Test
+    @DisplayName("Imagem menor que a largura nao deve ser ampliada")
+    void naoDeveAmpliarImagemPequena() throws IOException {
+        when(storageService.openStream("album-covers/small.png", 0, null))
+                .thenReturn(new ByteArrayInputStream(image(100, 100, BufferedImage.TYPE_INT_ARGB, "png")));
+
+        ReflectionTestUtils.invokeMethod(thumbnailService, "generate", "album-covers/small.png");
+
+        assertEquals(new Dimension(100, 100), putDimension("album-covers/small_w512.png", "image/png"));
+        assertEquals(new Dimension(64, 64), putDimension("album-covers/small_w64.png", "image/png"));
+    }
+
+    @Test
+    @DisplayName("Arquivo que nao e imagem deve ser ignorado")
+    void deveIgnorarArquivoSemLeitor() {
+        when(storageService.openStream("album-covers/x.webp", 0, null))
+                .thenReturn(new ByteArrayInputStream(new byte[] {1, 2, 3, 4}));
+
+        ReflectionTestUtils.invokeMethod(thumbnailService, "generate", "album-covers/x.webp");
+
+        verify(storageService, never()).putObject(anyString(), any(), anyString());
+        assertEquals(1, meterRegistry.get("thumbnails.generated").tag("result", "skipped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Fila cheia deve descartar a capa para o backfill")
+    void deveDescartarComFilaCheia() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(storageService.openStream(anyString(), eq(0L), isNull())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new ResourceNotFoundException("Arquivo", "nome", invocation.getArgument(0));
+        });
+
+        thumbnailService.generateAfterCommit(List.of("a.jpg"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // a.jpg em geração, b.jpg na fila (capacidade 1), c.jpg descartada
+        thumbnailService.generateAfterCommit(List.of("b.jpg", "c.jpg"));
+        release.countDown();
+
+        assertEquals(1, meterRegistry.get("thumbnails.generated").tag("result", "rejected").counter().count());
+        verify(storageService, timeout(5000)).openStream("b.jpg", 0, null);
+        verify(storageService, never()).openStream("c.jpg", 0, null);
+    }
+
+    @Test
+    @DisplayName("Backfill deve percorrer os albuns em lotes e gerar so as capas sem derivadas")
+    void deveGerarApenasCapasSemDerivadasNoBackfill() {
+        when(albumRepository.findCoversAfter(eq(0L), any()))
+                .thenReturn(List.of(covers(1L, "album-covers/pronta.jpg"), covers(2L, "album-covers/nova.jpg")));
+        when(albumRepository.findCoversAfter(eq(2L), any())).thenReturn(List.of());
+        when(storageService.stat(anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            if (name.startsWith("album-covers/nova")) {
+                throw new ResourceNotFoundException("Arquivo", "nome", name);
+            }
+            return new StoredObject(name, 1, "etag", null, "image/jpeg");
+        });
+        when(storageService.openStream(anyString(), eq(0L), isNull()))
+                .thenThrow(new ResourceNotFoundException("Arquivo", "nome", "album-covers/nova.jpg"));
+
+        assertEquals(1, thumbnailService.backfill());
+
+        verify(albumRepository).findCoversAfter(eq(2L), any());
+        verify(storageService, timeout(5000)).openStream("album-covers/nova.jpg", 0, null);
+        verify(storageService, never()).openStream("album-covers/pronta.jpg", 0, null);
+    }
+
+    private Dimension putDimension(String objectName, String contentType) throws IOException {
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(storageService).putObject(eq(objectName), content.capture(), eq(contentType));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(content.getValue()));
+        return new Dimension(image.getWidth(), image.getHeight());
+    }
+
+    private static byte[] image(int width, int height, int type, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), format, output);
+        return output.toByteArray();
+    }
+
+    private static AlbumCoversView covers(Long id, String... coverUrls) {
+        return new AlbumCoversView() {
+            public Long getId() { return id; }
+            public List<String> getCoverUrls() { return List.of(coverUrls); }
+        };
+    }
+
+    private record Dimension(int width, int height) {}
+}
@@ -9,6 +9,7 @@ export interface Album {
   releaseYear?: number;
   artists: ArtistSummaryInAlbum[];
   coverUrls: string[];
+  coverPreviewUrls?: string[];
   createdAt?: string;
   updatedAt?: string;
 }
@@ -29,3 +30,15 @@ export interface AlbumRequest {
   artistIds: number[];
   releaseYear?: number;
 }
+
+/**
+ * URL assinada para enviar uma capa direto ao armazenamento
+ */
+export interface CoverUploadTarget {
+  objectKey: string;
+  uploadUrl: string;
+  method: 'PUT';
+  contentType: string;
+  maxSize: number;
+  expiresAt: string;
+}
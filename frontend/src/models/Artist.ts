@@ -6,7 +6,8 @@ export interface Artist {
   name: string;
   bio?: string;
   albumCount: number;
-  albums?: AlbumSummary[];
+  albums?: AlbumSummary[];      // primeiros álbuns; total em albumCount
+  albumsNext?: string;          // próxima página em /albums/artist/{id}
   createdAt?: string;
   updatedAt?: string;
 }
@@ -20,6 +21,7 @@ export interface AlbumSummary {
   releaseYear?: number;
   artistNames?: string[];
   coverUrl?: string;
+  coverThumbnailUrl?: string;
 }
 
 /**
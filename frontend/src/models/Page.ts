@@ -10,6 +10,7 @@ export interface PageResponse<T> {
   first: boolean;
   last: boolean;
   empty: boolean;
+  nextCursor?: string;  // modo cursor: próxima página (totalPages = -1)
 }
 
 /**
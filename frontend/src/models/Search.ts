@@ -0,0 +1,27 @@
+/**
+ * Item da busca unificada (GET /search)
+ *
+ * releaseYear, artistNames e coverUrl vêm só em álbuns;
+ * albumCount só em artistas
+ */
+export interface SearchResult {
+  type: 'ALBUM' | 'ARTIST';
+  id: number;
+  label: string;
+  rank: number;
+  releaseYear?: number;
+  artistNames?: string[];
+  coverUrl?: string;
+  albumCount?: number;
+}
+
+/**
+ * Parâmetros da busca unificada (paginada por cursor)
+ */
+export interface SearchRequest {
+  q: string;
+  type?: 'ALBUM' | 'ARTIST';
+  byArtist?: boolean;
+  cursor?: string;
+  size?: number;
+}
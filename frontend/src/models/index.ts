@@ -3,3 +3,4 @@ export * from './Album';
 export * from './Auth';
 export * from './Page';
 export * from './Notification';
+export * from './Search';
@@ -126,7 +126,7 @@ const AlbumDetailPage: React.FC = () => {
             <div className="aspect-square bg-gray-200 rounded-lg overflow-hidden shadow-xl mb-4">
               {album.coverUrls && album.coverUrls.length > 0 ? (
                 <img
-                  src={album.coverUrls[selectedCoverIndex]}
+                  src={album.coverPreviewUrls?.[selectedCoverIndex] ?? album.coverUrls[selectedCoverIndex]}
                   alt={album.title}
                   className="w-full h-full object-cover"
                 />
@@ -153,7 +153,7 @@ const AlbumDetailPage: React.FC = () => {
                     }`}
                   >
                     <img
-                      src={url}
+                      src={album.coverPreviewUrls?.[index] ?? url}
                       alt={`Capa ${index + 1}`}
                       className="w-full h-full object-cover"
                     />
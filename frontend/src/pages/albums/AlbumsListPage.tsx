@@ -22,6 +22,7 @@ const AlbumsListPage: React.FC = () => {
 
   const [currentPage, setCurrentPage] = useState(0);
   const [totalPages, setTotalPages] = useState(0);
+  const [nextCursor, setNextCursor] = useState<string | undefined>(undefined);
 
   const [isAuthenticated, setIsAuthenticated] = useState(false);
 
@@ -35,6 +36,9 @@ const AlbumsListPage: React.FC = () => {
   // evita condição de corrida (resposta antiga sobrescrever nova)
   const requestIdRef = useRef(0);
 
+  // busca paginada por cursor: cursor de cada página já visitada (página 0 sem cursor)
+  const cursorsRef = useRef<(string | undefined)[]>([undefined]);
+
   const isFiltering = !!debouncedSearch.trim();
 
   useEffect(() => {
@@ -52,6 +56,7 @@ const AlbumsListPage: React.FC = () => {
       if (state.albums) {
         setAlbums(state.albums.content);
         setTotalPages(state.albums.totalPages);
+        setNextCursor(state.albums.nextCursor);
       }
       setLoading(state.loading);
       setError(state.error);
@@ -74,23 +79,21 @@ const AlbumsListPage: React.FC = () => {
 
       const term = debouncedSearch.trim();
 
-      // Se tem termo -> filtra
+      // Se tem termo -> busca unificada (por relevância, paginada por cursor)
       if (term.length > 0) {
-        if (searchMode === 'title') {
-          await albumFacade.searchByTitle({
-            page: currentPage,
-            size: 12,
-            title: term,
-          });
-        } else {
-          await albumFacade.searchByArtistName({
-            page: currentPage,
-            size: 12,
-            name: term,
-          });
+        if (currentPage === 0) {
+          cursorsRef.current = [undefined];
         }
 
+        await albumFacade.search({
+          term,
+          byArtist: searchMode === 'artist',
+          cursor: cursorsRef.current[currentPage],
+          size: 12,
+        });
+
         if (requestId !== requestIdRef.current) return;
+        cursorsRef.current[currentPage + 1] = albumStore.currentState.albums?.nextCursor;
         return;
       }
 
@@ -121,8 +124,12 @@ const AlbumsListPage: React.FC = () => {
     loadAlbums();
   };
 
+  // na busca não há total: só se sabe se existe a próxima página
+  const hasNextPage = isFiltering ? !!nextCursor : currentPage < totalPages - 1;
+  const showPagination = isFiltering ? currentPage > 0 || !!nextCursor : totalPages > 1;
+
   const handlePageChange = (newPage: number) => {
-    if (newPage < 0 || newPage >= totalPages) return;
+    if (newPage < 0 || (newPage > currentPage && !hasNextPage)) return;
 
     setCurrentPage(newPage);
     window.scrollTo({ top: 0, behavior: 'smooth' });
@@ -328,7 +335,7 @@ const AlbumsListPage: React.FC = () => {
           </div>
 
           {/* Paginação */}
-          {totalPages > 1 && (
+          {showPagination && (
             <div className="bg-white shadow-md rounded-lg p-4">
               <div className="flex items-center justify-between">
                 <button
@@ -340,12 +347,12 @@ const AlbumsListPage: React.FC = () => {
                 </button>
 
                 <span className="text-sm text-gray-600">
-                  Página {currentPage + 1} de {totalPages}
+                  Página {currentPage + 1}{!isFiltering && ` de ${totalPages}`}
                 </span>
 
                 <button
                   onClick={() => handlePageChange(currentPage + 1)}
-                  disabled={currentPage >= totalPages - 1 || disablePagination}
+                  disabled={!hasNextPage || disablePagination}
                   className="px-4 py-2 border border-gray-300 rounded-lg disabled:opacity-50 disabled:cursor-not-allowed hover:bg-gray-50 transition-colors"
                 >
                   Próxima
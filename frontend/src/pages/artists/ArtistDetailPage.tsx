@@ -172,7 +172,7 @@ const ArtistDetailPage: React.FC = () => {
                       </div>
                       {album.coverUrl && (
                         <img
-                          src={album.coverUrl}
+                          src={album.coverThumbnailUrl ?? album.coverUrl}
                           alt={album.title}
                           className="w-16 h-16 object-cover rounded"
                         />
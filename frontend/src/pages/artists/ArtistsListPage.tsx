@@ -23,6 +23,7 @@ const ArtistsListPage: React.FC = () => {
 
   const [currentPage, setCurrentPage] = useState(0);
   const [totalPages, setTotalPages] = useState(0);
+  const [nextCursor, setNextCursor] = useState<string | undefined>(undefined);
 
   const [username, setUsername] = useState('');
 
@@ -32,6 +33,9 @@ const ArtistsListPage: React.FC = () => {
   // evita condição de corrida (requisição antiga sobrescrever a nova)
   const requestIdRef = useRef(0);
 
+  // busca paginada por cursor: cursor de cada página já visitada (página 0 sem cursor)
+  const cursorsRef = useRef<(string | undefined)[]>([undefined]);
+
   useEffect(() => {
     // Observa usuário autenticado
     const authSub = authStore.currentUser$.subscribe(user => {
@@ -53,6 +57,7 @@ const ArtistsListPage: React.FC = () => {
       if (state.artists) {
         setArtists(state.artists.content);
         setTotalPages(state.artists.totalPages);
+        setNextCursor(state.artists.nextCursor);
       }
       setLoading(state.loading);
       setError(state.error);
@@ -67,10 +72,27 @@ const ArtistsListPage: React.FC = () => {
     setSearchLoading(true);
 
     try {
+      const term = debouncedSearch?.trim();
+
+      // Com termo -> busca unificada (por relevância, paginada por cursor)
+      if (term) {
+        if (currentPage === 0) {
+          cursorsRef.current = [undefined];
+        }
+
+        await artistFacade.search(term, {
+          cursor: cursorsRef.current[currentPage],
+          size: 12,
+        });
+
+        if (requestId !== requestIdRef.current) return;
+        cursorsRef.current[currentPage + 1] = artistStore.currentState.artists?.nextCursor;
+        return;
+      }
+
       await artistFacade.list({
         page: currentPage,
         size: 12,
-        name: debouncedSearch?.trim() || undefined,
         sort: 'name',
         direction: sortDirection,
       });
@@ -115,13 +137,17 @@ const ArtistsListPage: React.FC = () => {
     setCurrentPage(0);
   };
 
+  const isFiltering = !!debouncedSearch?.trim();
+
+  // na busca não há total: só se sabe se existe a próxima página
+  const hasNextPage = isFiltering ? !!nextCursor : currentPage < totalPages - 1;
+  const showPagination = isFiltering ? currentPage > 0 || !!nextCursor : totalPages > 1;
+
   const handlePageChange = (newPage: number) => {
-    if (newPage < 0 || newPage >= totalPages) return;
+    if (newPage < 0 || (newPage > currentPage && !hasNextPage)) return;
     setCurrentPage(newPage);
     window.scrollTo({ top: 0, behavior: 'smooth' });
   };
-
-  const isFiltering = !!debouncedSearch?.trim();
   const disablePagination = loading || searchLoading;
 
   return (
@@ -207,7 +233,9 @@ const ArtistsListPage: React.FC = () => {
 
             <button
               onClick={toggleSort}
-              className="px-4 py-2 border border-gray-300 rounded-lg hover:bg-gray-50 transition-colors flex items-center space-x-2"
+              disabled={isFiltering}
+              title={isFiltering ? 'A busca é ordenada por relevância' : undefined}
+              className="px-4 py-2 border border-gray-300 rounded-lg hover:bg-gray-50 transition-colors flex items-center space-x-2 disabled:opacity-50 disabled:cursor-not-allowed"
             >
               <span>{sortDirection === 'asc' ? 'A-Z' : 'Z-A'}</span>
               <svg
@@ -303,7 +331,7 @@ const ArtistsListPage: React.FC = () => {
           </div>
 
           {/* Paginação */}
-          {totalPages > 1 && (
+          {showPagination && (
             <div className="bg-white shadow-md rounded-lg p-4">
               <div className="flex items-center justify-between">
                 <button
@@ -315,12 +343,12 @@ const ArtistsListPage: React.FC = () => {
                 </button>
 
                 <span className="text-sm text-gray-600">
-                  Página {currentPage + 1} de {totalPages}
+                  Página {currentPage + 1}{!isFiltering && ` de ${totalPages}`}
                 </span>
 
                 <button
                   onClick={() => handlePageChange(currentPage + 1)}
-                  disabled={currentPage >= totalPages - 1 || disablePagination}
+                  disabled={!hasNextPage || disablePagination}
                   className="px-4 py-2 border border-gray-300 rounded-lg disabled:opacity-50 disabled:cursor-not-allowed hover:bg-gray-50 transition-colors"
                 >
                   Próxima
@@ -1,5 +1,6 @@
+import axios from 'axios';
 import { httpClient } from './HttpClient';
-import { Album, AlbumRequest, PageResponse, PageRequest } from '../models';
+import { Album, AlbumRequest, CoverUploadTarget, PageResponse, PageRequest } from '../models';
 import { AlbumSummary } from '../models/Artist';
 
 /**
@@ -38,88 +39,6 @@ class AlbumService {
     }
   }
 
-  /**
-   * Busca álbuns por título (PAGINADO)
-   * Endpoint esperado: GET /albums/search?title=...
-   */
-  async searchByTitle(
-    params: PageRequest & { title: string }
-  ): Promise<PageResponse<AlbumSummary>> {
-    try {
-      const queryParams = new URLSearchParams();
-
-      // obrigatório
-      queryParams.append('title', params.title);
-
-      // paginação
-      if (params?.page !== undefined) {
-        queryParams.append('page', params.page.toString());
-      }
-      if (params?.size !== undefined) {
-        queryParams.append('size', params.size.toString());
-      }
-
-      // ordenação (opcional)
-      if (params?.sort) {
-        queryParams.append('sort', params.sort);
-      }
-      if (params?.direction) {
-        queryParams.append('direction', params.direction);
-      }
-
-      const response = await httpClient.get<PageResponse<AlbumSummary>>(
-        `${this.basePath}/search?${queryParams.toString()}`
-      );
-
-      return response.data;
-    } catch (error: any) {
-      throw new Error(
-        error.response?.data?.message || 'Erro ao buscar álbuns pelo título'
-      );
-    }
-  }
-
-  /**
-   * Busca álbuns pelo nome do artista (PAGINADO)
-   * Endpoint esperado: GET /albums/search/artist?name=...
-   */
-  async searchByArtistName(
-    params: PageRequest & { name: string }
-  ): Promise<PageResponse<AlbumSummary>> {
-    try {
-      const queryParams = new URLSearchParams();
-
-      // obrigatório
-      queryParams.append('name', params.name);
-
-      // paginação
-      if (params?.page !== undefined) {
-        queryParams.append('page', params.page.toString());
-      }
-      if (params?.size !== undefined) {
-        queryParams.append('size', params.size.toString());
-      }
-
-      // ordenação (opcional)
-      if (params?.sort) {
-        queryParams.append('sort', params.sort);
-      }
-      if (params?.direction) {
-        queryParams.append('direction', params.direction);
-      }
-
-      const response = await httpClient.get<PageResponse<AlbumSummary>>(
-        `${this.basePath}/search/artist?${queryParams.toString()}`
-      );
-
-      return response.data;
-    } catch (error: any) {
-      throw new Error(
-        error.response?.data?.message || 'Erro ao buscar álbuns pelo artista'
-      );
-    }
-  }
-
   /**
    * Busca álbum por ID
    */
@@ -190,21 +109,41 @@ class AlbumService {
 
   /**
    * Upload de capas do álbum
+   *
+   * Cada arquivo vai direto ao armazenamento por uma URL assinada e depois
+   * é confirmado na API, sem passar os bytes pelo backend. Se o backend não
+   * oferecer upload direto (armazenamento local, 501), envia tudo em
+   * multipart; qualquer outra falha é repassada.
    */
   async uploadCovers(albumId: number, files: File[]): Promise<Album> {
     try {
-      const formData = new FormData();
-
-      files.forEach((file) => {
-        formData.append('files', file);
-      });
-
-      const response = await httpClient.post<Album>(
-        `${this.basePath}/${albumId}/covers`,
-        formData
-      );
+      let album: Album | undefined;
+
+      for (let index = 0; index < files.length; index++) {
+        const file = files[index];
+        let target: CoverUploadTarget;
+        try {
+          target = await this.requestCoverUploadUrl(albumId, file);
+        } catch (error: any) {
+          if (index === 0 && error.response?.status === 501) {
+            return await this.uploadCoversMultipart(albumId, files);
+          }
+          throw error;
+        }
+
+        // Sem o httpClient: a URL já é assinada e não leva o token da API
+        await axios.put(target.uploadUrl, file, {
+          headers: { 'Content-Type': target.contentType },
+        });
+
+        const response = await httpClient.post<Album>(
+          `${this.basePath}/${albumId}/covers/confirm`,
+          { objectKey: target.objectKey }
+        );
+        album = response.data;
+      }
 
-      return response.data;
+      return album as Album;
     } catch (error: any) {
       throw new Error(
         error.response?.data?.message || 'Erro ao fazer upload das capas'
@@ -212,6 +151,29 @@ class AlbumService {
     }
   }
 
+  private async requestCoverUploadUrl(albumId: number, file: File): Promise<CoverUploadTarget> {
+    const response = await httpClient.post<CoverUploadTarget>(
+      `${this.basePath}/${albumId}/covers/upload-url`,
+      { contentType: file.type, fileName: file.name }
+    );
+    return response.data;
+  }
+
+  private async uploadCoversMultipart(albumId: number, files: File[]): Promise<Album> {
+    const formData = new FormData();
+
+    files.forEach((file) => {
+      formData.append('files', file);
+    });
+
+    const response = await httpClient.post<Album>(
+      `${this.basePath}/${albumId}/covers`,
+      formData
+    );
+
+    return response.data;
+  }
+
   /**
    * Remove álbum
    */
@@ -8,9 +8,9 @@ class ArtistService {
   private readonly basePath = '/artists';
 
   /**
-   * Lista artistas com paginação e filtros
+   * Lista artistas com paginação
    */
-  async list(params?: PageRequest & { name?: string }): Promise<PageResponse<ArtistSummary>> {
+  async list(params?: PageRequest): Promise<PageResponse<ArtistSummary>> {
     try {
       const queryParams = new URLSearchParams();
 
@@ -20,19 +20,6 @@ class ArtistService {
       if (params?.sort) queryParams.append('sortBy', params.sort);
       if (params?.direction) queryParams.append('direction', params.direction);
 
-      const name = params?.name?.trim();
-
-      if (name) {
-        queryParams.append('name', name);
-
-        const response = await httpClient.get<PageResponse<ArtistSummary>>(
-          `${this.basePath}/search?${queryParams.toString()}`
-        );
-
-        return response.data;
-      }
-
-      // Sem filtro -> lista normal
       const response = await httpClient.get<PageResponse<ArtistSummary>>(
         `${this.basePath}?${queryParams.toString()}`
       );
@@ -43,13 +30,6 @@ class ArtistService {
     }
   }
 
-  /**
-   * Pesquisa por nome (atalho explícito)
-   */
-  async search(params: PageRequest & { name: string }): Promise<PageResponse<ArtistSummary>> {
-    return this.list(params);
-  }
-
   /**
    * Busca artista por ID
    */
@@ -0,0 +1,43 @@
+import { httpClient } from './HttpClient';
+import { PageResponse, SearchRequest, SearchResult } from '../models';
+
+/**
+ * Serviço da busca unificada de álbuns e artistas
+ */
+class SearchService {
+  private readonly basePath = '/search';
+
+  /**
+   * Busca por relevância, paginada por cursor (nextCursor da página anterior)
+   */
+  async search(params: SearchRequest): Promise<PageResponse<SearchResult>> {
+    try {
+      const queryParams = new URLSearchParams();
+
+      queryParams.append('q', params.q);
+
+      if (params.type) {
+        queryParams.append('type', params.type);
+      }
+      if (params.byArtist) {
+        queryParams.append('byArtist', 'true');
+      }
+      if (params.cursor) {
+        queryParams.append('cursor', params.cursor);
+      }
+      if (params.size !== undefined) {
+        queryParams.append('size', params.size.toString());
+      }
+
+      const response = await httpClient.get<PageResponse<SearchResult>>(
+        `${this.basePath}?${queryParams.toString()}`
+      );
+
+      return response.data;
+    } catch (error: any) {
+      throw new Error(error.response?.data?.message || 'Erro ao buscar no catálogo');
+    }
+  }
+}
+
+export const searchService = new SearchService();
@@ -1,4 +1,5 @@
 import { albumService } from '../AlbumService';
+import { searchService } from '../SearchService';
 import { albumStore } from '../../stores/AlbumStore';
 import { AlbumRequest, PageRequest } from '../../models';
 
@@ -24,35 +25,31 @@ class AlbumFacade {
   }
 
   /**
-   * Busca álbuns por título (PAGINADO)
-   * Endpoint esperado: GET /api/v1/albums/search?title=...
+   * Busca álbuns pelo título ou pelo nome dos artistas (GET /search),
+   * paginada por cursor e ordenada por relevância
    */
-  async searchByTitle(
-    params: PageRequest & { title: string }
+  async search(
+    params: { term: string; byArtist?: boolean; cursor?: string; size?: number }
   ): Promise<void> {
     try {
       albumStore.setLoading(true);
-      const albums = await albumService.searchByTitle(params);
-      albumStore.setAlbums(albums);
-    } catch (error: any) {
-      albumStore.setError(error.message);
-      throw error;
-    } finally {
-      albumStore.setLoading(false);
-    }
-  }
-
-  /**
-   * Busca álbuns pelo nome do artista (PAGINADO)
-   * Endpoint esperado: GET /api/v1/albums/search/artist?name=...
-   */
-  async searchByArtistName(
-    params: PageRequest & { name: string }
-  ): Promise<void> {
-    try {
-      albumStore.setLoading(true);
-      const albums = await albumService.searchByArtistName(params);
-      albumStore.setAlbums(albums);
+      const results = await searchService.search({
+        q: params.term,
+        type: 'ALBUM',
+        byArtist: params.byArtist,
+        cursor: params.cursor,
+        size: params.size,
+      });
+      albumStore.setAlbums({
+        ...results,
+        content: results.content.map(result => ({
+          id: result.id,
+          title: result.label,
+          releaseYear: result.releaseYear,
+          artistNames: result.artistNames,
+          coverUrl: result.coverUrl,
+        })),
+      });
     } catch (error: any) {
       albumStore.setError(error.message);
       throw error;
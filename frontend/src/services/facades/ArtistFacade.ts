@@ -1,4 +1,5 @@
 import { artistService } from '../ArtistService';
+import { searchService } from '../SearchService';
 import { artistStore } from '../../stores/ArtistStore';
 import { ArtistRequest, PageRequest } from '../../models';
 
@@ -8,14 +9,13 @@ import { ArtistRequest, PageRequest } from '../../models';
  */
 class ArtistFacade {
   /**
-   * Lista artistas com paginação e filtros (inclui pesquisa por nome)
+   * Lista artistas com paginação
    */
-  async list(params?: PageRequest & { name?: string }): Promise<void> {
+  async list(params?: PageRequest): Promise<void> {
     try {
       artistStore.setLoading(true);
       artistStore.setError(null);
 
-  
       const artists = await artistService.list(params);
 
       artistStore.setArtists(artists);
@@ -28,23 +28,29 @@ class ArtistFacade {
   }
 
   /**
-   * Pesquisa por nome (atalho)
-   * OBS: se name estiver vazio, lista tudo.
+   * Pesquisa por nome e bio (GET /search), paginada por cursor e
+   * ordenada por relevância
    */
-  async search(name: string, params?: PageRequest): Promise<void> {
+  async search(term: string, params?: { cursor?: string; size?: number }): Promise<void> {
     try {
       artistStore.setLoading(true);
       artistStore.setError(null);
 
-      const artists = await artistService.search({
-        page: params?.page ?? 0,
+      const results = await searchService.search({
+        q: term,
+        type: 'ARTIST',
+        cursor: params?.cursor,
         size: params?.size ?? 12,
-        sort: params?.sort ?? 'name',
-        direction: params?.direction ?? 'asc',
-        name,
       });
 
-      artistStore.setArtists(artists);
+      artistStore.setArtists({
+        ...results,
+        content: results.content.map(result => ({
+          id: result.id,
+          name: result.label,
+          albumCount: result.albumCount ?? 0,
+        })),
+      });
     } catch (error: any) {
       artistStore.setError(error.message);
       throw error;
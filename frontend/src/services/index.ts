@@ -2,3 +2,4 @@ export * from './HttpClient';
 export * from './AuthService';
 export * from './ArtistService';
 export * from './AlbumService';
+export * from './SearchService';